@@ -0,0 +1,93 @@
+-- Benchmark de latencia: credits_applications en una sola tabla frente a la tabla
+-- particionada por mes (V2__partition_credits_applications.sql), con 24 meses de datos.
+--
+-- Uso (contra el PostgreSQL de docker-compose; trabaja en el esquema bench y no toca
+-- las tablas de la aplicación):
+--
+--   psql -h localhost -U postgres -d bcredits -f benchmarks/partition-latency.sql
+--
+-- Comparar "Execution Time" y "Buffers" de cada par de EXPLAIN. En la tabla particionada
+-- las consultas por created_at solo recorren las particiones del mes caliente; la búsqueda
+-- por id sin created_at consulta el índice de cada partición.
+
+\timing on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+CREATE TABLE bench.single (
+    id            bigint        NOT NULL PRIMARY KEY,
+    customer_name varchar(100)  NOT NULL,
+    amount        numeric(15,2) NOT NULL,
+    type          varchar(20)   NOT NULL,
+    status        varchar(20)   NOT NULL,
+    created_at    timestamp(6)  NOT NULL,
+    version       bigint
+);
+
+CREATE TABLE bench.partitioned (LIKE bench.single INCLUDING DEFAULTS, PRIMARY KEY (id, created_at))
+    PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month date := date_trunc('month', now() - interval '24 months');
+BEGIN
+    WHILE month <= date_trunc('month', now()) LOOP
+        EXECUTE format('CREATE TABLE bench.partitioned_%s PARTITION OF bench.partitioned FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYY_MM'), month, month + interval '1 month');
+        month := month + interval '1 month';
+    END LOOP;
+END $$;
+
+-- ~50.000 filas por mes; los ids crecen con created_at, como con la secuencia real
+INSERT INTO bench.single
+SELECT g,
+       'Customer ' || lpad(g::text, 7, '0'),
+       round((100 + random() * 99900)::numeric, 2),
+       CASE WHEN random() < 0.7 THEN 'PERSONAL' ELSE 'BUSINESS' END,
+       CASE WHEN g > 1200000 - 20000 AND random() < 0.3 THEN 'PENDING' WHEN random() < 0.8 THEN 'APPROVED' ELSE 'REJECTED' END,
+       now() - interval '24 months' + (g * (interval '24 months' / 1200000)),
+       0
+FROM generate_series(1, 1200000) AS g;
+
+INSERT INTO bench.partitioned SELECT * FROM bench.single;
+
+-- Mismos índices que V2 en las dos tablas
+CREATE INDEX ON bench.single (status, created_at);
+CREATE INDEX ON bench.single (created_at);
+CREATE INDEX ON bench.partitioned (status, created_at);
+CREATE INDEX ON bench.partitioned (created_at);
+
+VACUUM ANALYZE bench.single;
+VACUUM ANALYZE bench.partitioned;
+
+-- ---------- Mes caliente: pendientes de los últimos 30 días (GET /api/credits/search) ----------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench.single
+WHERE status = 'PENDING' AND created_at >= now() - interval '30 days' AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench.partitioned
+WHERE status = 'PENDING' AND created_at >= now() - interval '30 days' AND id > 0
+ORDER BY id LIMIT 21;
+
+-- ---------- Mes caliente: agregado por estado ----------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT status, count(*), sum(amount) FROM bench.single
+WHERE created_at >= date_trunc('month', now())
+GROUP BY status;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT status, count(*), sum(amount) FROM bench.partitioned
+WHERE created_at >= date_trunc('month', now())
+GROUP BY status;
+
+-- ---------- findById (sin created_at: una sonda por partición) ----------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench.single WHERE id = 1190000;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench.partitioned WHERE id = 1190000;
+
+DROP SCHEMA bench CASCADE;
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Compara la pila servlet (Tomcat + JPA) con el perfil reactive (Netty + R2DBC) usando
+# CreditApiLoadGenerator con muchos clientes lentos: cada POST envía la mitad del cuerpo, espera
+# SLOW_MS y envía el resto. En Tomcat cada espera retiene un hilo; en Netty no retiene nada.
+#
+# Requiere el PostgreSQL de docker-compose en localhost:5432:
+#   docker-compose up -d postgres
+#   ./benchmarks/reactive.sh [concurrencia] [segundos] [slow_ms]
+#
+# Imprime una línea CSV por modo (ver CreditApiLoadGenerator) seguida de los hilos vivos y la RSS
+# del proceso al terminar la carga. El load shedding se desactiva para medir solo la pila.
+set -euo pipefail
+
+CONCURRENCY="${1:-2000}"
+SECONDS_PER_RUN="${2:-30}"
+SLOW_MS="${3:-2000}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+cd "$ROOT"
+./mvnw -q -DskipTests package test-compile
+JAR="$(ls target/credits-core-*.jar | head -n 1)"
+
+run_mode() {
+  local mode="$1" profiles="$2"
+  SPRING_PROFILES_ACTIVE="$profiles" LOAD_SHEDDING_ENABLED=false PORT="$PORT" \
+    java -jar "$JAR" > "target/load-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  until curl -sf "http://localhost:$PORT/api/credits?size=1" > /dev/null; do sleep 1; done
+
+  # Calentamiento corto para JIT y pools de conexiones
+  java -cp target/test-classes com.bcredits.core.benchmark.CreditApiLoadGenerator \
+    "http://localhost:$PORT" "$mode-warmup" 50 5 > /dev/null
+  java -cp target/test-classes com.bcredits.core.benchmark.CreditApiLoadGenerator \
+    "http://localhost:$PORT" "$mode" "$CONCURRENCY" "$SECONDS_PER_RUN" "$SLOW_MS"
+  echo "# $mode threads=$(curl -s "http://localhost:$PORT/actuator/metrics/jvm.threads.live" \
+    | sed -E 's/.*"value":([0-9.]+).*/\1/') rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')"
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+}
+
+echo "mode,concurrency,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms"
+run_mode servlet prod
+run_mode reactive prod,reactive
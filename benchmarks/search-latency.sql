@@ -0,0 +1,86 @@
+-- Benchmark de latencia de búsqueda sobre credits_applications con 1M+ filas.
+--
+-- Uso (contra el PostgreSQL de docker-compose, con la aplicación arrancada al menos
+-- una vez para que Hibernate cree la tabla y los índices):
+--
+--   psql -h localhost -U postgres -d bcredits -f benchmarks/search-latency.sql
+--
+-- Cada consulta reproduce el SQL que genera GET /api/credits/search y se ejecuta
+-- primero sin los índices y luego con ellos. Comparar "Execution Time" y el tipo
+-- de nodo (Seq Scan vs Index Scan / Bitmap Index Scan) en la salida de EXPLAIN.
+
+\timing on
+
+BEGIN;
+
+TRUNCATE credits_applications;
+
+INSERT INTO credits_applications (customer_name, amount, type, status, created_at)
+SELECT 'Customer ' || lpad(g::text, 7, '0'),
+       round((100 + random() * 99900)::numeric, 2),
+       CASE WHEN random() < 0.7 THEN 'PERSONAL' ELSE 'BUSINESS' END,
+       CASE WHEN random() < 0.05 THEN 'PENDING' WHEN random() < 0.8 THEN 'APPROVED' ELSE 'REJECTED' END,
+       now() - (random() * interval '730 days')
+FROM generate_series(1, 1200000) AS g;
+
+ANALYZE credits_applications;
+
+COMMIT;
+
+-- ---------- Sin índices ----------
+DROP INDEX IF EXISTS idx_credits_status_created_at, idx_credits_type_created_at,
+    idx_credits_status_type_amount, idx_credits_created_at, idx_credits_customer_name,
+    idx_credits_status_id, idx_credits_type_id;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'PENDING' AND created_at >= now() - interval '30 days' AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'PENDING' AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'REJECTED' AND type = 'BUSINESS' AND amount BETWEEN 50000 AND 60000 AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE customer_name LIKE 'Customer 00012%' AND id > 0
+ORDER BY id LIMIT 21;
+
+-- ---------- Con índices (mismas definiciones que @Table(indexes = ...)) ----------
+CREATE INDEX idx_credits_status_created_at ON credits_applications (status, created_at);
+CREATE INDEX idx_credits_type_created_at ON credits_applications (type, created_at);
+CREATE INDEX idx_credits_status_type_amount ON credits_applications (status, type, amount);
+CREATE INDEX idx_credits_created_at ON credits_applications (created_at);
+-- Página filtrada por estado o tipo en orden de id: recorrido ordenado desde el cursor
+CREATE INDEX idx_credits_status_id ON credits_applications (status, id);
+CREATE INDEX idx_credits_type_id ON credits_applications (type, id);
+-- text_pattern_ops permite usar el índice con LIKE 'prefijo%' bajo colaciones no-C
+CREATE INDEX idx_credits_customer_name ON credits_applications (customer_name text_pattern_ops);
+
+ANALYZE credits_applications;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'PENDING' AND created_at >= now() - interval '30 days' AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'PENDING' AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE status = 'REJECTED' AND type = 'BUSINESS' AND amount BETWEEN 50000 AND 60000 AND id > 0
+ORDER BY id LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM credits_applications
+WHERE customer_name LIKE 'Customer 00012%' AND id > 0
+ORDER BY id LIMIT 21;
@@ -0,0 +1,46 @@
+#!/usr/bin/env bash
+# Mide el tiempo hasta la primera respuesta y la memoria residente (RSS) de cada modo de arranque:
+#   jar      java -jar del fat jar
+#   aot-cds  jar extraído con Spring AOT y archivo CDS (./mvnw -Paot -DskipTests package)
+#   native   ejecutable GraalVM, solo si existe target/credits-core (./mvnw -Pnative -DskipTests native:compile)
+#
+# Requiere el PostgreSQL de docker-compose en localhost:5432:
+#   docker-compose up -d postgres
+#   ./benchmarks/startup.sh [repeticiones]
+#
+# Imprime una línea CSV por ejecución; la RSS se toma justo después de la primera respuesta.
+set -euo pipefail
+
+RUNS="${1:-3}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+cd "$ROOT"
+./mvnw -q -Paot -DskipTests package
+JAR="$(ls target/credits-core-*.jar | head -n 1)"
+APP_JAR="target/app/$(basename "$JAR")"
+
+run_mode() {
+  local mode="$1"; shift
+  local start pid elapsed rss
+  start=$(date +%s%N)
+  SPRING_PROFILES_ACTIVE=prod PORT="$PORT" "$@" > "target/startup-$mode.log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/api/credits?size=1" > /dev/null; do
+    kill -0 "$pid" 2>/dev/null || { echo "$mode failed, see target/startup-$mode.log" >&2; return 1; }
+    sleep 0.02
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  rss=$(awk '/VmRSS/ { print int($2 / 1024) }' "/proc/$pid/status")
+  echo "$mode,$elapsed,$rss"
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+}
+
+echo "mode,time_to_first_request_ms,rss_mb"
+for _ in $(seq "$RUNS"); do
+  run_mode jar java -jar "$JAR"
+  run_mode aot-cds java -XX:SharedArchiveFile=target/app/application.jsa -Dspring.aot.enabled=true -jar "$APP_JAR"
+  if [ -x target/credits-core ]; then
+    run_mode native target/credits-core
+  fi
+done
@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Compara hilos de plataforma vs hilos virtuales con CreditApiLoadGenerator.
+#
+# Requiere el PostgreSQL de docker-compose en localhost:5432:
+#   docker-compose up -d postgres
+#   ./benchmarks/virtual-threads.sh [concurrencia] [segundos]
+#
+# Imprime una línea CSV por modo (ver CreditApiLoadGenerator).
+set -euo pipefail
+
+CONCURRENCY="${1:-400}"
+SECONDS_PER_RUN="${2:-30}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+cd "$ROOT"
+./mvnw -q -DskipTests package test-compile
+JAR="$(ls target/credits-core-*.jar | head -n 1)"
+
+run_mode() {
+  local mode="$1" profile="$2"
+  SPRING_PROFILES_ACTIVE="$profile" LOG_LEVEL=WARN SQL_LOG=WARN SHOW_SQL=false PORT="$PORT" \
+    java -jar "$JAR" > "target/load-$mode.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  until curl -sf "http://localhost:$PORT/api/runtime" > /dev/null; do sleep 1; done
+
+  # Calentamiento corto para JIT y pool de conexiones
+  java -cp target/test-classes com.bcredits.core.benchmark.CreditApiLoadGenerator \
+    "http://localhost:$PORT" "$mode-warmup" 50 5 > /dev/null
+  java -cp target/test-classes com.bcredits.core.benchmark.CreditApiLoadGenerator \
+    "http://localhost:$PORT" "$mode" "$CONCURRENCY" "$SECONDS_PER_RUN"
+  curl -s "http://localhost:$PORT/api/runtime"; echo
+
+  kill "$pid"; wait "$pid" 2>/dev/null || true
+}
+
+echo "mode,concurrency,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms"
+run_mode platform default
+run_mode virtual virtual-threads
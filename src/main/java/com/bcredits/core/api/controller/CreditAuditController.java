@@ -0,0 +1,33 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.CreditAuditEntryDTO;
+import com.bcredits.core.api.dto.CreditAuditVerificationDTO;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/credits")
+public class CreditAuditController {
+
+    private final CreditAuditTrail auditTrail;
+
+    public CreditAuditController(CreditAuditTrail auditTrail) {
+        this.auditTrail = auditTrail;
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<CreditAuditEntryDTO>> history(@PathVariable Long id) {
+        return ResponseEntity.ok(auditTrail.history(id));
+    }
+
+    @GetMapping("/audit/verify")
+    public ResponseEntity<CreditAuditVerificationDTO> verify() {
+        return ResponseEntity.ok(auditTrail.verify());
+    }
+}
@@ -1,46 +1,211 @@
 package com.bcredits.core.api.controller;
 
+import com.bcredits.core.api.dto.CacheStatsDTO;
+import com.bcredits.core.api.dto.CreditBatchResponseDTO;
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditPurgeResultDTO;
 import com.bcredits.core.api.dto.CreditRequestDTO;
 import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.CreditSearchCriteria;
+import com.bcredits.core.api.dto.CreditStatusDTO;
+import com.bcredits.core.api.dto.SecondLevelCacheStatsDTO;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
 import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.infrastructure.idempotency.CreditIdempotencyStore;
+import com.bcredits.core.infrastructure.idempotency.IdempotentResult;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @RestController
 @RequestMapping("/api/credits")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CreditController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+    
     private final CreditService service;
+    private final CreditIdempotencyStore idempotencyStore;
+    private final CreditChangeStream changeStream;
+    private final ObjectWriter ndjsonWriter;
+    private final String reviewRetryAfter;
+    private final Duration streamHeartbeat;
+    private final Duration streamTimeout;
+    // Un hilo virtual por suscriptor: SseEmitter.send bloquea mientras el cliente no lee
+    private final ExecutorService streamExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("credit-stream-", 0).factory());
     
  
-    public CreditController(CreditService service) {
+    public CreditController(CreditService service, CreditIdempotencyStore idempotencyStore,
+                            CreditChangeStream changeStream, ObjectMapper objectMapper,
+                            @Value("${credit.review.poll-interval:500ms}") Duration reviewPollInterval,
+                            @Value("${credit.stream.heartbeat:15s}") Duration streamHeartbeat,
+                            @Value("${credit.stream.timeout:30m}") Duration streamTimeout) {
         this.service = service;
+        this.idempotencyStore = idempotencyStore;
+        this.changeStream = changeStream;
+        this.streamHeartbeat = streamHeartbeat;
+        this.streamTimeout = streamTimeout;
+        this.reviewRetryAfter = String.valueOf(Math.max(1, reviewPollInterval.toSeconds()));
+        this.ndjsonWriter = objectMapper.writerFor(CreditResponseDTO.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
     }
     
     @PostMapping
-    public ResponseEntity<CreditResponseDTO> create(@RequestBody @Valid CreditRequestDTO dto) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(service.create(dto));
+    public ResponseEntity<CreditResponseDTO> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody @Valid CreditRequestDTO dto) {
+        if (idempotencyKey == null) {
+            return created(service.create(dto), false);
+        }
+        IdempotentResult result = idempotencyStore.execute(idempotencyKey, dto,
+                () -> service.create(dto, idempotencyKey));
+        return created(result.response(), result.replayed());
+    }
+    
+    @PostMapping("/batch")
+    public ResponseEntity<CreditBatchResponseDTO> createBatch(@RequestBody List<CreditRequestDTO> dtos) {
+        return ResponseEntity.ok(service.createBatch(dtos));
     }
     
     @GetMapping
-    public ResponseEntity<List<CreditResponseDTO>> findAll() {
-        return ResponseEntity.ok(service.findAll());
+    public ResponseEntity<CreditPageDTO> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.findAll(cursor, size));
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<CreditPageDTO> search(
+            CreditSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(service.search(criteria, cursor, size));
+    }
+    
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                service.streamAll(dto -> {
+                    try {
+                        writer.write(dto);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+    
+    /**
+     * Cambios confirmados como server-sent events, filtrables por estado y tipo. Al reconectar,
+     * {@code Last-Event-ID} (o {@code lastEventId}) reanuda desde el último evento recibido.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(name = "status", required = false) Set<CreditStatus> statuses,
+            @RequestParam(name = "type", required = false) Set<CreditType> types,
+            @RequestParam(required = false) String lastEventId,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventIdHeader) {
+        CreditChangeStream.Subscription subscription = changeStream.subscribe(statuses, types,
+                parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventId));
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(ex -> subscription.close());
+        streamExecutor.execute(() -> pump(subscription, emitter));
+        return emitter;
+    }
+    
+    @PreDestroy
+    void closeStreams() {
+        streamExecutor.shutdownNow();
+    }
+    
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsDTO> cacheStats() {
+        return ResponseEntity.ok(service.cacheStats());
+    }
+    
+    @GetMapping("/cache-stats/second-level")
+    public ResponseEntity<SecondLevelCacheStatsDTO> secondLevelCacheStats() {
+        return ResponseEntity.ok(service.secondLevelCacheStats());
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<CreditResponseDTO> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(service.findById(id));
+    public ResponseEntity<CreditResponseDTO> findById(@PathVariable Long id, WebRequest request) {
+        CreditResponseDTO dto = service.findById(id);
+        String etag = etag(dto);
+        if (etag != null && request.checkNotModified(etag)) {
+            // 304 sin cuerpo; checkNotModified ya fijó el estado y el ETag
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(dto);
+    }
+    
+    @GetMapping("/{id}/status")
+    public ResponseEntity<CreditStatusDTO> status(@PathVariable Long id, WebRequest request) {
+        // Sirve desde la caché de findById, que la revisión invalida al resolver la solicitud
+        CreditResponseDTO dto = service.findById(id);
+        String etag = etag(dto);
+        if (etag != null && request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (dto.status() == CreditStatus.PENDING) {
+            response.header(HttpHeaders.RETRY_AFTER, reviewRetryAfter);
+        }
+        return response.body(new CreditStatusDTO(dto.id(), dto.status(), dto.version()));
     }
     
     @PutMapping("/{id}")
     public ResponseEntity<CreditResponseDTO> update(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid CreditRequestDTO dto) {
-        return ResponseEntity.ok(service.update(id, dto));
+        CreditResponseDTO updated = service.update(id, dto, parseVersions(ifMatch));
+        return ResponseEntity.ok().eTag(etag(updated)).body(updated);
     }
     
     @DeleteMapping("/{id}")
@@ -48,4 +213,114 @@ public class CreditController {
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+    
+    @DeleteMapping("/rejected")
+    public ResponseEntity<CreditPurgeResultDTO> purgeRejected(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore) {
+        return ResponseEntity.ok(service.purgeRejected(createdBefore));
+    }
+    
+    private ResponseEntity<CreditResponseDTO> created(CreditResponseDTO created, boolean replayed) {
+        ResponseEntity.BodyBuilder response;
+        if (created.status() == CreditStatus.PENDING) {
+            // 202: la decisión llega de forma asíncrona; el cliente sondea el recurso de estado
+            response = ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                            .path("/{id}/status").buildAndExpand(created.id()).toUri())
+                    .header(HttpHeaders.RETRY_AFTER, reviewRetryAfter);
+        } else {
+            response = ResponseEntity.status(HttpStatus.CREATED);
+        }
+        if (replayed) {
+            response.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return response.body(created);
+    }
+    
+    private void pump(CreditChangeStream.Subscription subscription, SseEmitter emitter) {
+        try (subscription) {
+            while (!subscription.isDone()) {
+                CreditChange change = subscription.poll(streamHeartbeat);
+                if (change != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(change.id()))
+                            .name(change.event())
+                            .data(change.credit() == null ? "{}" : ndjsonWriter.writeValueAsString(change.credit()),
+                                    MediaType.APPLICATION_JSON));
+                } else if (!subscription.isDone()) {
+                    // Mantiene viva la conexión a través de proxies y detecta clientes desconectados
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+            // Desconectado por llenar su buffer: el cliente reanuda con Last-Event-ID
+            emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            // El cliente se fue o el emitter ya terminó (timeout)
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        }
+    }
+    
+    static String etag(CreditResponseDTO dto) {
+        return dto.version() == null ? null : "\"" + dto.version() + "\"";
+    }
+    
+    /**
+     * Versiones que admite {@code If-Match}, con comparación fuerte: null si no hay condición
+     * (ausente o {@code *}). Una etiqueta débil ({@code W/"3"}) o ajena no coincide con ninguna
+     * versión; si no queda ninguna la lista está vacía y la actualización responde 412.
+     */
+    static List<Long> parseVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+        
+        List<Long> versions = new ArrayList<>();
+        int i = 0;
+        int length = ifMatch.length();
+        while (i < length) {
+            char c = ifMatch.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            boolean weak = ifMatch.startsWith("W/", i);
+            if (weak) i += 2;
+            String tag;
+            if (i < length && ifMatch.charAt(i) == '"') {
+                int end = ifMatch.indexOf('"', i + 1);
+                if (end < 0) throw new InvalidRequestParameterException("Invalid If-Match header: " + ifMatch);
+                tag = ifMatch.substring(i + 1, end);
+                i = end + 1;
+            } else {
+                // Sin comillas no es una etiqueta válida, pero se acepta el número de versión tal cual
+                int end = ifMatch.indexOf(',', i);
+                end = end < 0 ? length : end;
+                tag = ifMatch.substring(i, end).trim();
+                i = end;
+                if (weak || tag.isEmpty() || tag.contains("\"")) {
+                    throw new InvalidRequestParameterException("Invalid If-Match header: " + ifMatch);
+                }
+            }
+            Long version = weak ? null : parseVersionTag(tag);
+            if (version != null) versions.add(version);
+        }
+        return versions;
+    }
+    
+    private static Long parseVersionTag(String tag) {
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+    
+    static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            throw new InvalidRequestParameterException("Invalid Last-Event-ID: " + lastEventId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.CreditImportJobDTO;
+import com.bcredits.core.api.dto.CreditImportRequestDTO;
+import com.bcredits.core.infrastructure.importer.CreditImporter;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/credit-imports")
+public class CreditImportController {
+
+    private final CreditImporter importer;
+
+    public CreditImportController(CreditImporter importer) {
+        this.importer = importer;
+    }
+
+    @PostMapping
+    public ResponseEntity<CreditImportJobDTO> start(@RequestBody @Valid CreditImportRequestDTO dto) {
+        CreditImportJobDTO job = importer.start(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/credit-imports/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<CreditImportJobDTO> find(@PathVariable Long id) {
+        return ResponseEntity.ok(importer.find(id));
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<CreditImportJobDTO> resume(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(importer.resume(id));
+    }
+}
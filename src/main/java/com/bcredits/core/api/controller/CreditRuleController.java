@@ -0,0 +1,59 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.CreditRuleSetDTO;
+import com.bcredits.core.domain.exception.RuleUpdateDeniedException;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.infrastructure.rules.CreditRuleSync;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+@RestController
+@RequestMapping("/api/credit-rules")
+public class CreditRuleController {
+
+    static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final CreditRuleEngine ruleEngine;
+    private final CreditRuleSync ruleSync;
+    private final byte[] adminToken;
+
+    public CreditRuleController(CreditRuleEngine ruleEngine,
+                                CreditRuleSync ruleSync,
+                                @Value("${credit.rules.admin-token:}") String adminToken) {
+        this.ruleEngine = ruleEngine;
+        this.ruleSync = ruleSync;
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping
+    public ResponseEntity<CreditRuleSetDTO> current() {
+        return ResponseEntity.ok(new CreditRuleSetDTO(ruleEngine.defaultOutcome(), ruleEngine.definitions()));
+    }
+
+    /**
+     * Publica el conjunto para todas las instancias. Requiere {@code X-Admin-Token} igual a
+     * {@code credit.rules.admin-token}; sin token configurado las reglas solo cambian por configuración.
+     */
+    @PutMapping
+    public ResponseEntity<CreditRuleSetDTO> reload(@RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+                                                   @RequestBody @Valid CreditRuleSetDTO dto) {
+        authorize(token);
+        ruleSync.publish(dto.rules(), dto.defaultOutcome());
+        return current();
+    }
+
+    private void authorize(String token) {
+        if (adminToken.length == 0) {
+            throw new RuleUpdateDeniedException("Rule updates are disabled: set credit.rules.admin-token to enable them");
+        }
+        // Comparación en tiempo constante: no revela cuántos caracteres coinciden
+        if (token == null || !MessageDigest.isEqual(adminToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new RuleUpdateDeniedException("A valid " + ADMIN_TOKEN_HEADER + " header is required to update rules");
+        }
+    }
+}
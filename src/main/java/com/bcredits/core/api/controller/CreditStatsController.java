@@ -0,0 +1,24 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.CreditStatsDTO;
+import com.bcredits.core.domain.service.CreditStatsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/credits/stats")
+public class CreditStatsController {
+
+    private final CreditStatsService statsService;
+
+    public CreditStatsController(CreditStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CreditStatsDTO> stats() {
+        return ResponseEntity.ok(statsService.current());
+    }
+}
@@ -0,0 +1,235 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.CacheStatsDTO;
+import com.bcredits.core.api.dto.CreditBatchResponseDTO;
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditPurgeResultDTO;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.CreditSearchCriteria;
+import com.bcredits.core.api.dto.CreditStatusDTO;
+import com.bcredits.core.api.dto.SecondLevelCacheStatsDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.domain.service.ReactiveCreditService;
+import com.bcredits.core.infrastructure.idempotency.CreditIdempotencyStore;
+import com.bcredits.core.infrastructure.idempotency.IdempotentResult;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * {@link CreditController} para el perfil reactive, con las mismas rutas, DTOs y códigos de estado.
+ * Alta, consulta, listado, exportación, modificación y borrado van por {@link ReactiveCreditService};
+ * las altas con {@code Idempotency-Key}, los lotes, la búsqueda y la purga delegan en
+ * {@link CreditService} (JPA) fuera del event loop.
+ */
+@RestController
+@RequestMapping("/api/credits")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCreditController {
+    
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+    
+    private final ReactiveCreditService service;
+    private final CreditService blockingService;
+    private final CreditIdempotencyStore idempotencyStore;
+    private final CreditChangeStream changeStream;
+    private final String reviewRetryAfter;
+    private final Duration streamHeartbeat;
+    private final Duration streamTimeout;
+    
+    public ReactiveCreditController(ReactiveCreditService service, CreditService blockingService,
+                                    CreditIdempotencyStore idempotencyStore, CreditChangeStream changeStream,
+                                    @Value("${credit.review.poll-interval:500ms}") Duration reviewPollInterval,
+                                    @Value("${credit.stream.heartbeat:15s}") Duration streamHeartbeat,
+                                    @Value("${credit.stream.timeout:30m}") Duration streamTimeout) {
+        this.service = service;
+        this.blockingService = blockingService;
+        this.idempotencyStore = idempotencyStore;
+        this.changeStream = changeStream;
+        this.streamHeartbeat = streamHeartbeat;
+        this.streamTimeout = streamTimeout;
+        this.reviewRetryAfter = String.valueOf(Math.max(1, reviewPollInterval.toSeconds()));
+    }
+    
+    @PostMapping
+    public Mono<ResponseEntity<CreditResponseDTO>> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody @Valid CreditRequestDTO dto,
+            ServerHttpRequest request) {
+        if (idempotencyKey == null) {
+            return service.create(dto).map(created -> created(request, created, false));
+        }
+        return blocking(() -> idempotencyStore.execute(idempotencyKey, dto,
+                        () -> blockingService.create(dto, idempotencyKey)))
+                .map((IdempotentResult result) -> created(request, result.response(), result.replayed()));
+    }
+    
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<CreditBatchResponseDTO>> createBatch(@RequestBody List<CreditRequestDTO> dtos) {
+        return blocking(() -> blockingService.createBatch(dtos)).map(ResponseEntity::ok);
+    }
+    
+    @GetMapping
+    public Mono<ResponseEntity<CreditPageDTO>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return service.findAll(cursor, size).map(ResponseEntity::ok);
+    }
+    
+    @GetMapping("/search")
+    public Mono<ResponseEntity<CreditPageDTO>> search(
+            CreditSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return blocking(() -> blockingService.search(criteria, cursor, size)).map(ResponseEntity::ok);
+    }
+    
+    // Cada elemento se escribe según lo pide la conexión: un cliente lento frena la consulta
+    @GetMapping(value = "/export", produces = NDJSON)
+    public Flux<CreditResponseDTO> export() {
+        return service.streamAll();
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> stream(
+            @RequestParam(name = "status", required = false) Set<CreditStatus> statuses,
+            @RequestParam(name = "type", required = false) Set<CreditType> types,
+            @RequestParam(required = false) String lastEventId,
+            @RequestHeader(value = CreditController.LAST_EVENT_ID, required = false) String lastEventIdHeader) {
+        Long resumeFrom = CreditController.parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        Sinks.Empty<Void> done = Sinks.empty();
+        Flux<ServerSentEvent<Object>> changes = Flux.<CreditChange>create(sink ->
+                        subscribe(sink, changeStream.subscribe(statuses, types, resumeFrom)))
+                .doFinally(signal -> done.tryEmitEmpty())
+                .map(change -> ServerSentEvent.builder()
+                        .id(Long.toString(change.id()))
+                        .event(change.event())
+                        .data(change.credit() == null ? Map.of() : change.credit())
+                        .build());
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(streamHeartbeat)
+                .map(tick -> ServerSentEvent.builder().comment("heartbeat").build())
+                .takeUntilOther(done.asMono());
+        return Flux.merge(changes, heartbeats).take(streamTimeout);
+    }
+    
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsDTO> cacheStats() {
+        return ResponseEntity.ok(blockingService.cacheStats());
+    }
+    
+    @GetMapping("/cache-stats/second-level")
+    public ResponseEntity<SecondLevelCacheStatsDTO> secondLevelCacheStats() {
+        return ResponseEntity.ok(blockingService.secondLevelCacheStats());
+    }
+    
+    // If-None-Match lo resuelve ResponseEntityResultHandler a partir del ETag de la respuesta
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CreditResponseDTO>> findById(@PathVariable Long id) {
+        return service.findById(id).map(dto -> ResponseEntity.ok().eTag(CreditController.etag(dto)).body(dto));
+    }
+    
+    @GetMapping("/{id}/status")
+    public Mono<ResponseEntity<CreditStatusDTO>> status(@PathVariable Long id) {
+        return service.findById(id).map(dto -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(CreditController.etag(dto));
+            if (dto.status() == CreditStatus.PENDING) {
+                response.header(HttpHeaders.RETRY_AFTER, reviewRetryAfter);
+            }
+            return response.body(new CreditStatusDTO(dto.id(), dto.status(), dto.version()));
+        });
+    }
+    
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CreditResponseDTO>> update(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid CreditRequestDTO dto) {
+        return service.update(id, dto, CreditController.parseVersions(ifMatch))
+                .map(updated -> ResponseEntity.ok().eTag(CreditController.etag(updated)).body(updated));
+    }
+    
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return service.delete(id).thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+    
+    @DeleteMapping("/rejected")
+    public Mono<ResponseEntity<CreditPurgeResultDTO>> purgeRejected(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore) {
+        return blocking(() -> blockingService.purgeRejected(createdBefore)).map(ResponseEntity::ok);
+    }
+    
+    /**
+     * Entrega la cola del suscriptor según la demanda del cliente; un cliente lento deja de pedir,
+     * su cola se llena y el stream lo desconecta sin afectar a quien publica.
+     */
+    private static void subscribe(FluxSink<CreditChange> sink, CreditChangeStream.Subscription subscription) {
+        Runnable drain = () -> {
+            synchronized (subscription) {
+                while (sink.requestedFromDownstream() > 0) {
+                    CreditChange change = subscription.poll();
+                    if (change == null) break;
+                    sink.next(change);
+                }
+                if (subscription.isDone()) sink.complete();
+            }
+        };
+        // Quien publica solo programa la entrega; nunca escribe en la respuesta
+        subscription.onAvailable(() -> Schedulers.parallel().schedule(drain));
+        sink.onRequest(n -> drain.run());
+        sink.onDispose(subscription::close);
+        drain.run();
+    }
+    
+    private ResponseEntity<CreditResponseDTO> created(ServerHttpRequest request, CreditResponseDTO created,
+                                                      boolean replayed) {
+        ResponseEntity.BodyBuilder response;
+        if (created.status() == CreditStatus.PENDING) {
+            // 202: la decisión llega de forma asíncrona; el cliente sondea el recurso de estado
+            response = ResponseEntity.accepted()
+                    .location(UriComponentsBuilder.fromUri(request.getURI()).replaceQuery(null)
+                            .path("/{id}/status").buildAndExpand(created.id()).toUri())
+                    .header(HttpHeaders.RETRY_AFTER, reviewRetryAfter);
+        } else {
+            response = ResponseEntity.status(HttpStatus.CREATED);
+        }
+        if (replayed) {
+            response.header(IDEMPOTENT_REPLAYED, "true");
+        }
+        return response.body(created);
+    }
+    
+    // Operaciones JPA: bloquean, así que se ejecutan en boundedElastic y no en el event loop
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.api.dto.ConnectionPoolStatsDTO;
+import com.bcredits.core.api.dto.RuntimeStatsDTO;
+import com.bcredits.core.infrastructure.datasource.ConnectionWaitTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/runtime")
+public class RuntimeController {
+
+    private final ConnectionWaitTracker tracker;
+    private final boolean virtualThreads;
+
+    public RuntimeController(ConnectionWaitTracker tracker,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.tracker = tracker;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @GetMapping
+    public ResponseEntity<RuntimeStatsDTO> stats() {
+        return ResponseEntity.ok(new RuntimeStatsDTO(
+                virtualThreads,
+                tracker.activeConnections(),
+                tracker.idleConnections(),
+                tracker.pendingThreads(),
+                tracker.acquiredCount(),
+                tracker.averageAcquireMicros(),
+                tracker.maxAcquireMicros(),
+                tracker.timeoutCount(),
+                tracker.pools().stream()
+                        .map(pool -> new ConnectionPoolStatsDTO(
+                                pool.name(),
+                                pool.activeConnections(),
+                                pool.idleConnections(),
+                                pool.pendingThreads(),
+                                pool.acquiredCount(),
+                                pool.averageAcquireMicros(),
+                                pool.maxAcquireMicros(),
+                                pool.timeoutCount()))
+                        .toList()
+        ));
+    }
+}
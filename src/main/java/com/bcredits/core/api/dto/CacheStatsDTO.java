@@ -0,0 +1,9 @@
+package com.bcredits.core.api.dto;
+
+public record CacheStatsDTO(
+        long hits,
+        long misses,
+        long evictions,
+        long size,
+        double hitRate
+) {}
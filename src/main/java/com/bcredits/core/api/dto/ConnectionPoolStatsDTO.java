@@ -0,0 +1,12 @@
+package com.bcredits.core.api.dto;
+
+public record ConnectionPoolStatsDTO(
+        String name,
+        int activeConnections,
+        int idleConnections,
+        int threadsAwaitingConnection,
+        long connectionsAcquired,
+        long avgConnectionWaitMicros,
+        long maxConnectionWaitMicros,
+        long connectionTimeouts
+) {}
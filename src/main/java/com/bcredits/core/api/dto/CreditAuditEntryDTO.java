@@ -0,0 +1,16 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditAuditAction;
+
+import java.time.LocalDateTime;
+
+public record CreditAuditEntryDTO(
+        long seq,
+        CreditAuditAction action,
+        CreditAuditStateDTO before,
+        CreditAuditStateDTO after,
+        LocalDateTime occurredAt,
+        String prevHash,
+        String hash,
+        boolean hashValid
+) {}
@@ -0,0 +1,14 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+
+public record CreditAuditStateDTO(
+        String customerName,
+        BigDecimal amount,
+        CreditType type,
+        CreditStatus status,
+        Long version
+) {}
@@ -0,0 +1,8 @@
+package com.bcredits.core.api.dto;
+
+public record CreditAuditVerificationDTO(
+        boolean valid,
+        long checked,
+        Long brokenAtSeq,
+        String reason
+) {}
@@ -0,0 +1,19 @@
+package com.bcredits.core.api.dto;
+
+import java.util.Map;
+
+public record CreditBatchItemResultDTO(
+        int index,
+        boolean created,
+        CreditResponseDTO credit,
+        Map<String, String> errors
+) {
+
+    public static CreditBatchItemResultDTO created(int index, CreditResponseDTO credit) {
+        return new CreditBatchItemResultDTO(index, true, credit, null);
+    }
+
+    public static CreditBatchItemResultDTO rejected(int index, Map<String, String> errors) {
+        return new CreditBatchItemResultDTO(index, false, null, errors);
+    }
+}
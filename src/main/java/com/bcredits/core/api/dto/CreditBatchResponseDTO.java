@@ -0,0 +1,10 @@
+package com.bcredits.core.api.dto;
+
+import java.util.List;
+
+public record CreditBatchResponseDTO(
+        int received,
+        int created,
+        int failed,
+        List<CreditBatchItemResultDTO> items
+) {}
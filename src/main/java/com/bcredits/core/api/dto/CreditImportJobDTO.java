@@ -0,0 +1,21 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditImportFormat;
+import com.bcredits.core.domain.model.CreditImportStatus;
+
+import java.time.LocalDateTime;
+
+public record CreditImportJobDTO(
+        Long id,
+        String file,
+        CreditImportFormat format,
+        CreditImportStatus status,
+        long linesProcessed,
+        long imported,
+        long rejected,
+        String rejectFile,
+        String error,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt
+) {}
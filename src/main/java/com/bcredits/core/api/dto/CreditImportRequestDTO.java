@@ -0,0 +1,15 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditImportFormat;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * @param file   ruta relativa al directorio de importación ({@code credit.import.directory})
+ * @param format opcional; por defecto se deduce de la extensión (.csv, .ndjson, .jsonl)
+ */
+public record CreditImportRequestDTO(
+        @NotBlank(message = "El fichero es obligatorio")
+        String file,
+
+        CreditImportFormat format
+) {}
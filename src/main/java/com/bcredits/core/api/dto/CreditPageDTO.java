@@ -0,0 +1,9 @@
+package com.bcredits.core.api.dto;
+
+import java.util.List;
+
+public record CreditPageDTO(
+        List<CreditResponseDTO> content,
+        int size,
+        String nextCursor
+) {}
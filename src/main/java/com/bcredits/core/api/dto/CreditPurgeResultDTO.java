@@ -0,0 +1,5 @@
+package com.bcredits.core.api.dto;
+
+public record CreditPurgeResultDTO(
+        long deleted
+) {}
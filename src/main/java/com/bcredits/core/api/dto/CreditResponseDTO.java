@@ -12,5 +12,6 @@ public record CreditResponseDTO(
         BigDecimal amount,
         CreditType type,  
         CreditStatus status,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        Long version
 ) {}
\ No newline at end of file
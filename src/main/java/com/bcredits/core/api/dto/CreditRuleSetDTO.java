@@ -0,0 +1,16 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.rules.CreditRuleDefinition;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record CreditRuleSetDTO(
+        @NotNull(message = "El resultado por defecto es obligatorio")
+        CreditStatus defaultOutcome,
+
+        @NotNull(message = "La lista de reglas es obligatoria")
+        List<@NotNull(message = "Una regla no puede ser nula") @Valid CreditRuleDefinition> rules
+) {}
@@ -0,0 +1,18 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CreditSearchCriteria(
+        CreditStatus status,
+        CreditType type,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+        String customerNamePrefix
+) {}
@@ -0,0 +1,13 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+
+public record CreditStatsCellDTO(
+        CreditType type,
+        CreditStatus status,
+        long count,
+        BigDecimal totalAmount
+) {}
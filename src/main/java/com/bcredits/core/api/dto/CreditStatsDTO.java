@@ -0,0 +1,11 @@
+package com.bcredits.core.api.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record CreditStatsDTO(
+        long totalCount,
+        BigDecimal totalAmount,
+        double approvalRate,
+        List<CreditStatsCellDTO> breakdown
+) {}
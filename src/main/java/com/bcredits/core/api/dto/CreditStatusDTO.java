@@ -0,0 +1,9 @@
+package com.bcredits.core.api.dto;
+
+import com.bcredits.core.domain.model.CreditStatus;
+
+public record CreditStatusDTO(
+        Long id,
+        CreditStatus status,
+        Long version
+) {}
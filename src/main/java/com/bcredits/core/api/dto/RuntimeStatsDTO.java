@@ -0,0 +1,15 @@
+package com.bcredits.core.api.dto;
+
+import java.util.List;
+
+public record RuntimeStatsDTO(
+        boolean virtualThreads,
+        int activeConnections,
+        int idleConnections,
+        int threadsAwaitingConnection,
+        long connectionsAcquired,
+        long avgConnectionWaitMicros,
+        long maxConnectionWaitMicros,
+        long connectionTimeouts,
+        List<ConnectionPoolStatsDTO> pools
+) {}
@@ -0,0 +1,17 @@
+package com.bcredits.core.api.dto;
+
+public record SecondLevelCacheStatsDTO(
+        boolean enabled,
+        boolean statisticsEnabled,  // Con hibernate.generate_statistics desactivado los contadores quedan a cero
+        long entityHits,
+        long entityMisses,
+        long entityPuts,
+        double entityHitRate,
+        long queryHits,
+        long queryMisses,
+        long queryPuts,
+        double queryHitRate
+) {
+    public static final SecondLevelCacheStatsDTO DISABLED =
+            new SecondLevelCacheStatsDTO(false, false, 0, 0, 0, 0, 0, 0, 0, 0);
+}
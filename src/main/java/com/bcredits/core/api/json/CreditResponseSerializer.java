@@ -0,0 +1,80 @@
+package com.bcredits.core.api.json;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Serializador directo de {@link CreditResponseDTO}: nombres de campo y valores de enum ya
+ * codificados, sin introspección del record por cada elemento. La salida es idéntica a la de
+ * Jackson con la configuración de application.yml (fechas ISO sin zona, nulos omitidos) y funciona
+ * igual con los generadores JSON, Smile y CBOR.
+ */
+@JsonComponent
+public class CreditResponseSerializer extends StdSerializer<CreditResponseDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CUSTOMER_NAME = new SerializedString("customerName");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final SerializedString[] TYPES = names(CreditType.values());
+    private static final SerializedString[] STATUSES = names(CreditStatus.values());
+
+    public CreditResponseSerializer() {
+        super(CreditResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(CreditResponseDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(dto);
+        if (dto.id() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(dto.id());
+        }
+        if (dto.customerName() != null) {
+            gen.writeFieldName(CUSTOMER_NAME);
+            gen.writeString(dto.customerName());
+        }
+        if (dto.amount() != null) {
+            gen.writeFieldName(AMOUNT);
+            gen.writeNumber(dto.amount());
+        }
+        if (dto.type() != null) {
+            gen.writeFieldName(TYPE);
+            gen.writeString(TYPES[dto.type().ordinal()]);
+        }
+        if (dto.status() != null) {
+            gen.writeFieldName(STATUS);
+            gen.writeString(STATUSES[dto.status().ordinal()]);
+        }
+        if (dto.createdAt() != null) {
+            gen.writeFieldName(CREATED_AT);
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dto.createdAt()));
+        }
+        if (dto.version() != null) {
+            gen.writeFieldName(VERSION);
+            gen.writeNumber(dto.version());
+        }
+        gen.writeEndObject();
+    }
+
+    private static SerializedString[] names(Enum<?>[] values) {
+        SerializedString[] names = new SerializedString[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = new SerializedString(value.name());
+        }
+        return names;
+    }
+}
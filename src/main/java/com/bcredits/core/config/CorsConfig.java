@@ -1,9 +1,13 @@
 package com.bcredits.core.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
@@ -12,16 +16,33 @@ import java.util.Arrays;
 public class CorsConfig {
     
     @Bean
-    public CorsFilter corsFilter() {
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", apiCorsConfiguration());
+        // Primero, para que los 429/503 de LoadSheddingFilter lleven cabeceras CORS
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+    
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public CorsWebFilter corsWebFilter() {
+        org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource source =
+                new org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/api/**", apiCorsConfiguration());
+        return new CorsWebFilter(source);
+    }
+    
+    private static CorsConfiguration apiCorsConfiguration() {
         CorsConfiguration config = new CorsConfiguration();
         
         config.setAllowCredentials(true);
         config.setAllowedOrigins(Arrays.asList("http://localhost:4200"));
         config.setAllowedHeaders(Arrays.asList("*"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        
-        source.registerCorsConfiguration("/api/**", config);
-        return new CorsFilter(source);
+        config.setExposedHeaders(Arrays.asList("ETag", "Location", "Retry-After", "Idempotent-Replayed"));
+        return config;
     }
-}
\ No newline at end of file
+}
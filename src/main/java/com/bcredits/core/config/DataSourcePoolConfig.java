@@ -0,0 +1,33 @@
+package com.bcredits.core.config;
+
+import com.bcredits.core.infrastructure.datasource.ConnectionWaitTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourcePoolConfig {
+
+    @Bean
+    public ConnectionWaitTracker connectionWaitTracker(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionWaitTracker(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor hikariWaitTrackerPostProcessor(
+            ObjectProvider<ConnectionWaitTracker> tracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // El pool se inicia en la primera conexión, así que aún admite un MetricsTrackerFactory
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(tracker.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
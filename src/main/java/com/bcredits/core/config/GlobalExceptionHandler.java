@@ -1,12 +1,22 @@
 package com.bcredits.core.config;
 
+import com.bcredits.core.domain.exception.CreditVersionMismatchException;
+import com.bcredits.core.domain.exception.IdempotencyKeyReusedException;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.exception.RuleUpdateDeniedException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -22,12 +32,63 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
     
+    @ExceptionHandler(CreditVersionMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionMismatch(CreditVersionMismatchException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        return buildResponse(HttpStatus.PRECONDITION_FAILED, ex.getMessage());
+    }
+    
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        log.warn("Idempotency key reused: {}", ex.getMessage());
+        return buildResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+    }
+    
+    @ExceptionHandler(RuleUpdateDeniedException.class)
+    public ResponseEntity<Map<String, Object>> handleRuleUpdateDenied(RuleUpdateDeniedException ex) {
+        log.warn("Rule update denied: {}", ex.getMessage());
+        return buildResponse(HttpStatus.FORBIDDEN, ex.getMessage());
+    }
+    
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+        return buildResponse(HttpStatus.CONFLICT, "The credit application was modified concurrently. Reload and retry.");
+    }
+    
+    // Pool agotado o base de datos inaccesible: el cliente puede reintentar, a diferencia de un 500
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, Object>> handleDatabaseUnavailable(RuntimeException ex) {
+        log.warn("Database unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(buildResponse(HttpStatus.SERVICE_UNAVAILABLE,
+                        "The service is temporarily overloaded. Please retry later.").getBody());
+    }
+    
+    // Solo los errores de entrada declarados: un IllegalArgumentException cualquiera es un fallo interno
+    @ExceptionHandler(InvalidRequestParameterException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(InvalidRequestParameterException ex) {
+        log.warn("Bad request: {}", ex.getMessage());
+        return buildResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex) {
         log.warn("Validation error occurred");
-        
+        return validationFailed(ex.getBindingResult());
+    }
+    
+    // Equivalente en WebFlux (perfil reactive)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleReactiveValidationErrors(WebExchangeBindException ex) {
+        log.warn("Validation error occurred");
+        return validationFailed(ex);
+    }
+    
+    private ResponseEntity<Map<String, Object>> validationFailed(BindingResult result) {
         Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getFieldErrors()
+        result.getFieldErrors()
                 .forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
         
         Map<String, Object> body = new HashMap<>();
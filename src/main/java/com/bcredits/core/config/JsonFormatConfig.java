@@ -0,0 +1,30 @@
+package com.bcredits.core.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Formatos binarios por negociación de contenido ({@code Accept: application/x-jackson-smile} o
+ * {@code application/cbor}). Se construyen con el mismo builder que el ObjectMapper JSON para
+ * compartir módulos, serializadores y formato de fechas; JSON sigue siendo la respuesta por defecto.
+ */
+@Configuration
+public class JsonFormatConfig {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.indentOutput(false).factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.indentOutput(false).factory(new CBORFactory()).build());
+    }
+}
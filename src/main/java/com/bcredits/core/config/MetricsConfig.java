@@ -0,0 +1,16 @@
+package com.bcredits.core.config;
+
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder creditCacheMetrics(CreditCache cache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, cache.nativeCache(), "credits.findById");
+    }
+}
@@ -0,0 +1,75 @@
+package com.bcredits.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * Pila reactiva del perfil {@code reactive} (application-reactive.yml): WebFlux sobre Netty y
+ * R2DBC con el ConnectionFactory de {@code spring.r2dbc}. JPA sigue activo para Flyway y los
+ * procesos en segundo plano, por eso el gestor de transacciones R2DBC no se registra como bean:
+ * {@code @Transactional} seguiría resolviendo un único TransactionManager, el de JPA.
+ * <p>
+ * Spring Boot no crea el DataSource cuando existe un ConnectionFactory, así que el pool JDBC se
+ * declara aquí con la misma configuración de {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    // Con Tomcat también en el classpath, Spring Boot lo elegiría como servidor reactivo
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    // Una línea por elemento en la exportación y en el stream SSE aunque el JSON de la API vaya indentado (dev)
+    @Bean
+    public CodecCustomizer ndjsonCodecCustomizer(ObjectMapper objectMapper) {
+        ObjectMapper compact = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        return configurer -> {
+            configurer.customCodecs().register(new Jackson2JsonEncoder(compact, MediaType.APPLICATION_NDJSON));
+            if (configurer instanceof ServerCodecConfigurer server) {
+                server.defaultCodecs().serverSentEventEncoder(new Jackson2JsonEncoder(compact));
+            }
+        };
+    }
+
+    @Bean
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    // Con réplicas, ReadReplicaConfig construye el primario a partir de las mismas propiedades
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(name = "credit.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource jdbcDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+}
@@ -0,0 +1,103 @@
+package com.bcredits.core.config;
+
+import com.bcredits.core.infrastructure.datasource.ConnectionWaitTracker;
+import com.bcredits.core.infrastructure.datasource.ReadReplicaJpaTransactionManager;
+import com.bcredits.core.infrastructure.datasource.ReadReplicaProperties;
+import com.bcredits.core.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.bcredits.core.infrastructure.datasource.ReplicaLagMonitor;
+import com.bcredits.core.infrastructure.datasource.ReplicaPool;
+import com.bcredits.core.infrastructure.metrics.ReplicaRoutingMetrics;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Con {@code credit.datasource.replicas.enabled} sustituye el DataSource de Spring Boot por uno que
+ * envía las transacciones {@code readOnly} a las réplicas. El primario conserva la configuración
+ * de {@code spring.datasource}. Las lecturas que pueden ir a una réplica no llenan la caché de
+ * segundo nivel ({@link ReadReplicaJpaTransactionManager}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "credit.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(DataSourceProperties properties) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        return pool;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(@Qualifier("primaryPool") DataSource primaryPool,
+                                                                     DataSourceProperties primary,
+                                                                     ReadReplicaProperties replicas,
+                                                                     ConnectionWaitTracker connectionWaitTracker,
+                                                                     MeterRegistry registry) {
+        return new ReadReplicaRoutingDataSource(primaryPool, replicaPools(replicas, primary, connectionWaitTracker),
+                replicas.maxLag(), new ReplicaRoutingMetrics(registry));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    // Sustituye al de JpaBaseConfiguration, con los mismos customizers
+    @Bean
+    public JpaTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new ReadReplicaJpaTransactionManager();
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryPool") DataSource primaryPool,
+                                               ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+                                               ReadReplicaProperties replicas) {
+        return new ReplicaLagMonitor(primaryPool, readReplicaRoutingDataSource.replicas(),
+                replicas.connectionTimeout());
+    }
+
+    private static List<ReplicaPool> replicaPools(ReadReplicaProperties replicas, DataSourceProperties primary,
+                                                  ConnectionWaitTracker connectionWaitTracker) {
+        List<String> urls = replicas.urls().stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("credit.datasource.replicas.urls is required when read replicas are enabled");
+        }
+        List<ReplicaPool> pools = new ArrayList<>();
+        for (String url : urls) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (pools.size() + 1));
+            config.setJdbcUrl(url);
+            config.setUsername(replicas.username() != null ? replicas.username() : primary.determineUsername());
+            config.setPassword(replicas.password() != null ? replicas.password() : primary.determinePassword());
+            config.setMaximumPoolSize(replicas.poolSize());
+            config.setConnectionTimeout(replicas.connectionTimeout().toMillis());
+            config.setReadOnly(true);
+            // Una réplica caída no impide arrancar; el monitor la mantiene fuera hasta que responda
+            config.setInitializationFailTimeout(-1);
+            // Un tracker por pool: /api/runtime muestra también las esperas de cada réplica
+            config.setMetricsTrackerFactory(connectionWaitTracker);
+            pools.add(new ReplicaPool(config.getPoolName(), new HikariDataSource(config)));
+        }
+        return pools;
+    }
+}
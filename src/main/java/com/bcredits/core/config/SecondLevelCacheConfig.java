@@ -0,0 +1,62 @@
+package com.bcredits.core.config;
+
+import com.bcredits.core.domain.model.CreditApplication;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache (Caffeine). Las regiones se crean aquí, acotadas
+ * por tamaño y TTL; con {@code missing_cache_strategy: fail} una región no declarada impide arrancar.
+ * La coherencia entre instancias la mantiene {@code CreditCacheInvalidationListener}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    public static final String CREDIT_REGION = CreditApplication.class.getName();
+    public static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    // URI propia por contexto: dos aplicaciones en la misma JVM no comparten regiones
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${credit.cache.second-level.max-size:10000}") long maxSize,
+            @Value("${credit.cache.second-level.ttl:10m}") Duration ttl,
+            @Value("${credit.cache.second-level.query-max-size:1000}") long queryMaxSize,
+            @Value("${credit.cache.second-level.query-ttl:60s}") Duration queryTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("credits-core:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(CREDIT_REGION, region(OptionalLong.of(maxSize), OptionalLong.of(ttl.toNanos())));
+        cacheManager.createCache(QUERY_REGION, region(OptionalLong.of(queryMaxSize), OptionalLong.of(queryTtl.toNanos())));
+        // Una entrada por tabla con la hora de su última escritura; no debe expirar antes que las consultas
+        cacheManager.createCache(TIMESTAMPS_REGION, region(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maxSize, OptionalLong ttlNanos) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(maxSize)
+                .setExpireAfterWrite(ttlNanos)
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,8 @@
+package com.bcredits.core.domain.exception;
+
+public class CreditVersionMismatchException extends RuntimeException {
+
+    public CreditVersionMismatchException(String message) {
+        super(message);
+    }
+}
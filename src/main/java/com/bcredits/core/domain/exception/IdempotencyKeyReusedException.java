@@ -0,0 +1,8 @@
+package com.bcredits.core.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
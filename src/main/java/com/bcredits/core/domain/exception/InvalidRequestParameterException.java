@@ -0,0 +1,16 @@
+package com.bcredits.core.domain.exception;
+
+/**
+ * Parámetro, cabecera o cursor de la petición con un valor no válido. Es la única excepción que se
+ * responde con 400 y su mensaje llega al cliente, así que no debe incluir detalles internos.
+ */
+public class InvalidRequestParameterException extends RuntimeException {
+
+    public InvalidRequestParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
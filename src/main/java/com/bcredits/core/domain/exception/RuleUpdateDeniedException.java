@@ -0,0 +1,8 @@
+package com.bcredits.core.domain.exception;
+
+public class RuleUpdateDeniedException extends RuntimeException {
+
+    public RuleUpdateDeniedException(String message) {
+        super(message);
+    }
+}
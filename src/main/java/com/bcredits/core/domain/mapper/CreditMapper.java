@@ -3,6 +3,7 @@ package com.bcredits.core.domain.mapper;
 import com.bcredits.core.api.dto.CreditRequestDTO;
 import com.bcredits.core.api.dto.CreditResponseDTO;
 import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.infrastructure.repository.CreditRevision;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,7 +28,22 @@ public class CreditMapper {
                 entity.getAmount(),
                 entity.getType(),
                 entity.getStatus(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getVersion()
         );
     }
-}
\ No newline at end of file
+
+    public CreditResponseDTO toResponse(CreditRevision revision) {
+        if (revision == null) return null;
+
+        return new CreditResponseDTO(
+                revision.getId(),
+                revision.getCustomerName(),
+                revision.getAmount(),
+                revision.getType(),
+                revision.getStatus(),
+                revision.getCreatedAt(),
+                revision.getVersion()
+        );
+    }
+}
@@ -2,6 +2,8 @@ package com.bcredits.core.domain.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -9,16 +11,27 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "credits_applications")
+@Table(name = "credits_applications", indexes = {
+        @Index(name = "idx_credits_status_created_at", columnList = "status, createdAt"),
+        @Index(name = "idx_credits_type_created_at", columnList = "type, createdAt"),
+        @Index(name = "idx_credits_status_type_amount", columnList = "status, type, amount"),
+        @Index(name = "idx_credits_created_at", columnList = "createdAt"),
+        @Index(name = "idx_credits_customer_name", columnList = "customerName"),
+        @Index(name = "idx_credits_status_id", columnList = "status, id"),
+        @Index(name = "idx_credits_type_id", columnList = "type, id")
+})
 @Getter @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // Región de segundo nivel: SecondLevelCacheConfig
 public class CreditApplication {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credits_applications_seq")
+    @SequenceGenerator(name = "credits_applications_seq", sequenceName = "credits_applications_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -35,6 +48,9 @@ public class CreditApplication {
     @Column(nullable = false)
     private CreditStatus status;
     
+    @Version
+    private Long version;
+    
     @CreatedDate
     @Column(updatable = false, nullable = false)
     private LocalDateTime createdAt;
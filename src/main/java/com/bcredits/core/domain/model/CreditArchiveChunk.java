@@ -0,0 +1,49 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bloque de solicitudes archivadas: NDJSON comprimido con gzip de {@code CreditResponseDTO}.
+ * {@code minId}/{@code maxId} delimitan los ids que contiene.
+ */
+@Entity
+@Table(name = "credit_archive_chunks")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CreditArchiveChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_archive_chunks_seq")
+    @SequenceGenerator(name = "credit_archive_chunks_seq", sequenceName = "credit_archive_chunks_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long minId;
+
+    @Column(nullable = false)
+    private Long maxId;
+
+    @Column(nullable = false)
+    private Integer rowCount;
+
+    @Column(nullable = false)
+    private LocalDateTime oldestCreatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime newestCreatedAt;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(nullable = false)
+    private byte[] payload;
+}
@@ -0,0 +1,9 @@
+package com.bcredits.core.domain.model;
+
+public enum CreditAuditAction {
+    CREATED,
+    UPDATED,
+    REVIEWED,
+    DELETED,
+    PURGED
+}
@@ -0,0 +1,69 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Transición de una solicitud en {@code credit_audit_log}. Solo se inserta: {@code hash} cubre todos
+ * los campos y el {@code hash} de la entrada anterior, así que alterar o quitar una rompe la cadena.
+ * Los valores {@code old*} faltan en un alta y los {@code new*} en un borrado.
+ */
+@Entity
+@Table(name = "credit_audit_log", indexes = {
+        @Index(name = "idx_credit_audit_credit_id_seq", columnList = "creditId, seq")
+})
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditAuditEntry {
+
+    // Asignado por el escritor a partir de credit_audit_head: consecutivo y sin huecos
+    @Id
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long creditId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CreditAuditAction action;
+
+    private String oldCustomerName;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal oldAmount;
+
+    @Enumerated(EnumType.STRING)
+    private CreditType oldType;
+
+    @Enumerated(EnumType.STRING)
+    private CreditStatus oldStatus;
+
+    private Long oldVersion;
+
+    private String newCustomerName;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal newAmount;
+
+    @Enumerated(EnumType.STRING)
+    private CreditType newType;
+
+    @Enumerated(EnumType.STRING)
+    private CreditStatus newStatus;
+
+    private Long newVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false, length = 64)
+    private String prevHash;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+}
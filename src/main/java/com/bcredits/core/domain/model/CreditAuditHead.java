@@ -0,0 +1,28 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Último eslabón de {@code credit_audit_log}. Hay una sola fila; el escritor la bloquea durante
+ * cada lote, de modo que la cadena es única aunque escriban varias instancias.
+ */
+@Entity
+@Table(name = "credit_audit_head")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditAuditHead {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    @Column(nullable = false, length = 64)
+    private String lastHash;
+}
@@ -0,0 +1,61 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Transición escrita en la misma transacción que la solicitud y pendiente de encadenar en
+ * {@code credit_audit_log}. El escritor del historial borra la fila al añadir su {@link CreditAuditEntry}.
+ */
+@Entity
+@Table(name = "credit_audit_pending")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditAuditPending {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_audit_pending_seq")
+    @SequenceGenerator(name = "credit_audit_pending_seq", sequenceName = "credit_audit_pending_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long creditId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CreditAuditAction action;
+
+    private String oldCustomerName;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal oldAmount;
+
+    @Enumerated(EnumType.STRING)
+    private CreditType oldType;
+
+    @Enumerated(EnumType.STRING)
+    private CreditStatus oldStatus;
+
+    private Long oldVersion;
+
+    private String newCustomerName;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal newAmount;
+
+    @Enumerated(EnumType.STRING)
+    private CreditType newType;
+
+    @Enumerated(EnumType.STRING)
+    private CreditStatus newStatus;
+
+    private Long newVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
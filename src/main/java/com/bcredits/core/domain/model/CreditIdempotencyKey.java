@@ -0,0 +1,57 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Respuesta original de un POST con {@code Idempotency-Key}, guardada en la misma transacción
+ * que la solicitud creada. La clave primaria impide que dos peticiones con la misma clave
+ * confirmen dos inserciones, incluso desde instancias distintas.
+ */
+@Entity
+@Table(name = "credit_idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_created_at", columnList = "createdAt")
+})
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CreditIdempotencyKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private Long creditId;
+
+    @Column(nullable = false, length = 4000)
+    private String response;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean loaded;
+
+    // Siempre se inserta con persist: un merge convertiría una clave duplicada en un UPDATE silencioso
+    @Override
+    public boolean isNew() {
+        return !loaded;
+    }
+
+    @PostLoad
+    void markLoaded() {
+        loaded = true;
+    }
+}
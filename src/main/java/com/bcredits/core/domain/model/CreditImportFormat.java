@@ -0,0 +1,6 @@
+package com.bcredits.core.domain.model;
+
+public enum CreditImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,67 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Importación masiva de un fichero del directorio de importación. {@code linesProcessed} es la
+ * última línea del fichero cuyo bloque está confirmado y {@code rejectBytes} el tamaño del fichero
+ * de rechazos en ese momento; una reanudación parte de ahí.
+ */
+@Entity
+@Table(name = "credit_import_jobs")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CreditImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_import_jobs_seq")
+    @SequenceGenerator(name = "credit_import_jobs_seq", sequenceName = "credit_import_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String file;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CreditImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CreditImportStatus status;
+
+    @Column(nullable = false)
+    private long linesProcessed;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long rejected;
+
+    @Column(nullable = false)
+    private long rejectBytes;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Version
+    private Long version;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime startedAt;
+
+    // Se renueva con cada bloque confirmado; un RUNNING sin renovar se considera abandonado
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,7 @@
+package com.bcredits.core.domain.model;
+
+public enum CreditImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,40 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Evento pendiente de publicar, escrito en la misma transacción que la solicitud que lo origina.
+ * La fila se borra cuando el relay confirma la publicación.
+ */
+@Entity
+@Table(name = "credit_outbox")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CreditOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_outbox_seq")
+    @SequenceGenerator(name = "credit_outbox_seq", sequenceName = "credit_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long creditId;
+
+    @Column(nullable = false, length = 64)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.bcredits.core.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conjunto de reglas publicado con {@code PUT /api/credit-rules}. Rige el de mayor versión en todas
+ * las instancias; {@code definitions} es la lista de {@code CreditRuleDefinition} en JSON.
+ */
+@Entity
+@Table(name = "credit_rule_sets")
+@Getter @Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class CreditRuleSet {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_rule_sets_seq")
+    @SequenceGenerator(name = "credit_rule_sets_seq", sequenceName = "credit_rule_sets_seq", allocationSize = 1)
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CreditStatus defaultOutcome;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String definitions;
+
+    @CreatedDate
+    @Column(updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package com.bcredits.core.domain.outbox;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Contenido publicado para cada decisión. {@code creditId} + {@code version} identifican el evento
+ * de forma única, lo que permite a los consumidores descartar duplicados de la entrega al menos una vez.
+ */
+public record CreditDecisionEvent(
+        String event,
+        Long creditId,
+        Long version,
+        String customerName,
+        BigDecimal amount,
+        CreditType type,
+        CreditStatus status,
+        LocalDateTime occurredAt
+) {}
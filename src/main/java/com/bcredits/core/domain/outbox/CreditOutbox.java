@@ -0,0 +1,71 @@
+package com.bcredits.core.domain.outbox;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.repository.CreditOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Registra las decisiones APPROVED/REJECTED en {@code credit_outbox}. Exige una transacción
+ * activa: el evento se confirma o se descarta junto con la escritura de la solicitud.
+ */
+@Component
+@RegisterReflectionForBinding(CreditDecisionEvent.class)  // Serializado por Jackson también en la imagen nativa
+public class CreditOutbox {
+
+    public static final String CREATED = "credit.created";
+    public static final String UPDATED = "credit.updated";
+    public static final String REVIEWED = "credit.reviewed";
+
+    private final CreditOutboxRepository repository;
+    private final ObjectWriter payloadWriter;
+
+    public CreditOutbox(CreditOutboxRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        // Una línea por evento: el sink de fichero escribe NDJSON
+        this.payloadWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decision(String event, Long creditId, Long version, String customerName,
+                         BigDecimal amount, CreditType type, CreditStatus status) {
+        event(event, creditId, version, customerName, amount, type, status).ifPresent(repository::save);
+    }
+
+    /**
+     * Construye el evento sin guardarlo, para quien lo escribe con su propia conexión (R2DBC).
+     * Vacío para PENDING, que no es una decisión: se publicará cuando se resuelva.
+     */
+    public Optional<CreditOutboxEvent> event(String event, Long creditId, Long version, String customerName,
+                                             BigDecimal amount, CreditType type, CreditStatus status) {
+        if (status == CreditStatus.PENDING) return Optional.empty();
+
+        CreditDecisionEvent payload = new CreditDecisionEvent(event, creditId, version, customerName,
+                amount, type, status, LocalDateTime.now());
+        return Optional.of(CreditOutboxEvent.builder()
+                .creditId(creditId)
+                .eventType(event)
+                .payload(serialize(payload))
+                .build());
+    }
+
+    private String serialize(CreditDecisionEvent payload) {
+        try {
+            return payloadWriter.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox event for credit " + payload.creditId(), e);
+        }
+    }
+}
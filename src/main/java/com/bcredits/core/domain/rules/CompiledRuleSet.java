@@ -0,0 +1,93 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representación inmutable de un conjunto de reglas, indexada por {@link CreditType}.
+ * La evaluación recorre un arreglo precalculado para el tipo y no reserva memoria.
+ */
+final class CompiledRuleSet {
+
+    private static final CreditType[] TYPES = CreditType.values();
+
+    private final List<CreditRuleDefinition> definitions;
+    private final CreditStatus defaultOutcome;
+    private final CompiledRule[][] rulesByType;
+
+    private CompiledRuleSet(List<CreditRuleDefinition> definitions, CreditStatus defaultOutcome,
+                            CompiledRule[][] rulesByType) {
+        this.definitions = definitions;
+        this.defaultOutcome = defaultOutcome;
+        this.rulesByType = rulesByType;
+    }
+
+    static CompiledRuleSet compile(List<CreditRuleDefinition> definitions, CreditStatus defaultOutcome) {
+        if (defaultOutcome == null) {
+            throw new IllegalArgumentException("Rule set default outcome is required");
+        }
+        if (definitions == null) {
+            throw new IllegalArgumentException("Rule set rules are required");
+        }
+        // Antes de List.copyOf, que lanzaría NullPointerException con un elemento nulo
+        definitions.forEach(CompiledRuleSet::validate);
+        List<CreditRuleDefinition> copy = List.copyOf(definitions);
+
+        CompiledRule[][] rulesByType = new CompiledRule[TYPES.length][];
+        for (CreditType type : TYPES) {
+            List<CompiledRule> rules = new ArrayList<>();
+            for (CreditRuleDefinition definition : copy) {
+                if (definition.type() == null || definition.type() == type) {
+                    rules.add(new CompiledRule(definition.minAmount(), definition.maxAmount(), definition.outcome()));
+                }
+            }
+            rulesByType[type.ordinal()] = rules.toArray(CompiledRule[]::new);
+        }
+        return new CompiledRuleSet(copy, defaultOutcome, rulesByType);
+    }
+
+    CreditStatus evaluate(CreditType type, BigDecimal amount) {
+        for (CompiledRule rule : rulesByType[type.ordinal()]) {
+            if (rule.matches(amount)) {
+                return rule.outcome;
+            }
+        }
+        return defaultOutcome;
+    }
+
+    List<CreditRuleDefinition> definitions() {
+        return definitions;
+    }
+
+    CreditStatus defaultOutcome() {
+        return defaultOutcome;
+    }
+
+    private static void validate(CreditRuleDefinition definition) {
+        if (definition == null) {
+            throw new IllegalArgumentException("Credit rules cannot be null");
+        }
+        if (definition.name() == null || definition.name().isBlank()) {
+            throw new IllegalArgumentException("Every credit rule needs a name");
+        }
+        if (definition.outcome() == null) {
+            throw new IllegalArgumentException("Credit rule '" + definition.name() + "' has no outcome");
+        }
+        if (definition.minAmount() != null && definition.maxAmount() != null
+                && definition.minAmount().compareTo(definition.maxAmount()) > 0) {
+            throw new IllegalArgumentException("Credit rule '" + definition.name() + "' has minAmount > maxAmount");
+        }
+    }
+
+    private record CompiledRule(BigDecimal minAmount, BigDecimal maxAmount, CreditStatus outcome) {
+
+        boolean matches(BigDecimal amount) {
+            return (minAmount == null || amount.compareTo(minAmount) >= 0)
+                    && (maxAmount == null || amount.compareTo(maxAmount) <= 0);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Evaluación diferida de las solicitudes que la regla síncrona dejó en PENDING.
+ * Sin definiciones se aplica {@code credit.review.rules.default-outcome} (REJECTED),
+ * el mismo resultado final que tenía el rechazo síncrono.
+ */
+@Slf4j
+@Component
+public class CreditReviewEvaluator {
+
+    private final CompiledRuleSet rules;
+
+    public CreditReviewEvaluator(CreditReviewProperties properties) {
+        // Una revisión que devolviera PENDING dejaría la solicitud en la cola para siempre
+        if (properties.defaultOutcome() == CreditStatus.PENDING
+                || properties.definitions().stream().anyMatch(d -> d != null && d.outcome() == CreditStatus.PENDING)) {
+            throw new IllegalArgumentException("Credit review rules must resolve to APPROVED or REJECTED");
+        }
+        this.rules = CompiledRuleSet.compile(properties.definitions(), properties.defaultOutcome());
+        log.info("Credit review rules loaded - Rules: {}, Default outcome: {}",
+                 rules.definitions().size(), rules.defaultOutcome());
+    }
+
+    public CreditStatus evaluate(CreditType type, BigDecimal amount) {
+        return rules.evaluate(type, amount);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+
+/**
+ * Regla de elegibilidad: si todas las condiciones no nulas se cumplen, la solicitud recibe {@code outcome}.
+ * Un {@code type} nulo aplica a todos los tipos de crédito; los límites de monto son inclusivos.
+ */
+public record CreditRuleDefinition(
+        String name,
+        CreditType type,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        CreditStatus outcome
+) {}
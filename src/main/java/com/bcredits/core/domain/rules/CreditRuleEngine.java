@@ -0,0 +1,67 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Evalúa la elegibilidad de una solicitud contra el conjunto de reglas vigente.
+ * Las reglas se compilan una vez y se publican con un swap atómico, de modo que las
+ * lecturas en el camino de la petición nunca se bloquean durante una recarga.
+ */
+@Slf4j
+@Component
+public class CreditRuleEngine {
+
+    private final AtomicReference<CompiledRuleSet> current = new AtomicReference<>();
+
+    @Autowired
+    public CreditRuleEngine(CreditRuleProperties properties,
+                            @Value("${credit.auto-eval.max-amount}") BigDecimal maxAutoEvalAmount) {
+        List<CreditRuleDefinition> definitions = properties.definitions().isEmpty()
+                ? defaultRules(maxAutoEvalAmount)
+                : properties.definitions();
+        reload(definitions, properties.defaultOutcome());
+    }
+
+    /**
+     * Motor con la regla histórica: aprobado hasta {@code maxAutoEvalAmount}, rechazado por encima.
+     */
+    public static CreditRuleEngine withAmountLimit(BigDecimal maxAutoEvalAmount) {
+        return new CreditRuleEngine(new CreditRuleProperties(CreditStatus.REJECTED, List.of()), maxAutoEvalAmount);
+    }
+
+    public CreditStatus evaluate(CreditType type, BigDecimal amount) {
+        return current.get().evaluate(type, amount);
+    }
+
+    public void reload(List<CreditRuleDefinition> definitions, CreditStatus defaultOutcome) {
+        CompiledRuleSet compiled = CompiledRuleSet.compile(definitions, defaultOutcome);
+        current.set(compiled);
+        log.info("Credit rules loaded - Rules: {}, Default outcome: {}", compiled.definitions().size(), defaultOutcome);
+    }
+
+    /** Compila sin publicar: lanza IllegalArgumentException si el conjunto no es válido. */
+    public void validate(List<CreditRuleDefinition> definitions, CreditStatus defaultOutcome) {
+        CompiledRuleSet.compile(definitions, defaultOutcome);
+    }
+
+    public List<CreditRuleDefinition> definitions() {
+        return current.get().definitions();
+    }
+
+    public CreditStatus defaultOutcome() {
+        return current.get().defaultOutcome();
+    }
+
+    private static List<CreditRuleDefinition> defaultRules(BigDecimal maxAutoEvalAmount) {
+        return List.of(new CreditRuleDefinition("auto-eval-max-amount", null, null, maxAutoEvalAmount, CreditStatus.APPROVED));
+    }
+}
@@ -0,0 +1,13 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "credit.rules")
+public record CreditRuleProperties(
+        @DefaultValue("PENDING") CreditStatus defaultOutcome,
+        @DefaultValue List<CreditRuleDefinition> definitions
+) {}
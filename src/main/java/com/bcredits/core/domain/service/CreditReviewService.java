@@ -0,0 +1,86 @@
+package com.bcredits.core.domain.service;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.mapper.CreditMapper;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditAction;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.outbox.CreditOutbox;
+import com.bcredits.core.domain.rules.CreditReviewEvaluator;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail.State;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import com.bcredits.core.infrastructure.metrics.ReviewMetrics;
+import com.bcredits.core.infrastructure.repository.CreditRepository;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CreditReviewService {
+
+    private final CreditRepository repository;
+    private final EntityManager entityManager;
+    private final CreditReviewEvaluator evaluator;
+    private final CreditCache cache;
+    private final CreditPortfolioStats portfolioStats;
+    private final CreditOutbox outbox;
+    private final CreditDecisionLogger decisionLogger;
+    private final ReviewMetrics metrics;
+    private final CreditMapper mapper;
+    private final CreditChangeStream changeStream;
+    private final CreditAuditTrail auditTrail;
+
+    /**
+     * Reclama hasta {@code batchSize} solicitudes PENDING, las evalúa y confirma el lote en una
+     * sola transacción. Devuelve cuántas se resolvieron.
+     */
+    @Transactional
+    public int reviewBatch(int batchSize) {
+        List<CreditApplication> claimed = repository.claimPending(batchSize);
+        if (claimed.isEmpty()) return 0;
+
+        for (CreditApplication credit : claimed) {
+            credit.setStatus(evaluator.evaluate(credit.getType(), credit.getAmount()));
+        }
+        // Un único lote de UPDATE; tras el flush cada entidad ya tiene la versión nueva
+        entityManager.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        for (CreditApplication credit : claimed) {
+            cache.invalidate(credit.getId());
+            portfolioStats.recordUpdated(credit.getType(), CreditStatus.PENDING, credit.getAmount(),
+                    credit.getType(), credit.getStatus(), credit.getAmount());
+            outbox.decision(CreditOutbox.REVIEWED, credit.getId(), credit.getVersion(), credit.getCustomerName(),
+                    credit.getAmount(), credit.getType(), credit.getStatus());
+            metrics.recordDecision(credit.getStatus(), Duration.between(credit.getCreatedAt(), now));
+            decisionLogger.decision("reviewed", credit.getId(), credit.getType(), credit.getAmount(), credit.getStatus());
+            CreditResponseDTO response = mapper.toResponse(credit);
+            changeStream.publish(CreditChange.REVIEWED, response);
+            // El flush incrementó la versión en uno; el resto de campos no cambia al revisar
+            auditTrail.record(CreditAuditAction.REVIEWED, credit.getId(),
+                    new State(credit.getCustomerName(), credit.getAmount(), credit.getType(), CreditStatus.PENDING,
+                            credit.getVersion() - 1),
+                    State.of(response));
+        }
+        log.debug("Credit review batch processed - Size: {}", claimed.size());
+        return claimed.size();
+    }
+
+    @Transactional(readOnly = true)
+    public long pendingCount() {
+        return repository.countByStatus(CreditStatus.PENDING);
+    }
+}
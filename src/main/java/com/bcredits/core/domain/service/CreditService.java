@@ -1,20 +1,65 @@
 package com.bcredits.core.domain.service;
 
+import com.bcredits.core.api.dto.CacheStatsDTO;
+import com.bcredits.core.api.dto.CreditBatchItemResultDTO;
+import com.bcredits.core.api.dto.CreditBatchResponseDTO;
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditPurgeResultDTO;
 import com.bcredits.core.api.dto.CreditRequestDTO;
 import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.CreditSearchCriteria;
+import com.bcredits.core.api.dto.SecondLevelCacheStatsDTO;
+import com.bcredits.core.domain.exception.CreditVersionMismatchException;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
 import com.bcredits.core.domain.mapper.CreditMapper;
 import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditAction;
 import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.outbox.CreditOutbox;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.archive.CreditArchive;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail.State;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import com.bcredits.core.infrastructure.datasource.ReadRouting;
+import com.bcredits.core.infrastructure.idempotency.CreditIdempotencyStore;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import com.bcredits.core.infrastructure.metrics.CreditMetrics;
+import com.bcredits.core.infrastructure.repository.CreditAmountView;
+import com.bcredits.core.infrastructure.repository.CreditRemoval;
 import com.bcredits.core.infrastructure.repository.CreditRepository;
+import com.bcredits.core.infrastructure.repository.CreditRevision;
+import com.bcredits.core.infrastructure.repository.CreditSpecifications;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -24,86 +69,399 @@ public class CreditService {
     
     private final CreditRepository repository;
     private final CreditMapper mapper;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final CreditRuleEngine ruleEngine;
+    private final CreditCache cache;
+    private final CreditMetrics metrics;
+    private final CreditDecisionLogger decisionLogger;
+    private final TransactionTemplate transactionTemplate;
+    private final CreditPortfolioStats portfolioStats;
+    private final CreditStatsService statsService;
+    private final CreditOutbox outbox;
+    private final CreditIdempotencyStore idempotencyStore;
+    private final CreditArchive archive;
+    private final CreditChangeStream changeStream;
+    private final CreditAuditTrail auditTrail;
     
-    @Value("${credit.auto-eval.max-amount}")
-    private BigDecimal maxAutoEvalAmount;
+    @Value("${credit.pagination.max-page-size:100}")
+    private int maxPageSize = 100;
     
+    @Value("${credit.batch.max-size:1000}")
+    private int maxBatchSize = 1000;
+    
+    @Value("${credit.purge.chunk-size:5000}")
+    private int purgeChunkSize = 5000;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize = 50;
+    
+    private static final String CURSOR_PREFIX = "id:";
+    
+    @Timed(value = "credits.operation", extraTags = {"operation", "create"}, histogram = true)
     @Transactional
     public CreditResponseDTO create(CreditRequestDTO dto) {
-        log.info("Processing credit application for: {}", dto.customerName());
+        log.debug("Processing credit application for: {}", dto.customerName());
         
         CreditApplication entity = mapper.toEntity(dto);
-        CreditStatus evaluatedStatus = evaluateCreditEligibility(dto.amount());
+        CreditStatus evaluatedStatus = evaluateCreditEligibility(dto);
         entity.setStatus(evaluatedStatus);
         
         CreditApplication saved = repository.save(entity);
+        portfolioStats.recordCreated(saved.getType(), saved.getStatus(), saved.getAmount());
+        publishDecision(CreditOutbox.CREATED, saved);
         
-        log.info("Credit application processed - ID: {}, Amount: ${}, Status: {}", 
-                 saved.getId(), dto.amount(), evaluatedStatus);
+        decisionLogger.decision("created", saved.getId(), dto.type(), dto.amount(), evaluatedStatus);
         
-        return mapper.toResponse(saved);
+        CreditResponseDTO response = mapper.toResponse(saved);
+        changeStream.publish(CreditChange.CREATED, response);
+        auditTrail.record(CreditAuditAction.CREATED, response.id(), null, State.of(response));
+        return response;
     }
     
-    public List<CreditResponseDTO> findAll() {
-        log.debug("Fetching all credit applications");
-        return repository.findAll().stream()
-                .map(mapper::toResponse)
-                .toList();
+    /**
+     * Alta con {@code Idempotency-Key}: la clave se registra en la misma transacción, de modo que
+     * una clave ya confirmada revierte esta alta con {@code DataIntegrityViolationException}.
+     */
+    @Timed(value = "credits.operation", extraTags = {"operation", "create"}, histogram = true)
+    @Transactional
+    public CreditResponseDTO create(CreditRequestDTO dto, String idempotencyKey) {
+        CreditResponseDTO response = create(dto);
+        idempotencyStore.record(idempotencyKey, dto, response);
+        return response;
     }
     
+    @Timed(value = "credits.operation", extraTags = {"operation", "createBatch"}, histogram = true)
+    @Transactional
+    public CreditBatchResponseDTO createBatch(List<CreditRequestDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InvalidRequestParameterException("Batch must contain at least one credit application");
+        }
+        if (dtos.size() > maxBatchSize) {
+            throw new InvalidRequestParameterException("Batch size " + dtos.size() + " exceeds the maximum of " + maxBatchSize);
+        }
+        log.info("Processing credit application batch - Size: {}", dtos.size());
+        
+        CreditBatchItemResultDTO[] results = new CreditBatchItemResultDTO[dtos.size()];
+        List<CreditApplication> pending = new ArrayList<>(jdbcBatchSize);
+        List<Integer> pendingIndexes = new ArrayList<>(jdbcBatchSize);
+        int created = 0;
+        
+        for (int i = 0; i < dtos.size(); i++) {
+            CreditRequestDTO dto = dtos.get(i);
+            Map<String, String> errors = validate(dto);
+            if (!errors.isEmpty()) {
+                results[i] = CreditBatchItemResultDTO.rejected(i, errors);
+                continue;
+            }
+            
+            CreditApplication entity = mapper.toEntity(dto);
+            entity.setStatus(evaluateCreditEligibility(dto));
+            pending.add(entity);
+            pendingIndexes.add(i);
+            
+            if (pending.size() == jdbcBatchSize) {
+                created += flushBatch(pending, pendingIndexes, results);
+            }
+        }
+        created += flushBatch(pending, pendingIndexes, results);
+        
+        log.info("Credit application batch processed - Received: {}, Created: {}, Failed: {}",
+                 dtos.size(), created, dtos.size() - created);
+        
+        return new CreditBatchResponseDTO(dtos.size(), created, dtos.size() - created, List.of(results));
+    }
+    
+    /**
+     * Construye y evalúa una solicitud sin persistirla. Solo lee estado compartido, así que la
+     * importación la invoca desde varios hilos a la vez.
+     */
+    // SUPPORTS: sin la transacción de solo lectura de la clase, que abriría una sesión por fila
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public CreditApplication evaluate(CreditRequestDTO dto) {
+        CreditApplication entity = mapper.toEntity(dto);
+        entity.setStatus(evaluateCreditEligibility(dto));
+        return entity;
+    }
+    
+    /**
+     * Persiste solicitudes ya evaluadas en lotes JDBC de {@code hibernate.jdbc.batch_size}, dentro de
+     * la transacción del llamante, con sus eventos del outbox y estadísticas como en {@link #createBatch}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<CreditResponseDTO> saveEvaluated(List<CreditApplication> entities) {
+        List<CreditResponseDTO> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += jdbcBatchSize) {
+            saved.addAll(persist(entities.subList(from, Math.min(entities.size(), from + jdbcBatchSize))));
+        }
+        return saved;
+    }
+    
+    @Timed(value = "credits.operation", extraTags = {"operation", "findAll"}, histogram = true)
+    public CreditPageDTO findAll(String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        long afterId = decodeCursor(cursor);
+        log.debug("Fetching credit applications page - After ID: {}, Size: {}", afterId, pageSize);
+        
+        // Se pide un registro extra para saber si existe una página siguiente
+        List<CreditApplication> rows = repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return toPage(rows, pageSize);
+    }
+    
+    @Timed(value = "credits.operation", extraTags = {"operation", "search"}, histogram = true)
+    public CreditPageDTO search(CreditSearchCriteria criteria, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, maxPageSize);
+        long afterId = decodeCursor(cursor);
+        log.debug("Searching credit applications - Criteria: {}, After ID: {}, Size: {}", criteria, afterId, pageSize);
+        
+        List<CreditApplication> rows = repository.findBy(
+                CreditSpecifications.matching(criteria).and(CreditSpecifications.idGreaterThan(afterId)),
+                query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        return toPage(rows, pageSize);
+    }
+    
+    public void streamAll(Consumer<CreditResponseDTO> consumer) {
+        log.debug("Streaming all credit applications");
+        try (Stream<CreditApplication> rows = repository.streamAllOrderById()) {
+            rows.forEach(entity -> {
+                consumer.accept(mapper.toResponse(entity));
+                // Evita que el contexto de persistencia crezca con cada fila leída
+                entityManager.detach(entity);
+            });
+        }
+    }
+    
+    @Timed(value = "credits.operation", extraTags = {"operation", "findById"}, histogram = true)
+    // SUPPORTS: un acierto de caché no abre transacción ni toma conexión del pool
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public CreditResponseDTO findById(Long id) {
+        return cache.get(id, this::loadById);
+    }
+    
+    // En el primario: lo que se lee aquí queda en esta caché y en la de segundo nivel hasta su TTL,
+    // y una réplica con retraso devolvería la fila anterior a la última escritura ya invalidada
+    private CreditResponseDTO loadById(Long id) {
         log.debug("Fetching credit application with ID: {}", id);
-        return repository.findById(id)
+        return ReadRouting.onPrimary(() -> repository.findById(id))
                 .map(mapper::toResponse)
+                .or(() -> archive.find(id))
                 .orElseThrow(() -> {
                     log.error("Credit application not found with ID: {}", id);
                     return new EntityNotFoundException("Credit application not found with ID: " + id);
                 });
     }
     
+    /**
+     * @param expectedVersions versiones de If-Match con las que se admite la escritura; null sin condición,
+     *                         vacía si ninguna etiqueta puede coincidir (412 salvo que no exista: 404)
+     */
+    @Timed(value = "credits.operation", extraTags = {"operation", "update"}, histogram = true)
+    @Transactional
+    public CreditResponseDTO update(Long id, CreditRequestDTO dto, Collection<Long> expectedVersions) {
+        log.debug("Updating credit application ID: {}", id);
+        
+        // Re-evaluar con los nuevos datos; no hace falta leer la fila previa
+        CreditStatus newStatus = evaluateCreditEligibility(dto);
+        
+        // Un único UPDATE ... RETURNING: sin lectura previa y con la versión nueva para el ETag
+        Optional<CreditRevision> updated;
+        if (expectedVersions == null) {
+            updated = repository.updateReturning(id, dto.customerName(), dto.amount(),
+                    dto.type().name(), newStatus.name());
+        } else if (expectedVersions.isEmpty()) {
+            updated = Optional.empty();
+        } else {
+            updated = repository.updateReturningIfVersion(id, expectedVersions, dto.customerName(), dto.amount(),
+                    dto.type().name(), newStatus.name());
+        }
+        
+        if (updated.isEmpty()) {
+            // Solo en el camino de error se consulta la versión actual para distinguir 404 de 412
+            Long currentVersion = repository.findVersionById(id)
+                    .orElseThrow(() -> {
+                        log.error("Credit application not found with ID: {}", id);
+                        return new EntityNotFoundException("Credit application not found with ID: " + id);
+                    });
+            throw versionMismatch(id, currentVersion, expectedVersions);
+        }
+        CreditRevision revision = updated.get();
+        cache.invalidate(id);
+        portfolioStats.recordUpdated(revision.getPreviousType(), revision.getPreviousStatus(),
+                revision.getPreviousAmount(), revision.getType(), revision.getStatus(), revision.getAmount());
+        outbox.decision(CreditOutbox.UPDATED, id, revision.getVersion(), revision.getCustomerName(),
+                revision.getAmount(), revision.getType(), revision.getStatus());
+        
+        decisionLogger.decision("updated", id, dto.type(), dto.amount(), newStatus);
+        
+        CreditResponseDTO response = mapper.toResponse(revision);
+        changeStream.publish(CreditChange.UPDATED, response);
+        auditTrail.record(CreditAuditAction.UPDATED, id, State.previous(revision), State.of(response));
+        return response;
+    }
+    
+    @Timed(value = "credits.operation", extraTags = {"operation", "delete"}, histogram = true)
     @Transactional
-    public CreditResponseDTO update(Long id, CreditRequestDTO dto) {
-        log.info("Updating credit application ID: {}", id);
+    public void delete(Long id) {
+        log.info("Deleting credit application ID: {}", id);
         
-        CreditApplication existing = repository.findById(id)
+        CreditRemoval removed = repository.removeById(id)
                 .orElseThrow(() -> {
                     log.error("Credit application not found with ID: {}", id);
                     return new EntityNotFoundException("Credit application not found with ID: " + id);
                 });
         
-        // Actualizar campos
-        existing.setCustomerName(dto.customerName());
-        existing.setAmount(dto.amount());
-        existing.setType(dto.type());
+        cache.invalidate(id);
+        portfolioStats.recordDeleted(removed.getType(), removed.getStatus(), removed.getAmount());
+        changeStream.publish(CreditChange.DELETED, deleted(id, removed));
+        auditTrail.record(CreditAuditAction.DELETED, id, State.of(removed), null);
+        log.info("Credit application deleted successfully - ID: {}", id);
+    }
+    
+    /**
+     * Borra las solicitudes rechazadas anteriores a {@code createdBefore} en bloques de
+     * {@code credit.purge.chunk-size}, cada uno en su propia transacción para no retener
+     * bloqueos ni generar un único WAL enorme.
+     */
+    @Timed(value = "credits.operation", extraTags = {"operation", "purgeRejected"}, histogram = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CreditPurgeResultDTO purgeRejected(LocalDateTime createdBefore) {
+        if (createdBefore == null) {
+            throw new InvalidRequestParameterException("createdBefore is required");
+        }
+        log.info("Purging rejected credit applications created before {}", createdBefore);
         
-        // Re-evaluar si cambió el monto
-        CreditStatus newStatus = evaluateCreditEligibility(dto.amount());
-        existing.setStatus(newStatus);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<CreditRemoval> removed = repository.deleteChunkByStatusAndCreatedBefore(
+                        CreditStatus.REJECTED.name(), createdBefore, purgeChunkSize);
+                removed.forEach(row -> {
+                    changeStream.publish(CreditChange.DELETED, deleted(row.getId(), row));
+                    auditTrail.record(CreditAuditAction.PURGED, row.getId(), State.of(row), null);
+                });
+                return removed.size();
+            });
+            total += deleted;
+        } while (deleted == purgeChunkSize);
         
-        CreditApplication updated = repository.save(existing);
+        cache.invalidateAll();
+        statsService.rebuild();
+        log.info("Rejected credit applications purged - Deleted: {}", total);
+        return new CreditPurgeResultDTO(total);
+    }
+    
+    private CreditStatus evaluateCreditEligibility(CreditRequestDTO dto) {
+        CreditStatus status = ruleEngine.evaluate(dto.type(), dto.amount());
+        metrics.recordDecision(dto.type(), status);
+        log.debug("Credit evaluation - Type: {}, Amount: ${}, Status: {}", dto.type(), dto.amount(), status);
+        return status;
+    }
+    
+    private void publishDecision(String event, CreditApplication entity) {
+        outbox.decision(event, entity.getId(), entity.getVersion(), entity.getCustomerName(),
+                entity.getAmount(), entity.getType(), entity.getStatus());
+    }
+    
+    /** 412 para una escritura condicional; compartido con {@link ReactiveCreditService}. */
+    static CreditVersionMismatchException versionMismatch(Long id, Long currentVersion, Collection<Long> expectedVersions) {
+        String expected = expectedVersions.isEmpty() ? "no strong entity tag"
+                : expectedVersions.size() == 1 ? String.valueOf(expectedVersions.iterator().next())
+                : "any of " + expectedVersions;
+        return new CreditVersionMismatchException("Credit application " + id + " is at version "
+                + currentVersion + ", not " + expected);
+    }
+    
+    /**
+     * Lo que se emite por el stream al borrar: la fila ya no existe, solo se conocen importe, tipo y estado.
+     */
+    static CreditResponseDTO deleted(Long id, CreditAmountView removed) {
+        return new CreditResponseDTO(id, null, removed.getAmount(), removed.getType(), removed.getStatus(), null, null);
+    }
+    
+    public CacheStatsDTO cacheStats() {
+        return cache.stats();
+    }
+    
+    public SecondLevelCacheStatsDTO secondLevelCacheStats() {
+        return cache.secondLevelStats();
+    }
+    
+    private int flushBatch(List<CreditApplication> pending, List<Integer> indexes,
+                           CreditBatchItemResultDTO[] results) {
+        if (pending.isEmpty()) return 0;
         
-        log.info("Credit application updated - ID: {}, New Status: {}", id, newStatus);
+        List<CreditResponseDTO> saved = persist(pending);
+        for (int i = 0; i < saved.size(); i++) {
+            results[indexes.get(i)] = CreditBatchItemResultDTO.created(indexes.get(i), saved.get(i));
+        }
         
-        return mapper.toResponse(updated);
+        int count = saved.size();
+        pending.clear();
+        indexes.clear();
+        return count;
     }
     
-    @Transactional
-    public void delete(Long id) {
-        log.info("Deleting credit application ID: {}", id);
-        
-        if (!repository.existsById(id)) {
-            log.error("Credit application not found with ID: {}", id);
-            throw new EntityNotFoundException("Credit application not found with ID: " + id);
+    private List<CreditResponseDTO> persist(List<CreditApplication> entities) {
+        // Un flush por bloque envía un único lote JDBC; clear mantiene acotado el contexto de persistencia
+        List<CreditApplication> saved = repository.saveAll(entities);
+        // Los eventos del outbox viajan en el mismo flush que las solicitudes
+        saved.forEach(entity -> publishDecision(CreditOutbox.CREATED, entity));
+        entityManager.flush();
+        List<CreditResponseDTO> responses = new ArrayList<>(saved.size());
+        for (CreditApplication entity : saved) {
+            portfolioStats.recordCreated(entity.getType(), entity.getStatus(), entity.getAmount());
+            CreditResponseDTO response = mapper.toResponse(entity);
+            changeStream.publish(CreditChange.CREATED, response);
+            auditTrail.record(CreditAuditAction.CREATED, response.id(), null, State.of(response));
+            responses.add(response);
         }
+        entityManager.clear();
+        return responses;
+    }
+    
+    /**
+     * Errores de validación por campo, con las mismas restricciones que {@code @Valid} en la API.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Map<String, String> validate(CreditRequestDTO dto) {
+        if (dto == null) return Map.of("request", "La solicitud es obligatoria");
         
-        repository.deleteById(id);
-        log.info("Credit application deleted successfully - ID: {}", id);
+        Set<ConstraintViolation<CreditRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) return Map.of();
+        
+        Map<String, String> errors = new LinkedHashMap<>();
+        violations.forEach(v -> errors.put(v.getPropertyPath().toString(), v.getMessage()));
+        return errors;
+    }
+    
+    private CreditPageDTO toPage(List<CreditApplication> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CreditResponseDTO> content = rows.stream()
+                .limit(pageSize)
+                .map(mapper::toResponse)
+                .toList();
+        
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new CreditPageDTO(content, content.size(), nextCursor);
     }
     
-    private CreditStatus evaluateCreditEligibility(BigDecimal amount) {
-        boolean isEligible = amount.compareTo(maxAutoEvalAmount) <= 0;
-        log.debug("Credit evaluation - Amount: ${}, Limit: ${}, Eligible: {}", 
-                  amount, maxAutoEvalAmount, isEligible);
-        return isEligible ? CreditStatus.APPROVED : CreditStatus.REJECTED;
+    static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidRequestParameterException("Invalid pagination cursor");
+            }
+            return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            // Base64 o número mal formados
+            throw new InvalidRequestParameterException("Invalid pagination cursor", ex);
+        }
     }
 }
\ No newline at end of file
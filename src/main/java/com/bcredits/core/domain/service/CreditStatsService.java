@@ -0,0 +1,76 @@
+package com.bcredits.core.domain.service;
+
+import com.bcredits.core.api.dto.CreditStatsDTO;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.datasource.ReadRouting;
+import com.bcredits.core.infrastructure.repository.CreditAggregateRow;
+import com.bcredits.core.infrastructure.repository.CreditRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.List;
+
+@Service
+@Slf4j
+public class CreditStatsService implements SmartInitializingSingleton {
+
+    private final CreditRepository repository;
+    private final CreditPortfolioStats stats;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+
+    // Desactivado en la ejecución de entrenamiento del archivo CDS, que arranca sin base de datos
+    @Value("${credit.stats.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup = true;
+
+    public CreditStatsService(CreditRepository repository, CreditPortfolioStats stats, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.stats = stats;
+        this.jdbcTemplate = jdbcTemplate;
+        // REPEATABLE READ: la instantánea se fija en la primera consulta y el GROUP BY la reutiliza
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (rebuildOnStartup) rebuild();
+    }
+
+    public CreditStatsDTO current() {
+        return stats.snapshot();
+    }
+
+    /**
+     * Recalcula los agregados con un único GROUP BY. Se ejecuta al arrancar y periódicamente
+     * para incorporar escrituras de otras instancias y corregir cualquier deriva. Los cambios que
+     * se confirman mientras tanto se aplican sobre el resultado, ver {@link CreditPortfolioStats#rebuild}.
+     */
+    @Scheduled(fixedDelayString = "${credit.stats.rebuild-interval:5m}",
+               initialDelayString = "${credit.stats.rebuild-interval:5m}")
+    public void rebuild() {
+        // Del primario: una réplica retrasada descartaría altas ya contadas de forma incremental
+        ReadRouting.onPrimary(() -> snapshotTransaction.execute(status -> {
+            // Conexión obtenida antes de fijar la instantánea, que se toma sin commits en curso
+            jdbcTemplate.execute((ConnectionCallback<Connection>) DataSourceUtils::getTargetConnection);
+            stats.rebuild(() -> jdbcTemplate.queryForObject("select 1", Integer.class), () -> {
+                List<CreditAggregateRow> rows = repository.aggregateByTypeAndStatus();
+                log.debug("Credit portfolio statistics rebuilt - Groups: {}", rows.size());
+                return rows;
+            });
+            return null;
+        }));
+    }
+}
@@ -0,0 +1,267 @@
+package com.bcredits.core.domain.service;
+
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.mapper.CreditMapper;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditAction;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.outbox.CreditOutbox;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.archive.CreditArchive;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail.State;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import com.bcredits.core.infrastructure.metrics.CreditMetrics;
+import com.bcredits.core.infrastructure.repository.CreditRevision;
+import com.bcredits.core.infrastructure.repository.ReactiveCreditRepository;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Versión no bloqueante de las operaciones de {@link CreditService} para el perfil reactive:
+ * mismas reglas de elegibilidad, outbox, estadísticas y caché, con R2DBC en lugar de JPA.
+ * Nada de lo que se ejecuta aquí puede bloquear el event loop; el archivo, que es JPA, se
+ * consulta en {@code boundedElastic}, y la transición de auditoría se inserta con R2DBC en la
+ * misma transacción que la escritura.
+ */
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCreditService {
+
+    private final ReactiveCreditRepository repository;
+    private final CreditMapper mapper;
+    private final CreditRuleEngine ruleEngine;
+    private final CreditCache cache;
+    private final CreditMetrics metrics;
+    private final CreditDecisionLogger decisionLogger;
+    private final CreditPortfolioStats portfolioStats;
+    private final CreditOutbox outbox;
+    private final CreditArchive archive;
+    private final CreditChangeStream changeStream;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
+    private final int maxPageSize;
+
+    public ReactiveCreditService(ReactiveCreditRepository repository,
+                                 CreditMapper mapper,
+                                 CreditRuleEngine ruleEngine,
+                                 CreditCache cache,
+                                 CreditMetrics metrics,
+                                 CreditDecisionLogger decisionLogger,
+                                 CreditPortfolioStats portfolioStats,
+                                 CreditOutbox outbox,
+                                 CreditArchive archive,
+                                 CreditChangeStream changeStream,
+                                 TransactionalOperator transactionalOperator,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${credit.pagination.max-page-size:100}") int maxPageSize) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.ruleEngine = ruleEngine;
+        this.cache = cache;
+        this.metrics = metrics;
+        this.decisionLogger = decisionLogger;
+        this.portfolioStats = portfolioStats;
+        this.outbox = outbox;
+        this.archive = archive;
+        this.changeStream = changeStream;
+        this.transactionalOperator = transactionalOperator;
+        this.meterRegistry = meterRegistry;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Mono<CreditResponseDTO> create(CreditRequestDTO dto) {
+        return timed("create", Mono.defer(() -> {
+            log.debug("Processing credit application for: {}", dto.customerName());
+
+            CreditApplication entity = mapper.toEntity(dto);
+            entity.setStatus(evaluateCreditEligibility(dto));
+
+            return repository.insert(entity)
+                    .flatMap(saved -> publishDecision(CreditOutbox.CREATED, saved)
+                            .then(notifyChange(CreditChange.CREATED, mapper.toResponse(saved)))
+                            .then(repository.insertAuditPending(CreditAuditTrail.pending(CreditAuditAction.CREATED,
+                                    saved.getId(), null, State.of(mapper.toResponse(saved)))))
+                            // Se aplica tras el commit, igual que recordCreated en la pila JPA
+                            .then(portfolioStats.recordCreatedOnCommit(saved.getType(), saved.getStatus(),
+                                    saved.getAmount()))
+                            .thenReturn(saved))
+                    .as(transactionalOperator::transactional)
+                    .map(saved -> {
+                        decisionLogger.decision("created", saved.getId(), dto.type(), dto.amount(), saved.getStatus());
+                        CreditResponseDTO response = mapper.toResponse(saved);
+                        changeStream.publishCommitted(CreditChange.CREATED, response);
+                        return response;
+                    });
+        }));
+    }
+
+    public Mono<CreditPageDTO> findAll(String cursor, int size) {
+        return timed("findAll", Mono.defer(() -> {
+            int pageSize = Math.clamp(size, 1, maxPageSize);
+            long afterId = CreditService.decodeCursor(cursor);
+            log.debug("Fetching credit applications page - After ID: {}, Size: {}", afterId, pageSize);
+
+            // Un registro extra indica si existe una página siguiente
+            return repository.findAfter(afterId, pageSize + 1)
+                    .map(mapper::toResponse)
+                    .collectList()
+                    .map(rows -> toPage(rows, pageSize));
+        }));
+    }
+
+    /**
+     * Todas las solicitudes por orden de id. La base de datos entrega bloques según la demanda del
+     * suscriptor, así que un cliente lento frena la consulta en lugar de acumular filas en memoria.
+     */
+    public Flux<CreditResponseDTO> streamAll() {
+        log.debug("Streaming all credit applications");
+        return repository.streamAllOrderById().map(mapper::toResponse);
+    }
+
+    public Mono<CreditResponseDTO> findById(Long id) {
+        return timed("findById", Mono.defer(() -> {
+            CreditResponseDTO cached = cache.getIfPresent(id);
+            if (cached != null) return Mono.just(cached);
+
+            log.debug("Fetching credit application with ID: {}", id);
+            // Sin el loader bloqueante de la pila JPA: una invalidación durante la lectura descarta el put
+            long stamp = cache.invalidationStamp();
+            return repository.findById(id)
+                    .map(mapper::toResponse)
+                    .switchIfEmpty(Mono.fromCallable(() -> archive.find(id).orElse(null))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .doOnNext(dto -> cache.putIfNotInvalidated(id, dto, stamp))
+                    .switchIfEmpty(Mono.error(() -> notFound(id)));
+        }));
+    }
+
+    /** {@code expectedVersions} como en {@link CreditService#update}. */
+    public Mono<CreditResponseDTO> update(Long id, CreditRequestDTO dto, Collection<Long> expectedVersions) {
+        return timed("update", Mono.defer(() -> {
+            log.debug("Updating credit application ID: {}", id);
+
+            CreditStatus newStatus = evaluateCreditEligibility(dto);
+            Mono<CreditRevision> updated = expectedVersions != null && expectedVersions.isEmpty()
+                    ? Mono.empty()
+                    : repository.updateReturning(id, expectedVersions, dto.customerName(), dto.amount(),
+                            dto.type().name(), newStatus.name());
+            return updated
+                    .flatMap(revision -> outbox.event(CreditOutbox.UPDATED, id, revision.getVersion(),
+                                    revision.getCustomerName(), revision.getAmount(), revision.getType(),
+                                    revision.getStatus())
+                            .map(repository::insertEvent)
+                            .orElse(Mono.empty())
+                            .then(notifyChange(CreditChange.UPDATED, mapper.toResponse(revision)))
+                            .then(repository.insertAuditPending(CreditAuditTrail.pending(CreditAuditAction.UPDATED,
+                                    id, State.previous(revision), State.of(mapper.toResponse(revision)))))
+                            .then(portfolioStats.recordUpdatedOnCommit(revision.getPreviousType(),
+                                    revision.getPreviousStatus(), revision.getPreviousAmount(), revision.getType(),
+                                    revision.getStatus(), revision.getAmount()))
+                            .thenReturn(revision))
+                    .as(transactionalOperator::transactional)
+                    .map(revision -> {
+                        cache.invalidate(id);
+                        decisionLogger.decision("updated", id, dto.type(), dto.amount(), newStatus);
+                        CreditResponseDTO response = mapper.toResponse(revision);
+                        changeStream.publishCommitted(CreditChange.UPDATED, response);
+                        return response;
+                    })
+                    // Solo en el camino de error se consulta la versión actual para distinguir 404 de 412
+                    .switchIfEmpty(repository.findVersionById(id)
+                            .switchIfEmpty(Mono.error(() -> notFound(id)))
+                            .flatMap(currentVersion -> Mono.<CreditResponseDTO>error(
+                                    CreditService.versionMismatch(id, currentVersion, expectedVersions))));
+        }));
+    }
+
+    public Mono<Void> delete(Long id) {
+        return timed("delete", Mono.defer(() -> {
+            log.info("Deleting credit application ID: {}", id);
+            return repository.removeById(id)
+                    .flatMap(removed -> notifyChange(CreditChange.DELETED, CreditService.deleted(id, removed))
+                            .then(repository.insertAuditPending(CreditAuditTrail.pending(CreditAuditAction.DELETED,
+                                    id, State.of(removed), null)))
+                            .then(portfolioStats.recordDeletedOnCommit(removed.getType(), removed.getStatus(),
+                                    removed.getAmount()))
+                            .thenReturn(removed))
+                    .as(transactionalOperator::transactional)
+                    .switchIfEmpty(Mono.error(() -> notFound(id)))
+                    .doOnNext(removed -> {
+                        cache.invalidate(id);
+                        changeStream.publishCommitted(CreditChange.DELETED, CreditService.deleted(id, removed));
+                        log.info("Credit application deleted successfully - ID: {}", id);
+                    })
+                    .then();
+        }));
+    }
+
+    // Con el stream compartido el cambio viaja por NOTIFY en la misma transacción que la escritura
+    private Mono<Void> notifyChange(String event, CreditResponseDTO response) {
+        String payload = changeStream.sharedPayload(event, response);
+        return payload == null ? Mono.empty() : repository.notifyChange(payload);
+    }
+
+    private CreditStatus evaluateCreditEligibility(CreditRequestDTO dto) {
+        CreditStatus status = ruleEngine.evaluate(dto.type(), dto.amount());
+        metrics.recordDecision(dto.type(), status);
+        log.debug("Credit evaluation - Type: {}, Amount: ${}, Status: {}", dto.type(), dto.amount(), status);
+        return status;
+    }
+
+    private Mono<Void> publishDecision(String event, CreditApplication entity) {
+        return outbox.event(event, entity.getId(), entity.getVersion(), entity.getCustomerName(),
+                        entity.getAmount(), entity.getType(), entity.getStatus())
+                .map(repository::insertEvent)
+                .orElse(Mono.empty());
+    }
+
+    private CreditPageDTO toPage(List<CreditResponseDTO> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CreditResponseDTO> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CreditService.encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new CreditPageDTO(content, content.size(), nextCursor);
+    }
+
+    private static EntityNotFoundException notFound(Long id) {
+        log.error("Credit application not found with ID: {}", id);
+        return new EntityNotFoundException("Credit application not found with ID: " + id);
+    }
+
+    // Mismo timer y etiquetas que @Timed en CreditService, que no aplica a Mono
+    private <T> Mono<T> timed(String operation, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono
+                    .doOnSuccess(value -> sample.stop(timer(operation, "none")))
+                    .doOnError(ex -> sample.stop(timer(operation, ex.getClass().getSimpleName())));
+        });
+    }
+
+    private Timer timer(String operation, String exception) {
+        return Timer.builder("credits.operation")
+                .tags("class", ReactiveCreditService.class.getName(), "method", operation,
+                        "exception", exception, "operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,330 @@
+package com.bcredits.core.domain.stats;
+
+import com.bcredits.core.api.dto.CreditStatsCellDTO;
+import com.bcredits.core.api.dto.CreditStatsDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.repository.CreditAggregateRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Conteo y suma de montos por {@link CreditType} × {@link CreditStatus}, mantenidos en memoria.
+ * Los montos se acumulan en centavos sobre {@link LongAdder} para que las escrituras concurrentes
+ * no compitan por un mismo contador. Los cambios se aplican solo tras el commit.
+ *
+ * <p>Cada transacción con cambios abre una ventana de commit, desde antes de confirmar hasta aplicar
+ * sus cambios. {@link #rebuild} fija su instantánea con la entrada de ventanas cerrada y sin ninguna
+ * abierta: un cambio confirmado antes ya está en la instantánea, y uno confirmado después se guarda
+ * para aplicarlo sobre el resultado. Así ninguno se pierde ni se cuenta dos veces.
+ */
+@Component
+public class CreditPortfolioStats {
+
+    private static final CreditType[] TYPES = CreditType.values();
+    private static final CreditStatus[] STATUSES = CreditStatus.values();
+
+    private static final long COMMIT_WAIT_NANOS = 50_000;
+
+    private volatile Cell[][] cells = emptyCells();
+
+    private final Object rebuilds = new Object();
+    private final AtomicInteger committing = new AtomicInteger();
+    // Distinto de null mientras una reconstrucción fija su instantánea; se completa al terminar
+    private volatile CompletableFuture<Void> closed;
+    // Cambios confirmados después de la instantánea de la reconstrucción en curso
+    private volatile List<Delta> replay;
+
+    public void recordCreated(CreditType type, CreditStatus status, BigDecimal amount) {
+        record(new Delta(type, status, amount, 1));
+    }
+
+    public void recordUpdated(CreditType previousType, CreditStatus previousStatus, BigDecimal previousAmount,
+                              CreditType type, CreditStatus status, BigDecimal amount) {
+        record(new Delta(previousType, previousStatus, previousAmount, -1), new Delta(type, status, amount, 1));
+    }
+
+    public void recordDeleted(CreditType type, CreditStatus status, BigDecimal amount) {
+        record(new Delta(type, status, amount, -1));
+    }
+
+    /** Como {@link #recordCreated}, dentro de una transacción de {@code TransactionalOperator}. */
+    public Mono<Void> recordCreatedOnCommit(CreditType type, CreditStatus status, BigDecimal amount) {
+        return recordOnCommit(new Delta(type, status, amount, 1));
+    }
+
+    public Mono<Void> recordUpdatedOnCommit(CreditType previousType, CreditStatus previousStatus,
+                                            BigDecimal previousAmount, CreditType type, CreditStatus status,
+                                            BigDecimal amount) {
+        return recordOnCommit(new Delta(previousType, previousStatus, previousAmount, -1),
+                new Delta(type, status, amount, 1));
+    }
+
+    public Mono<Void> recordDeletedOnCommit(CreditType type, CreditStatus status, BigDecimal amount) {
+        return recordOnCommit(new Delta(type, status, amount, -1));
+    }
+
+    /**
+     * Reemplaza todos los agregados por los resultados de un GROUP BY.
+     *
+     * @param snapshot fija la instantánea de la transacción de lectura; se ejecuta sin ningún commit
+     *                 con cambios en curso, así que debe ser breve y tener ya la conexión
+     * @param aggregate el GROUP BY, leído en esa misma instantánea
+     */
+    public void rebuild(Runnable snapshot, Supplier<List<? extends CreditAggregateRow>> aggregate) {
+        synchronized (rebuilds) {
+            rebuildExclusively(snapshot, aggregate);
+        }
+    }
+
+    private void rebuildExclusively(Runnable snapshot, Supplier<List<? extends CreditAggregateRow>> aggregate) {
+        List<Delta> confirmedAfter = new ArrayList<>();
+        CompletableFuture<Void> gate = new CompletableFuture<>();
+        closed = gate;
+        try {
+            while (committing.get() > 0) {
+                LockSupport.parkNanos(COMMIT_WAIT_NANOS);
+            }
+            snapshot.run();
+            replay = confirmedAfter;
+        } finally {
+            closed = null;
+            gate.complete(null);
+        }
+
+        List<? extends CreditAggregateRow> rows;
+        try {
+            rows = aggregate.get();
+        } catch (RuntimeException e) {
+            replay = null;
+            throw e;
+        }
+        Cell[][] fresh = emptyCells();
+        for (CreditAggregateRow row : rows) {
+            Cell cell = fresh[row.getType().ordinal()][row.getStatus().ordinal()];
+            cell.count.add(row.getCount());
+            cell.cents.add(toCents(row.getTotalAmount()));
+        }
+        synchronized (this) {
+            confirmedAfter.forEach(delta -> delta.applyTo(fresh));
+            cells = fresh;
+            replay = null;
+        }
+    }
+
+    public CreditStatsDTO snapshot() {
+        Cell[][] current = cells;
+        List<CreditStatsCellDTO> breakdown = new ArrayList<>(TYPES.length * STATUSES.length);
+        long totalCount = 0;
+        long totalCents = 0;
+        long approved = 0;
+        long rejected = 0;
+
+        for (CreditType type : TYPES) {
+            for (CreditStatus status : STATUSES) {
+                Cell cell = current[type.ordinal()][status.ordinal()];
+                long count = cell.count.sum();
+                long cents = cell.cents.sum();
+                breakdown.add(new CreditStatsCellDTO(type, status, count, BigDecimal.valueOf(cents, 2)));
+                totalCount += count;
+                totalCents += cents;
+                if (status == CreditStatus.APPROVED) approved += count;
+                if (status == CreditStatus.REJECTED) rejected += count;
+            }
+        }
+
+        long decided = approved + rejected;
+        double approvalRate = decided == 0 ? 0.0 : (double) approved / decided;
+        return new CreditStatsDTO(totalCount, BigDecimal.valueOf(totalCents, 2), approvalRate, breakdown);
+    }
+
+    private void applyCommitted(List<Delta> deltas) {
+        if (replay != null) {
+            synchronized (this) {
+                List<Delta> pending = replay;
+                if (pending != null) pending.addAll(deltas);
+                deltas.forEach(delta -> delta.applyTo(cells));
+            }
+            return;
+        }
+        deltas.forEach(delta -> delta.applyTo(cells));
+    }
+
+    // Redondeo igual que numeric(19,2) en PostgreSQL: el alta llega con el importe sin redondear y la
+    // baja con el que devuelve la base de datos, y ambos deben restar lo mismo
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Abre una ventana de commit, esperando si una reconstrucción está fijando su instantánea. */
+    private void enterCommit() {
+        while (!tryEnterCommit()) {
+            CompletableFuture<Void> gate = closed;
+            if (gate != null) gate.join();
+        }
+    }
+
+    /** Equivalente sin bloquear el hilo, para la pila reactiva. */
+    private Mono<Void> enterCommitAsync() {
+        if (tryEnterCommit()) return Mono.empty();
+        CompletableFuture<Void> gate = closed;
+        return (gate != null ? Mono.fromFuture(gate) : Mono.<Void>empty())
+                .then(Mono.defer(this::enterCommitAsync));
+    }
+
+    private boolean tryEnterCommit() {
+        committing.incrementAndGet();
+        if (closed == null) return true;
+        committing.decrementAndGet();
+        return false;
+    }
+
+    private void leaveCommit() {
+        committing.decrementAndGet();
+    }
+
+    private void record(Delta... deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enterCommit();
+            try {
+                applyCommitted(List.of(deltas));
+            } finally {
+                leaveCommit();
+            }
+            return;
+        }
+        // Una sola ventana por transacción, aunque registre varios cambios
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        Collections.addAll(pending.deltas, deltas);
+    }
+
+    private Mono<Void> recordOnCommit(Delta... deltas) {
+        return org.springframework.transaction.reactive.TransactionSynchronizationManager.forCurrentTransaction()
+                .doOnNext(manager -> {
+                    ReactivePendingDeltas pending = (ReactivePendingDeltas) manager.getResource(this);
+                    if (pending == null) {
+                        pending = new ReactivePendingDeltas(manager);
+                        manager.bindResource(this, pending);
+                        manager.registerSynchronization(pending);
+                    }
+                    Collections.addAll(pending.deltas, deltas);
+                })
+                .then()
+                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> record(deltas)));
+    }
+
+    private static Cell[][] emptyCells() {
+        Cell[][] fresh = new Cell[TYPES.length][STATUSES.length];
+        for (int t = 0; t < TYPES.length; t++) {
+            for (int s = 0; s < STATUSES.length; s++) {
+                fresh[t][s] = new Cell();
+            }
+        }
+        return fresh;
+    }
+
+    private static final class Cell {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder cents = new LongAdder();
+    }
+
+    private record Delta(CreditType type, CreditStatus status, BigDecimal amount, int sign) {
+
+        void applyTo(Cell[][] target) {
+            Cell cell = target[type.ordinal()][status.ordinal()];
+            cell.count.add(sign);
+            cell.cents.add(sign * toCents(amount));
+        }
+    }
+
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final List<Delta> deltas = new ArrayList<>();
+        private boolean entered;
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(CreditPortfolioStats.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CreditPortfolioStats.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            enterCommit();
+            entered = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CreditPortfolioStats.this);
+            if (!entered) return;
+            try {
+                if (status == STATUS_COMMITTED) applyCommitted(deltas);
+            } finally {
+                leaveCommit();
+            }
+        }
+    }
+
+    private final class ReactivePendingDeltas implements org.springframework.transaction.reactive.TransactionSynchronization {
+
+        private final org.springframework.transaction.reactive.TransactionSynchronizationManager manager;
+        private final List<Delta> deltas = new ArrayList<>();
+        private volatile boolean entered;
+
+        private ReactivePendingDeltas(org.springframework.transaction.reactive.TransactionSynchronizationManager manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public Mono<Void> suspend() {
+            return Mono.fromRunnable(() -> manager.unbindResource(CreditPortfolioStats.this));
+        }
+
+        @Override
+        public Mono<Void> resume() {
+            return Mono.fromRunnable(() -> manager.bindResource(CreditPortfolioStats.this, this));
+        }
+
+        @Override
+        public Mono<Void> beforeCommit(boolean readOnly) {
+            return enterCommitAsync().doOnSuccess(ignored -> entered = true);
+        }
+
+        @Override
+        public Mono<Void> afterCompletion(int status) {
+            return Mono.fromRunnable(() -> {
+                manager.unbindResourceIfPossible(CreditPortfolioStats.this);
+                if (!entered) return;
+                try {
+                    if (status == STATUS_COMMITTED) applyCommitted(deltas);
+                } finally {
+                    leaveCommit();
+                }
+            });
+        }
+    }
+}
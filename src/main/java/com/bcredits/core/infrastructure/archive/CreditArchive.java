@@ -0,0 +1,81 @@
+package com.bcredits.core.infrastructure.archive;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditArchiveChunk;
+import com.bcredits.core.infrastructure.repository.CreditArchiveChunkRepository;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Lectura y escritura de {@code credit_archive_chunks}. Cada bloque es NDJSON de
+ * {@link CreditResponseDTO} comprimido con gzip.
+ */
+@Component
+public class CreditArchive {
+
+    private final CreditArchiveChunkRepository repository;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public CreditArchive(CreditArchiveChunkRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.writer = objectMapper.writerFor(CreditResponseDTO.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.reader = objectMapper.readerFor(CreditResponseDTO.class);
+    }
+
+    public CreditArchiveChunk chunk(List<CreditResponseDTO> credits) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (CreditResponseDTO credit : credits) {
+                gzip.write(writer.writeValueAsBytes(credit));
+                gzip.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compress credit archive chunk", e);
+        }
+        return CreditArchiveChunk.builder()
+                .minId(credits.stream().mapToLong(CreditResponseDTO::id).min().orElseThrow())
+                .maxId(credits.stream().mapToLong(CreditResponseDTO::id).max().orElseThrow())
+                .rowCount(credits.size())
+                .oldestCreatedAt(credits.stream().map(CreditResponseDTO::createdAt).min(Comparator.naturalOrder()).orElseThrow())
+                .newestCreatedAt(credits.stream().map(CreditResponseDTO::createdAt).max(Comparator.naturalOrder()).orElseThrow())
+                .payload(bytes.toByteArray())
+                .build();
+    }
+
+    public Optional<CreditResponseDTO> find(Long id) {
+        for (CreditArchiveChunk chunk : repository.findCovering(id)) {
+            Optional<CreditResponseDTO> credit = read(chunk, id);
+            if (credit.isPresent()) return credit;
+        }
+        return Optional.empty();
+    }
+
+    private Optional<CreditResponseDTO> read(CreditArchiveChunk chunk, Long id) {
+        try (MappingIterator<CreditResponseDTO> rows =
+                     reader.readValues(new GZIPInputStream(new ByteArrayInputStream(chunk.getPayload())))) {
+            while (rows.hasNext()) {
+                CreditResponseDTO credit = rows.next();
+                if (id.equals(credit.id())) return Optional.of(credit);
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read credit archive chunk " + chunk.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bcredits.core.infrastructure.archive;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.mapper.CreditMapper;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditArchiveChunk;
+import com.bcredits.core.domain.service.CreditStatsService;
+import com.bcredits.core.infrastructure.metrics.ArchiveMetrics;
+import com.bcredits.core.infrastructure.repository.CreditArchiveChunkRepository;
+import com.bcredits.core.infrastructure.repository.CreditRepository;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mueve cada {@code credit.archive.interval} las solicitudes APPROVED/REJECTED con más de
+ * {@code credit.archive.after} de antigüedad a {@code credit_archive_chunks}. Cada bloque se
+ * escribe y sus filas se borran en la misma transacción. Después se eliminan las particiones
+ * que han quedado vacías. {@code findById} sigue encontrando las solicitudes archivadas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "credit.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditArchiver {
+
+    private final CreditRepository creditRepository;
+    private final CreditArchiveChunkRepository chunkRepository;
+    private final CreditArchive archive;
+    private final CreditMapper mapper;
+    private final CreditStatsService statsService;
+    private final ObjectProvider<CreditPartitionMaintenance> partitions;
+    private final CreditChangeStream changeStream;
+    private final ArchiveMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration after;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public CreditArchiver(CreditRepository creditRepository,
+                          CreditArchiveChunkRepository chunkRepository,
+                          CreditArchive archive,
+                          CreditMapper mapper,
+                          CreditStatsService statsService,
+                          ObjectProvider<CreditPartitionMaintenance> partitions,
+                          CreditChangeStream changeStream,
+                          ArchiveMetrics metrics,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${credit.archive.after:365d}") Duration after,
+                          @Value("${credit.archive.chunk-size:1000}") int chunkSize,
+                          @Value("${credit.archive.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.creditRepository = creditRepository;
+        this.chunkRepository = chunkRepository;
+        this.archive = archive;
+        this.mapper = mapper;
+        this.statsService = statsService;
+        this.partitions = partitions;
+        this.changeStream = changeStream;
+        this.metrics = metrics;
+        this.transactionTemplate = transactionTemplate;
+        this.after = after;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${credit.archive.interval:1h}", initialDelayString = "${credit.archive.interval:1h}")
+    public void run() {
+        archiveDecidedBefore(LocalDateTime.now().minus(after));
+    }
+
+    public long archiveDecidedBefore(LocalDateTime cutoff) {
+        long archived = 0;
+        for (int i = 0; i < maxChunksPerRun; i++) {
+            int rows = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            archived += rows;
+            if (rows < chunkSize) break;
+        }
+        if (archived > 0) {
+            // Las archivadas salen de las estadísticas de la cartera, como en la purga
+            statsService.rebuild();
+            log.info("Credit applications archived - Created before: {}, Archived: {}", cutoff, archived);
+        }
+        CreditPartitionMaintenance maintenance = partitions.getIfAvailable();
+        if (maintenance != null) maintenance.dropEmptyPartitionsBefore(cutoff);
+        return archived;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<CreditApplication> rows = creditRepository.claimDecidedBefore(cutoff, chunkSize);
+        if (rows.isEmpty()) return 0;
+
+        List<CreditResponseDTO> responses = rows.stream().map(mapper::toResponse).toList();
+        CreditArchiveChunk chunk = chunkRepository.save(archive.chunk(responses));
+        creditRepository.deleteAllByIdInBatch(rows.stream().map(CreditApplication::getId).toList());
+        responses.forEach(response -> changeStream.publish(CreditChange.ARCHIVED, response));
+        metrics.recordChunk(rows.size(), chunk.getPayload().length);
+        log.debug("Credit archive chunk written - IDs: {}..{}, Rows: {}, Bytes: {}",
+                chunk.getMinId(), chunk.getMaxId(), rows.size(), chunk.getPayload().length);
+        return rows.size();
+    }
+}
@@ -0,0 +1,137 @@
+package com.bcredits.core.infrastructure.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantiene las particiones mensuales de {@code credits_applications} (PostgreSQL): crea por
+ * adelantado la del mes actual y las de {@code months-ahead} meses siguientes, sacando de la
+ * partición por defecto las filas de cada mes nuevo, y elimina las particiones anteriores al corte
+ * de archivo que han quedado vacías.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "credit.partitions.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditPartitionMaintenance {
+
+    private static final String TABLE = "credits_applications";
+    private static final String DEFAULT_PARTITION = TABLE + "_default";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile(TABLE + "_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+
+    public CreditPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${credit.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(fixedDelayString = "${credit.partitions.check-interval:12h}")
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = TABLE + "_" + month.format(SUFFIX);
+            try {
+                if (exists(name)) continue;
+                int moved = transactionTemplate.execute(status -> createPartition(name, month));
+                if (moved > 0) {
+                    log.info("Created partition {} and moved {} rows out of {}", name, moved, DEFAULT_PARTITION);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not create partition {}, retrying on the next run: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Crea la partición de {@code month} si no existe. Las filas de ese mes que ya estén en la
+     * partición por defecto (fechas más allá de {@code months-ahead}) impedirían un
+     * {@code CREATE TABLE ... PARTITION OF}: se mueven a una tabla nueva, que luego se adjunta.
+     *
+     * @return filas movidas desde la partición por defecto
+     */
+    private int createPartition(String name, YearMonth month) {
+        String from = "'" + month.atDay(1) + "'";
+        String to = "'" + month.plusMonths(1).atDay(1) + "'";
+        // Con la partición por defecto bloqueada ninguna fila del mes puede entrar en ella entre el
+        // traslado y el ATTACH; otra instancia que haga lo mismo espera aquí y vuelve a comprobar
+        jdbcTemplate.execute("set local lock_timeout = '2s'");
+        jdbcTemplate.execute("lock table " + DEFAULT_PARTITION + " in access exclusive mode");
+        if (exists(name)) return 0;
+        jdbcTemplate.execute("create table " + name + " (like " + TABLE + " including defaults including constraints)");
+        int moved = jdbcTemplate.update("with moved as (delete from " + DEFAULT_PARTITION
+                + " where created_at >= " + from + " and created_at < " + to + " returning *)"
+                + " insert into " + name + " select * from moved");
+        // ATTACH crea en la partición los índices de la tabla padre, clave primaria incluida
+        jdbcTemplate.execute("alter table " + TABLE + " attach partition " + name
+                + " for values from (" + from + ") to (" + to + ")");
+        return moved;
+    }
+
+    /**
+     * Elimina las particiones mensuales que terminan antes de {@code cutoff} y no tienen filas.
+     * DROP toma un bloqueo exclusivo de la tabla padre; con lock_timeout no espera tras consultas largas.
+     */
+    public int dropEmptyPartitionsBefore(LocalDateTime cutoff) {
+        LocalDate cutoffDate = cutoff.toLocalDate();
+        int dropped = 0;
+        for (String name : partitions()) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(name);
+            if (!matcher.matches()) continue;
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.plusMonths(1).atDay(1).isAfter(cutoffDate)) continue;
+
+            try {
+                Boolean done = transactionTemplate.execute(status -> {
+                    if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                            "select exists (select 1 from " + name + ")", Boolean.class))) {
+                        return false;
+                    }
+                    jdbcTemplate.execute("set local lock_timeout = '2s'");
+                    jdbcTemplate.execute("drop table " + name);
+                    return true;
+                });
+                if (Boolean.TRUE.equals(done)) {
+                    log.info("Dropped empty partition {}", name);
+                    dropped++;
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not drop partition {}, retrying on the next run: {}", name, e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private boolean exists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, name));
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+                select child.relname
+                  from pg_inherits i
+                  join pg_class parent on parent.oid = i.inhparent
+                  join pg_class child on child.oid = i.inhrelid
+                 where parent.relname = ?""", String.class, TABLE);
+    }
+}
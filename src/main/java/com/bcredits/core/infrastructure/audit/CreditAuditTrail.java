@@ -0,0 +1,361 @@
+package com.bcredits.core.infrastructure.audit;
+
+import com.bcredits.core.api.dto.CreditAuditEntryDTO;
+import com.bcredits.core.api.dto.CreditAuditStateDTO;
+import com.bcredits.core.api.dto.CreditAuditVerificationDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditAuditAction;
+import com.bcredits.core.domain.model.CreditAuditEntry;
+import com.bcredits.core.domain.model.CreditAuditHead;
+import com.bcredits.core.domain.model.CreditAuditPending;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.metrics.AuditMetrics;
+import com.bcredits.core.infrastructure.repository.CreditAuditEntryRepository;
+import com.bcredits.core.infrastructure.repository.CreditAuditHeadRepository;
+import com.bcredits.core.infrastructure.repository.CreditAuditPendingRepository;
+import com.bcredits.core.infrastructure.repository.CreditRemoval;
+import com.bcredits.core.infrastructure.repository.CreditRevision;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Historial de auditoría de las solicitudes en {@code credit_audit_log}. Quien modifica una solicitud
+ * inserta la transición en {@code credit_audit_pending} dentro de su propia transacción, sin esperar
+ * al historial; un único hilo por instancia las mueve en lotes de {@code credit.audit.trail.batch-size},
+ * cada uno en una transacción que bloquea {@code credit_audit_head}, continúa la cadena de hashes y
+ * borra las pendientes escritas. Ninguna transición se descarta: con la base de datos caída o el
+ * proceso muerto quedan en {@code credit_audit_pending} hasta que un escritor vuelva a avanzar.
+ */
+@Slf4j
+@Component
+public class CreditAuditTrail implements DisposableBean {
+
+    static final String GENESIS_HASH = "0".repeat(64);
+
+    private static final long POLL_MILLIS = 200;
+    private static final int VERIFY_PAGE_SIZE = 1000;
+
+    private final CreditAuditEntryRepository entries;
+    private final CreditAuditHeadRepository heads;
+    private final CreditAuditPendingRepository pending;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditMetrics metrics;
+    private final int batchSize;
+    private final Duration maxBackoff;
+    private final Duration shutdownTimeout;
+    private final ExecutorService writer;
+    // Pendientes que quedaban tras el último lote; solo se cuentan si el lote salió completo
+    private final AtomicLong backlog = new AtomicLong();
+    private volatile boolean running = true;
+    private Duration backoff = Duration.ZERO;
+
+    public CreditAuditTrail(CreditAuditEntryRepository entries,
+                            CreditAuditHeadRepository heads,
+                            CreditAuditPendingRepository pending,
+                            EntityManager entityManager,
+                            TransactionTemplate transactionTemplate,
+                            AuditMetrics metrics,
+                            @Value("${credit.audit.trail.batch-size:500}") int batchSize,
+                            @Value("${credit.audit.trail.max-backoff:30s}") Duration maxBackoff,
+                            @Value("${credit.audit.trail.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.entries = entries;
+        this.heads = heads;
+        this.pending = pending;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.batchSize = batchSize;
+        this.maxBackoff = maxBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        metrics.monitorPending(backlog);
+        this.writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("credit-audit-writer").factory());
+        writer.execute(this::run);
+    }
+
+    /**
+     * Inserta la transición en la transacción en curso, que la confirma o la deshace junto con la
+     * escritura de la solicitud; sin transacción abre una propia. {@code before} es null en un alta
+     * y {@code after} en un borrado.
+     */
+    public void record(CreditAuditAction action, Long creditId, State before, State after) {
+        CreditAuditPending transition = pending(action, creditId, before, after);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.persist(transition);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(transition));
+    }
+
+    /**
+     * Fila de {@code credit_audit_pending} para quien la inserta por su cuenta: la pila reactiva lo
+     * hace con R2DBC dentro de su transacción.
+     */
+    public static CreditAuditPending pending(CreditAuditAction action, Long creditId, State before, State after) {
+        CreditAuditPending.CreditAuditPendingBuilder transition = CreditAuditPending.builder()
+                .creditId(creditId)
+                .action(action)
+                .occurredAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        if (before != null) {
+            transition.oldCustomerName(before.customerName()).oldAmount(before.amount()).oldType(before.type())
+                    .oldStatus(before.status()).oldVersion(before.version());
+        }
+        if (after != null) {
+            transition.newCustomerName(after.customerName()).newAmount(after.amount()).newType(after.type())
+                    .newStatus(after.status()).newVersion(after.version());
+        }
+        return transition.build();
+    }
+
+    /**
+     * Transiciones escritas de una solicitud, en orden. Las confirmadas hace menos de un lote aún no aparecen.
+     */
+    public List<CreditAuditEntryDTO> history(Long creditId) {
+        return entries.findByCreditIdOrderBySeqAsc(creditId).stream()
+                .map(CreditAuditTrail::toDto)
+                .toList();
+    }
+
+    /**
+     * Recorre la cadena completa hasta {@code credit_audit_head} y devuelve el primer eslabón que falta,
+     * no enlaza con el anterior o no corresponde a su contenido.
+     */
+    public CreditAuditVerificationDTO verify() {
+        CreditAuditHead head = heads.findById(CreditAuditHead.ID)
+                .orElseGet(() -> new CreditAuditHead(CreditAuditHead.ID, 0, GENESIS_HASH));
+        long seq = 0;
+        String hash = GENESIS_HASH;
+        while (seq < head.getLastSeq()) {
+            List<CreditAuditEntry> page = entries.findBySeqGreaterThanOrderBySeqAsc(seq, Limit.of(VERIFY_PAGE_SIZE));
+            if (page.isEmpty()) break;
+            for (CreditAuditEntry entry : page) {
+                // Lo escrito después de leer la cabecera se comprobará en la siguiente verificación
+                if (seq == head.getLastSeq()) break;
+                if (entry.getSeq() != seq + 1) {
+                    return broken(seq, seq + 1, "Audit entry " + (seq + 1) + " is missing");
+                }
+                if (!entry.getPrevHash().equals(hash)) {
+                    return broken(seq, entry.getSeq(), "Audit entry does not link to the previous one");
+                }
+                if (!hash(entry).equals(entry.getHash())) {
+                    return broken(seq, entry.getSeq(), "Audit entry does not match its hash");
+                }
+                seq = entry.getSeq();
+                hash = entry.getHash();
+            }
+        }
+        if (seq != head.getLastSeq()) {
+            return broken(seq, seq + 1, "Audit trail ends before its recorded head at " + head.getLastSeq());
+        }
+        if (!hash.equals(head.getLastHash())) {
+            return broken(seq, seq, "Audit trail does not end at its recorded head");
+        }
+        return new CreditAuditVerificationDTO(true, seq, null, null);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // El escritor vacía lo pendiente antes de terminar; lo que no llegue lo escribirá el siguiente
+        running = false;
+        writer.shutdown();
+        if (!writer.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Audit trail writer did not finish in {} - pending transitions stay in credit_audit_pending",
+                    shutdownTimeout);
+            writer.shutdownNow();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                if (writeNext() < batchSize) Thread.sleep(POLL_MILLIS);
+            }
+            // Vaciado final; si la base de datos no responde, lo pendiente se queda en la tabla
+            int written;
+            do {
+                written = writeNext();
+            } while (written == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int writeNext() throws InterruptedException {
+        try {
+            long start = System.nanoTime();
+            Integer written = transactionTemplate.execute(status -> append());
+            if (written != null && written > 0) {
+                metrics.recordBatch(written, System.nanoTime() - start);
+            }
+            backoff = Duration.ZERO;
+            return written == null ? 0 : written;
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            if (!running) {
+                log.error("Audit trail stopped - pending transitions stay in credit_audit_pending", e);
+                return 0;
+            }
+            backoff = backoff.isZero() ? Duration.ofMillis(POLL_MILLIS) : min(backoff.multipliedBy(2), maxBackoff);
+            log.warn("Audit trail batch failed, retrying in {} - {}", backoff, e.getMessage());
+            Thread.sleep(backoff.toMillis());
+            return 0;
+        }
+    }
+
+    private int append() {
+        // Sin pendientes no se toma el bloqueo de la cabecera
+        if (pending.findByOrderByIdAsc(Limit.of(1)).isEmpty()) {
+            backlog.set(0);
+            return 0;
+        }
+        // El bloqueo de la cabecera ordena los lotes de todas las instancias en una única cadena;
+        // las pendientes se leen después porque otra instancia puede haberlas escrito mientras tanto
+        CreditAuditHead head = heads.lockById(CreditAuditHead.ID)
+                .orElseGet(() -> heads.save(new CreditAuditHead(CreditAuditHead.ID, 0, GENESIS_HASH)));
+        List<CreditAuditPending> transitions = pending.findByOrderByIdAsc(Limit.of(batchSize));
+        long seq = head.getLastSeq();
+        String hash = head.getLastHash();
+        for (CreditAuditPending transition : transitions) {
+            CreditAuditEntry entry = toEntry(transition, ++seq, hash);
+            hash = hash(entry);
+            entry.setHash(hash);
+            entityManager.persist(entry);
+        }
+        pending.deleteAllByIdInBatch(transitions.stream().map(CreditAuditPending::getId).toList());
+        head.setLastSeq(seq);
+        head.setLastHash(hash);
+        backlog.set(transitions.size() < batchSize ? 0 : pending.count());
+        return transitions.size();
+    }
+
+    private static CreditAuditEntry toEntry(CreditAuditPending transition, long seq, String prevHash) {
+        return CreditAuditEntry.builder()
+                .seq(seq)
+                .creditId(transition.getCreditId())
+                .action(transition.getAction())
+                .oldCustomerName(transition.getOldCustomerName())
+                .oldAmount(transition.getOldAmount())
+                .oldType(transition.getOldType())
+                .oldStatus(transition.getOldStatus())
+                .oldVersion(transition.getOldVersion())
+                .newCustomerName(transition.getNewCustomerName())
+                .newAmount(transition.getNewAmount())
+                .newType(transition.getNewType())
+                .newStatus(transition.getNewStatus())
+                .newVersion(transition.getNewVersion())
+                .occurredAt(transition.getOccurredAt())
+                .prevHash(prevHash)
+                .build();
+    }
+
+    /**
+     * SHA-256 de la entrada y del hash anterior. Cada campo va precedido de su longitud, de modo que
+     * ningún valor puede desplazarse al campo vecino sin cambiar el resultado.
+     */
+    static String hash(CreditAuditEntry entry) {
+        MessageDigest digest = sha256();
+        update(digest, entry.getPrevHash());
+        update(digest, entry.getSeq());
+        update(digest, entry.getCreditId());
+        update(digest, entry.getAction());
+        update(digest, entry.getOldCustomerName());
+        update(digest, entry.getOldAmount());
+        update(digest, entry.getOldType());
+        update(digest, entry.getOldStatus());
+        update(digest, entry.getOldVersion());
+        update(digest, entry.getNewCustomerName());
+        update(digest, entry.getNewAmount());
+        update(digest, entry.getNewType());
+        update(digest, entry.getNewStatus());
+        update(digest, entry.getNewVersion());
+        update(digest, entry.getOccurredAt());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, Object value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        String text = value instanceof BigDecimal amount ? amount.toPlainString() : value.toString();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static CreditAuditVerificationDTO broken(long checked, long brokenAtSeq, String reason) {
+        log.warn("Audit trail verification failed at entry {} - {}", brokenAtSeq, reason);
+        return new CreditAuditVerificationDTO(false, checked, brokenAtSeq, reason);
+    }
+
+    private static CreditAuditEntryDTO toDto(CreditAuditEntry entry) {
+        CreditAuditStateDTO before = entry.getOldStatus() == null ? null : new CreditAuditStateDTO(
+                entry.getOldCustomerName(), entry.getOldAmount(), entry.getOldType(), entry.getOldStatus(),
+                entry.getOldVersion());
+        CreditAuditStateDTO after = entry.getNewStatus() == null ? null : new CreditAuditStateDTO(
+                entry.getNewCustomerName(), entry.getNewAmount(), entry.getNewType(), entry.getNewStatus(),
+                entry.getNewVersion());
+        return new CreditAuditEntryDTO(entry.getSeq(), entry.getAction(), before, after, entry.getOccurredAt(),
+                entry.getPrevHash(), entry.getHash(), hash(entry).equals(entry.getHash()));
+    }
+
+    /**
+     * Valores de una solicitud en un extremo de la transición. El importe se normaliza a la escala de
+     * la columna para que el hash calculado al escribir coincida con el de la fila leída.
+     */
+    public record State(String customerName, BigDecimal amount, CreditType type, CreditStatus status, Long version) {
+
+        public State {
+            amount = amount == null ? null : amount.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        public static State of(CreditResponseDTO credit) {
+            return new State(credit.customerName(), credit.amount(), credit.type(), credit.status(), credit.version());
+        }
+
+        public static State of(CreditRemoval removed) {
+            return new State(removed.getCustomerName(), removed.getAmount(), removed.getType(), removed.getStatus(),
+                    removed.getVersion());
+        }
+
+        public static State previous(CreditRevision revision) {
+            return new State(revision.getPreviousCustomerName(), revision.getPreviousAmount(),
+                    revision.getPreviousType(), revision.getPreviousStatus(), revision.getPreviousVersion());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.bcredits.core.infrastructure.cache;
+
+import com.bcredits.core.api.dto.CacheStatsDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.SecondLevelCacheStatsDTO;
+import com.bcredits.core.config.SecondLevelCacheConfig;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché en proceso de {@link CreditResponseDTO} por id, acotada por tamaño y TTL. Invalidar una
+ * solicitud también la desaloja de la caché de segundo nivel de Hibernate y vacía las consultas
+ * cacheadas: las escrituras nativas ({@code UPDATE ... RETURNING}, R2DBC) no pasan por Hibernate.
+ */
+@Component
+public class CreditCache {
+
+    private final Cache<Long, CreditResponseDTO> cache;
+    private final SessionFactoryImplementor sessionFactory;
+    // Se incrementa antes de cada invalidación; ver putIfNotInvalidated
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CreditCache(long maxSize, Duration ttl) {
+        this(maxSize, ttl, null);
+    }
+
+    @Autowired
+    public CreditCache(@Value("${credit.cache.max-size:10000}") long maxSize,
+                       @Value("${credit.cache.ttl:60s}") Duration ttl,
+                       EntityManagerFactory entityManagerFactory) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.sessionFactory = entityManagerFactory != null ? entityManagerFactory.unwrap(SessionFactoryImplementor.class) : null;
+    }
+
+    public CreditResponseDTO get(Long id, Function<Long, CreditResponseDTO> loader) {
+        return cache.get(id, loader);
+    }
+
+    // Para lectores reactivos, que no pueden bloquear dentro del loader
+    public CreditResponseDTO getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Marca que un lector reactivo toma antes de ir a la base de datos; se pasa después a
+     * {@link #putIfNotInvalidated}.
+     */
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * Guarda lo leído solo si no hubo ninguna invalidación desde {@code stamp}: una escritura
+     * confirmada durante la lectura no puede quedar tapada por la fila anterior hasta el TTL.
+     * La segunda comprobación cubre una invalidación entre la primera y el put.
+     */
+    public void putIfNotInvalidated(Long id, CreditResponseDTO dto, long stamp) {
+        if (invalidations.get() != stamp) return;
+        cache.put(id, dto);
+        if (invalidations.get() != stamp) {
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Invalida la entrada de inmediato y de nuevo al terminar la transacción activa, para que
+     * una lectura concurrente que la haya repoblado con el valor previo al commit no sobreviva.
+     */
+    public void invalidate(Long id) {
+        invalidate(List.of(id));
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        evict(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(ids);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+        if (sessionFactory != null) {
+            sessionFactory.getCache().evictEntityData(CreditApplication.class);
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        }
+    }
+
+    // Tras una inserción solo pueden quedar obsoletas las consultas
+    public void invalidateQueries() {
+        if (sessionFactory != null) {
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        }
+    }
+
+    private void evict(Collection<Long> ids) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(ids);
+        if (sessionFactory != null) {
+            ids.forEach(id -> sessionFactory.getCache().evictEntityData(CreditApplication.class, id));
+            sessionFactory.getCache().evictDefaultQueryRegion();
+        }
+    }
+
+    public CacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsDTO(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                cache.estimatedSize(),
+                stats.hitRate()
+        );
+    }
+
+    public SecondLevelCacheStatsDTO secondLevelStats() {
+        if (sessionFactory == null || !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return SecondLevelCacheStatsDTO.DISABLED;
+        }
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheRegionStatistics entity = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.CREDIT_REGION);
+        long queryHits = statistics.getQueryCacheHitCount();
+        long queryMisses = statistics.getQueryCacheMissCount();
+        return new SecondLevelCacheStatsDTO(
+                true,
+                statistics.isStatisticsEnabled(),
+                entity.getHitCount(),
+                entity.getMissCount(),
+                entity.getPutCount(),
+                ratio(entity.getHitCount(), entity.getMissCount()),
+                queryHits,
+                queryMisses,
+                statistics.getQueryCachePutCount(),
+                ratio(queryHits, queryMisses)
+        );
+    }
+
+    private static double ratio(long hits, long misses) {
+        return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public Cache<Long, CreditResponseDTO> nativeCache() {
+        return cache;
+    }
+}
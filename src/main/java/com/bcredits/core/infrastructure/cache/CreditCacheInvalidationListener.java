@@ -0,0 +1,74 @@
+package com.bcredits.core.infrastructure.cache;
+
+import com.bcredits.core.infrastructure.metrics.CacheInvalidationMetrics;
+import com.bcredits.core.infrastructure.notify.PostgresChannelListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Escucha el canal {@code credit_cache} que alimentan los triggers de credits_applications (V6) y
+ * aplica cada notificación a {@link CreditCache}: así una escritura en otra instancia, o directa en
+ * la base de datos, no deja datos obsoletos en esta hasta que expire el TTL.
+ * Lo que se notifica mientras está desconectada se pierde, así que cada (re)conexión vacía las cachés.
+ */
+@Component
+@ConditionalOnProperty(name = "credit.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditCacheInvalidationListener extends PostgresChannelListener {
+
+    public static final String CHANNEL = "credit_cache";
+    static final String ALL = "*";
+
+    private final CreditCache cache;
+    private final CacheInvalidationMetrics metrics;
+
+    public CreditCacheInvalidationListener(CreditCache cache,
+                                           CacheInvalidationMetrics metrics,
+                                           DataSourceProperties dataSource,
+                                           @Value("${credit.cache.invalidation.keepalive:30s}") Duration keepalive,
+                                           @Value("${credit.cache.invalidation.max-backoff:30s}") Duration maxBackoff) {
+        super(CHANNEL, "credit-cache-listener", dataSource, keepalive, maxBackoff);
+        this.cache = cache;
+        this.metrics = metrics;
+        start();
+    }
+
+    @Override
+    protected void onConnected(boolean reconnected) {
+        cache.invalidateAll();
+        metrics.updateConnected(true);
+        if (reconnected) metrics.recordReconnect();
+    }
+
+    @Override
+    protected void onDisconnected() {
+        metrics.updateConnected(false);
+    }
+
+    /**
+     * Payload de credit_cache_notify(): vacío tras inserciones, ids separados por comas tras
+     * modificaciones y borrados, {@code *} para vaciarlo todo.
+     */
+    @Override
+    protected void onNotification(String payload) {
+        if (payload == null || payload.isEmpty()) {
+            cache.invalidateQueries();
+            metrics.recordQueries();
+        } else if (ALL.equals(payload)) {
+            cache.invalidateAll();
+            metrics.recordAll();
+        } else {
+            List<Long> ids = new ArrayList<>();
+            for (String id : payload.split(",")) {
+                ids.add(Long.valueOf(id));
+            }
+            cache.invalidate(ids);
+            metrics.recordEntries();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registra cuánto esperan los hilos por una conexión de Hikari y reenvía cada evento al
+ * tracker de Micrometer, de modo que las métricas hikaricp.* siguen publicándose.
+ * Cada pool que lo usa recibe su propio {@link PoolTracker}; los totales suman todos los pools.
+ */
+public class ConnectionWaitTracker implements MetricsTrackerFactory {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, PoolTracker> pools = new ConcurrentSkipListMap<>();
+
+    public ConnectionWaitTracker(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        IMetricsTracker delegate = registry == null
+                ? new IMetricsTracker() { }
+                : new MicrometerMetricsTrackerFactory(registry).create(poolName, poolStats);
+        PoolTracker tracker = new PoolTracker(poolName, poolStats, delegate);
+        pools.put(poolName, tracker);
+        return tracker;
+    }
+
+    /** Pools abiertos, por nombre. */
+    public Collection<PoolTracker> pools() {
+        return pools.values();
+    }
+
+    public long acquiredCount() {
+        long count = 0;
+        for (PoolTracker pool : pools.values()) count += pool.acquiredCount();
+        return count;
+    }
+
+    public long averageAcquireMicros() {
+        long count = 0;
+        long nanos = 0;
+        for (PoolTracker pool : pools.values()) {
+            count += pool.acquired.sum();
+            nanos += pool.acquireNanos.sum();
+        }
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(nanos / count);
+    }
+
+    public long maxAcquireMicros() {
+        long max = 0;
+        for (PoolTracker pool : pools.values()) max = Math.max(max, pool.maxAcquireMicros());
+        return max;
+    }
+
+    public long timeoutCount() {
+        long count = 0;
+        for (PoolTracker pool : pools.values()) count += pool.timeoutCount();
+        return count;
+    }
+
+    public int activeConnections() {
+        int count = 0;
+        for (PoolTracker pool : pools.values()) count += pool.activeConnections();
+        return count;
+    }
+
+    public int idleConnections() {
+        int count = 0;
+        for (PoolTracker pool : pools.values()) count += pool.idleConnections();
+        return count;
+    }
+
+    public int pendingThreads() {
+        int count = 0;
+        for (PoolTracker pool : pools.values()) count += pool.pendingThreads();
+        return count;
+    }
+
+    /** Esperas y estado de un pool. */
+    public final class PoolTracker implements IMetricsTracker {
+
+        private final String name;
+        private final PoolStats poolStats;
+        private final IMetricsTracker delegate;
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder timeouts = new LongAdder();
+
+        private PoolTracker(String name, PoolStats poolStats, IMetricsTracker delegate) {
+            this.name = name;
+            this.poolStats = poolStats;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquired.increment();
+            acquireNanos.add(elapsedAcquiredNanos);
+            maxAcquireNanos.accumulate(elapsedAcquiredNanos);
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            delegate.recordConnectionTimeout();
+        }
+
+        @Override
+        public void close() {
+            pools.remove(name, this);
+            delegate.close();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long acquiredCount() {
+            return acquired.sum();
+        }
+
+        public long averageAcquireMicros() {
+            long count = acquired.sum();
+            return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(acquireNanos.sum() / count);
+        }
+
+        public long maxAcquireMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(maxAcquireNanos.get());
+        }
+
+        public long timeoutCount() {
+            return timeouts.sum();
+        }
+
+        public int activeConnections() {
+            return poolStats.getActiveConnections();
+        }
+
+        public int idleConnections() {
+            return poolStats.getIdleConnections();
+        }
+
+        public int pendingThreads() {
+            return poolStats.getPendingThreads();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Las transacciones de solo lectura que pueden ir a una réplica consultan la caché de segundo nivel
+ * pero no la llenan: una réplica con retraso dejaría en la región, hasta su TTL, la fila anterior a
+ * una escritura cuya invalidación ya se hizo. La llenan las escrituras y las lecturas dentro de
+ * {@link ReadRouting#onPrimary}.
+ */
+public class ReadReplicaJpaTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !ReadRouting.primaryForced()) {
+            session().setCacheMode(CacheMode.GET);
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        // Un EntityManager ligado fuera de la transacción no conserva el modo
+        if (TransactionSynchronizationManager.hasResource(obtainEntityManagerFactory())) {
+            session().setCacheMode(CacheMode.NORMAL);
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private Session session() {
+        EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        return holder.getEntityManager().unwrap(Session.class);
+    }
+}
@@ -0,0 +1,22 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de lectura. Sin usuario ni contraseña propios se usan los de {@code spring.datasource}.
+ */
+@ConfigurationProperties(prefix = "credit.datasource.replicas")
+public record ReadReplicaProperties(
+        boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int poolSize,
+        @DefaultValue("2s") Duration connectionTimeout,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("1s") Duration lagCheckInterval
+) {}
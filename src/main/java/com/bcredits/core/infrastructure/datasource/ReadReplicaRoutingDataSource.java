@@ -0,0 +1,98 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import com.bcredits.core.infrastructure.metrics.ReplicaRoutingMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reparte las transacciones de solo lectura entre las réplicas disponibles (round-robin) y envía
+ * el resto al primario. Una réplica caída o con más retraso que {@code maxLag} se salta; si no
+ * queda ninguna, la lectura va al primario.
+ * <p>
+ * Debe usarse detrás de un {@code LazyConnectionDataSourceProxy}: la conexión se pide en la
+ * primera sentencia, cuando el flag de solo lectura de la transacción ya está fijado.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final long maxLagMillis;
+    private final ReplicaRoutingMetrics metrics;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, Duration maxLag,
+                                        ReplicaRoutingMetrics metrics) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.metrics = metrics;
+        this.replicas.forEach(metrics::registerReplica);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        ReplicaPool replica = ReadRouting.primaryForced() ? null : selectReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource().getConnection();
+                metrics.recordRead(replica.name());
+                return connection;
+            } catch (SQLException e) {
+                // Se reactivará en la siguiente medición correcta del monitor
+                replica.markDown();
+                log.warn("Replica {} unavailable, reading from primary: {}", replica.name(), e.getMessage());
+                metrics.recordFallback("error");
+            }
+        }
+        Connection connection = primary.getConnection();
+        metrics.recordRead(PRIMARY);
+        return connection;
+    }
+
+    public List<ReplicaPool> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private ReplicaPool selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        boolean lagging = false;
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (!replica.available()) continue;
+            if (replica.lagMillis() <= maxLagMillis) return replica;
+            lagging = true;
+        }
+        metrics.recordFallback(lagging ? "lag" : "unavailable");
+        return null;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (ReplicaPool replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
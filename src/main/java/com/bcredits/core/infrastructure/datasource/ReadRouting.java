@@ -0,0 +1,30 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Envía al primario las lecturas que deben ver escrituras recientes aunque se ejecuten en una
+ * transacción de solo lectura. Solo afecta a conexiones obtenidas dentro de {@code read}: una
+ * transacción que ya tiene conexión la conserva.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> read) {
+        boolean nested = PRIMARY.get() != null;
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (!nested) PRIMARY.remove();
+        }
+    }
+
+    static boolean primaryForced() {
+        return PRIMARY.get() != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Mide cada {@code lag-check-interval} el retraso de replicación de cada réplica.
+ * <p>
+ * En PostgreSQL una réplica que ya reprodujo la posición WAL actual del primario tiene retraso 0;
+ * si no, el retraso es el tiempo desde la última transacción reproducida. Con el primario inactivo
+ * esa cifra crece aunque la réplica esté al día, así que la comparación de LSN va primero.
+ * Otras bases (H2 en pruebas) y servidores que no están en recuperación cuentan con retraso 0.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN CAST(? AS pg_lsn) <= pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final int queryTimeoutSeconds;
+
+    public ReplicaLagMonitor(DataSource primary, List<ReplicaPool> replicas, Duration queryTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.queryTimeoutSeconds = (int) Math.max(1, queryTimeout.toSeconds());
+    }
+
+    @Scheduled(fixedDelayString = "${credit.datasource.replicas.lag-check-interval:1s}")
+    public void check() {
+        String primaryLsn = primaryLsn();
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection()) {
+                Duration lag = isPostgres(connection) ? lag(connection, primaryLsn) : Duration.ZERO;
+                if (!replica.available()) {
+                    log.info("Replica {} available - Lag: {} ms", replica.name(), lag.toMillis());
+                }
+                replica.update(lag);
+            } catch (SQLException | RuntimeException e) {
+                if (replica.available()) {
+                    log.warn("Replica {} marked unavailable: {}", replica.name(), e.getMessage());
+                }
+                replica.markDown();
+            }
+        }
+    }
+
+    private String primaryLsn() {
+        try (Connection connection = primary.getConnection()) {
+            if (!isPostgres(connection)) return null;
+            try (PreparedStatement statement = connection.prepareStatement(PRIMARY_LSN_SQL)) {
+                statement.setQueryTimeout(queryTimeoutSeconds);
+                try (ResultSet rs = statement.executeQuery()) {
+                    return rs.next() ? rs.getString(1) : null;
+                }
+            }
+        } catch (SQLException e) {
+            // Sin LSN del primario el retraso se estima solo con la marca de tiempo de la réplica
+            log.debug("Primary WAL position unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Duration lag(Connection connection, String primaryLsn) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(REPLICA_LAG_SQL)) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            statement.setString(1, primaryLsn);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return Duration.ofMillis(rs.getLong(1));
+            }
+        }
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+}
@@ -0,0 +1,47 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Pool de una réplica con el último estado medido por {@link ReplicaLagMonitor}.
+ * Hasta la primera medición la réplica no recibe lecturas.
+ */
+public class ReplicaPool {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean available;
+    private volatile long lagMillis;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean available() {
+        return available;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    public void update(Duration lag) {
+        this.lagMillis = lag.toMillis();
+        this.available = true;
+    }
+
+    public void markDown() {
+        this.available = false;
+    }
+}
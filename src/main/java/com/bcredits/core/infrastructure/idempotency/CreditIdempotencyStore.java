@@ -0,0 +1,193 @@
+package com.bcredits.core.infrastructure.idempotency;
+
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.exception.IdempotencyKeyReusedException;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditIdempotencyKey;
+import com.bcredits.core.infrastructure.datasource.ReadRouting;
+import com.bcredits.core.infrastructure.repository.CreditIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicación de altas por {@code Idempotency-Key}. Las respuestas recientes se sirven desde una
+ * caché en memoria acotada por tamaño y TTL, sin tocar la base de datos; tras una expulsión, un
+ * reinicio o en otra instancia se recuperan de {@code credit_idempotency_keys}. Las peticiones
+ * concurrentes con la misma clave en esta instancia esperan a la primera en lugar de repetir el alta.
+ */
+@Slf4j
+@Component
+public class CreditIdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final CreditIdempotencyKeyRepository repository;
+    private final ObjectWriter responseWriter;
+    private final ObjectReader responseReader;
+    private final Cache<String, StoredResponse> memory;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    public CreditIdempotencyStore(CreditIdempotencyKeyRepository repository,
+                                  ObjectMapper objectMapper,
+                                  @Value("${credit.idempotency.memory.max-size:10000}") long memoryMaxSize,
+                                  @Value("${credit.idempotency.memory.ttl:10m}") Duration memoryTtl,
+                                  @Value("${credit.idempotency.ttl:24h}") Duration ttl) {
+        this.repository = repository;
+        this.responseWriter = objectMapper.writerFor(CreditResponseDTO.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.responseReader = objectMapper.readerFor(CreditResponseDTO.class);
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(memoryMaxSize)
+                .expireAfterWrite(memoryTtl)
+                .build();
+        this.ttl = ttl;
+    }
+
+    /**
+     * Ejecuta {@code create} una sola vez por clave; las repeticiones devuelven la respuesta original.
+     * {@code create} debe llamar a {@link #record} dentro de su transacción.
+     */
+    public IdempotentResult execute(String key, CreditRequestDTO request, Supplier<CreditResponseDTO> create) {
+        validateKey(key);
+        String requestHash = fingerprint(request);
+
+        StoredResponse cached = memory.getIfPresent(key);
+        if (cached != null) return replay(key, requestHash, cached);
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return replay(key, requestHash, await(running));
+
+        try {
+            StoredResponse stored = Optional.ofNullable(memory.getIfPresent(key)).or(() -> load(key)).orElse(null);
+            boolean replayed = stored != null;
+            if (stored == null) {
+                try {
+                    stored = new StoredResponse(requestHash, create.get());
+                } catch (DataIntegrityViolationException e) {
+                    // Otra instancia confirmó la misma clave primero; su alta se conserva y la nuestra se revirtió
+                    stored = load(key).orElseThrow(() -> e);
+                    replayed = true;
+                }
+            }
+            memory.put(key, stored);
+            mine.complete(stored);
+            return replayed ? replay(key, requestHash, stored) : new IdempotentResult(stored.response(), false);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Guarda la respuesta en la transacción del alta y la vuelca de inmediato para que una clave
+     * duplicada falle aquí, revirtiendo también la solicitud. Una fila caducada con la misma clave,
+     * que la purga aún no ha borrado, se elimina antes: {@link #load} ya no la tiene en cuenta.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String key, CreditRequestDTO request, CreditResponseDTO response) {
+        repository.deleteExpired(key, LocalDateTime.now().minus(ttl));
+        repository.saveAndFlush(CreditIdempotencyKey.builder()
+                .id(key)
+                .requestHash(fingerprint(request))
+                .creditId(response.id())
+                .response(serialize(response))
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${credit.idempotency.purge-interval:1h}",
+               initialDelayString = "${credit.idempotency.purge-interval:1h}")
+    public void purgeExpired() {
+        int deleted = repository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        log.debug("Expired idempotency keys purged - Deleted: {}", deleted);
+    }
+
+    private Optional<StoredResponse> load(String key) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        // En el primario: la clave puede haberla confirmado otra instancia hace milisegundos
+        return ReadRouting.onPrimary(() -> repository.findById(key))
+                .filter(row -> row.getCreatedAt().isAfter(cutoff))
+                .map(row -> new StoredResponse(row.getRequestHash(), deserialize(row.getResponse())));
+    }
+
+    private static IdempotentResult replay(String key, String requestHash, StoredResponse stored) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException("Idempotency-Key '" + key + "' was already used with a different request");
+        }
+        log.debug("Replaying idempotent response - Key: {}, ID: {}", key, stored.response().id());
+        return new IdempotentResult(stored.response(), true);
+    }
+
+    private static StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestParameterException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    static String fingerprint(CreditRequestDTO request) {
+        // Importes equivalentes (100 y 100.00) producen la misma huella
+        String canonical = request.customerName() + '\n'
+                + request.amount().stripTrailingZeros().toPlainString() + '\n'
+                + request.type();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String serialize(CreditResponseDTO response) {
+        try {
+            return responseWriter.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent response for credit " + response.id(), e);
+        }
+    }
+
+    private CreditResponseDTO deserialize(String json) {
+        try {
+            return responseReader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+
+    private record StoredResponse(String requestHash, CreditResponseDTO response) {}
+}
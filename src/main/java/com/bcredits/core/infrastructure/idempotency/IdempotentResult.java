@@ -0,0 +1,8 @@
+package com.bcredits.core.infrastructure.idempotency;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+
+public record IdempotentResult(
+        CreditResponseDTO response,
+        boolean replayed
+) {}
@@ -0,0 +1,155 @@
+package com.bcredits.core.infrastructure.importer;
+
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.domain.model.CreditType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Convierte una línea del fichero de importación en un {@link CreditRequestDTO} o en los motivos por
+ * los que no se pudo leer. Sin estado mutable: los hilos de evaluación comparten la instancia.
+ */
+abstract class CreditImportParser {
+
+    record Row(CreditRequestDTO request, Map<String, String> errors) {
+
+        static Row of(CreditRequestDTO request) {
+            return new Row(request, Map.of());
+        }
+
+        static Row rejected(Map<String, String> errors) {
+            return new Row(null, errors);
+        }
+    }
+
+    abstract Row parse(String line);
+
+    /**
+     * CSV con cabecera; las columnas {@code customerName}, {@code amount} y {@code type} pueden ir en
+     * cualquier orden. Admite campos entre comillas dobles, sin saltos de línea dentro de un campo.
+     */
+    static CreditImportParser csv(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import file is empty");
+        }
+        // Sin el BOM que añaden algunas hojas de cálculo al exportar
+        List<String> columns = splitCsv(header.replace("\uFEFF", "").strip()).stream()
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .toList();
+        int name = columns.indexOf("customername");
+        int amount = columns.indexOf("amount");
+        int type = columns.indexOf("type");
+        if (name < 0 || amount < 0 || type < 0) {
+            throw new IllegalArgumentException("CSV header must contain customerName, amount and type: " + header);
+        }
+        return new Csv(columns.size(), name, amount, type);
+    }
+
+    static CreditImportParser ndjson(ObjectReader reader) {
+        return new Ndjson(reader.forType(CreditRequestDTO.class));
+    }
+
+    private static final class Csv extends CreditImportParser {
+
+        private final int columns;
+        private final int name;
+        private final int amount;
+        private final int type;
+
+        private Csv(int columns, int name, int amount, int type) {
+            this.columns = columns;
+            this.name = name;
+            this.amount = amount;
+            this.type = type;
+        }
+
+        @Override
+        Row parse(String line) {
+            List<String> fields = splitCsv(line);
+            if (fields.size() != columns) {
+                return Row.rejected(Map.of("row", "Se esperaban " + columns + " columnas y hay " + fields.size()));
+            }
+            Map<String, String> errors = new LinkedHashMap<>();
+            BigDecimal parsedAmount = null;
+            String rawAmount = fields.get(amount);
+            if (!rawAmount.isBlank()) {
+                try {
+                    parsedAmount = new BigDecimal(rawAmount.strip());
+                } catch (NumberFormatException ex) {
+                    errors.put("amount", "El monto debe ser numérico");
+                }
+            }
+            CreditType parsedType = null;
+            String rawType = fields.get(type);
+            if (!rawType.isBlank()) {
+                try {
+                    parsedType = CreditType.valueOf(rawType.strip().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ex) {
+                    errors.put("type", "Tipo de crédito desconocido: " + rawType);
+                }
+            }
+            if (!errors.isEmpty()) return Row.rejected(errors);
+
+            String customerName = fields.get(name);
+            return Row.of(new CreditRequestDTO(customerName.isBlank() ? null : customerName, parsedAmount, parsedType));
+        }
+    }
+
+    private static final class Ndjson extends CreditImportParser {
+
+        private final ObjectReader reader;
+
+        private Ndjson(ObjectReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        Row parse(String line) {
+            try {
+                return Row.of(reader.readValue(line));
+            } catch (JsonMappingException ex) {
+                // Campo con un valor que no encaja en su tipo, p. ej. un tipo de crédito desconocido
+                String field = ex.getPath().isEmpty() ? "row" : ex.getPath().getLast().getFieldName();
+                return Row.rejected(Map.of(field == null ? "row" : field, "Valor no válido"));
+            } catch (JsonProcessingException ex) {
+                return Row.rejected(Map.of("row", "JSON no válido"));
+            }
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,351 @@
+package com.bcredits.core.infrastructure.importer;
+
+import com.bcredits.core.api.dto.CreditImportJobDTO;
+import com.bcredits.core.api.dto.CreditImportRequestDTO;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditImportFormat;
+import com.bcredits.core.domain.model.CreditImportJob;
+import com.bcredits.core.domain.model.CreditImportStatus;
+import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.infrastructure.metrics.ImportMetrics;
+import com.bcredits.core.infrastructure.repository.CreditImportJobRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importación masiva desde ficheros CSV o NDJSON de {@code credit.import.directory}. El fichero se
+ * lee línea a línea; los bloques de {@code credit.import.chunk-size} líneas se validan y evalúan en
+ * paralelo y se confirman en orden, cada uno en su transacción junto con el avance del trabajo.
+ * Como mucho hay {@code parallelism + 1} bloques en memoria. Las filas rechazadas van a
+ * {@code <fichero>.<id>.rejects.ndjson}. Un trabajo interrumpido se reanuda desde el último bloque
+ * confirmado, a petición o automáticamente cuando lleva {@code credit.import.stale-after} sin avanzar.
+ */
+@Slf4j
+@Component
+public class CreditImporter implements DisposableBean {
+
+    static final String REJECT_SUFFIX = ".rejects.ndjson";
+
+    private final CreditImportJobRepository jobRepository;
+    private final CreditService creditService;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rejectWriter;
+    private final Path directory;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration staleAfter;
+    private final ExecutorService jobs;
+    private final ExecutorService evaluators;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    public CreditImporter(CreditImportJobRepository jobRepository,
+                          CreditService creditService,
+                          TransactionTemplate transactionTemplate,
+                          ImportMetrics metrics,
+                          ObjectMapper objectMapper,
+                          @Value("${credit.import.directory:imports}") Path directory,
+                          @Value("${credit.import.chunk-size:1000}") int chunkSize,
+                          @Value("${credit.import.parallelism:0}") int parallelism,
+                          @Value("${credit.import.max-jobs:1}") int maxJobs,
+                          @Value("${credit.import.stale-after:2m}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        this.creditService = creditService;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        this.rejectWriter = objectMapper.writerFor(RejectedRow.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.directory = directory.toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.staleAfter = staleAfter;
+        this.jobs = Executors.newFixedThreadPool(maxJobs, Thread.ofPlatform().name("credit-import-", 0).factory());
+        this.evaluators = Executors.newFixedThreadPool(this.parallelism,
+                Thread.ofPlatform().name("credit-import-eval-", 0).factory());
+    }
+
+    public CreditImportJobDTO start(CreditImportRequestDTO request) {
+        Path file = resolve(request.file());
+        if (!Files.isRegularFile(file)) {
+            throw new InvalidRequestParameterException("Import file not found: " + request.file());
+        }
+        CreditImportFormat format = request.format() != null ? request.format() : formatOf(request.file());
+        CreditImportJob job = jobRepository.save(CreditImportJob.builder()
+                .file(request.file())
+                .format(format)
+                .status(CreditImportStatus.RUNNING)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        log.info("Credit import job {} started - File: {}, Format: {}", job.getId(), job.getFile(), format);
+        submit(job);
+        return toDto(job);
+    }
+
+    public CreditImportJobDTO find(Long id) {
+        return toDto(load(id));
+    }
+
+    /**
+     * Reanuda un trabajo fallido o abandonado desde su último bloque confirmado.
+     */
+    public CreditImportJobDTO resume(Long id) {
+        CreditImportJob job = load(id);
+        if (job.getStatus() == CreditImportStatus.COMPLETED) {
+            throw new InvalidRequestParameterException("Credit import job " + id + " is already completed");
+        }
+        if (running.contains(id)) return toDto(job);
+
+        job.setStatus(CreditImportStatus.RUNNING);
+        job.setError(null);
+        job.setFinishedAt(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        // La versión impide que dos instancias reclamen el mismo trabajo
+        job = jobRepository.save(job);
+        log.info("Credit import job {} resumed from line {}", id, job.getLinesProcessed());
+        submit(job);
+        return toDto(job);
+    }
+
+    @Scheduled(fixedDelayString = "${credit.import.resume-check-interval:1m}")
+    public void resumeAbandoned() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+        for (CreditImportJob job : jobRepository.findByStatusAndUpdatedAtBefore(CreditImportStatus.RUNNING, staleBefore)) {
+            if (running.contains(job.getId())) continue;
+            try {
+                resume(job.getId());
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                log.debug("Credit import job {} was claimed by another instance", job.getId());
+            }
+        }
+    }
+
+    private void submit(CreditImportJob job) {
+        if (!running.add(job.getId())) return;
+        jobs.execute(() -> {
+            try {
+                run(job);
+            } finally {
+                running.remove(job.getId());
+            }
+        });
+    }
+
+    private void run(CreditImportJob job) {
+        Deque<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>();
+        try (BufferedReader reader = Files.newBufferedReader(resolve(job.getFile()), StandardCharsets.UTF_8);
+             FileChannel rejects = FileChannel.open(resolve(rejectFile(job)),
+                     StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Descarta los rechazos de un bloque que no llegó a confirmarse
+            rejects.truncate(job.getRejectBytes());
+            rejects.position(job.getRejectBytes());
+
+            long line = 0;
+            CreditImportParser parser;
+            if (job.getFormat() == CreditImportFormat.CSV) {
+                parser = CreditImportParser.csv(reader.readLine());
+                line++;
+            } else {
+                parser = CreditImportParser.ndjson(objectMapper.reader());
+            }
+            while (line < job.getLinesProcessed() && reader.readLine() != null) {
+                line++;
+            }
+
+            List<String> lines = new ArrayList<>(chunkSize);
+            String raw;
+            while ((raw = reader.readLine()) != null) {
+                line++;
+                lines.add(raw);
+                if (lines.size() == chunkSize) {
+                    inFlight.add(evaluate(parser, line - lines.size() + 1, lines));
+                    lines = new ArrayList<>(chunkSize);
+                    if (inFlight.size() > parallelism) {
+                        job = commit(job, inFlight.poll().get(), rejects);
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                inFlight.add(evaluate(parser, line - lines.size() + 1, lines));
+            }
+            while (!inFlight.isEmpty()) {
+                job = commit(job, inFlight.poll().get(), rejects);
+            }
+            job = finish(job.getId(), CreditImportStatus.COMPLETED, null);
+            log.info("Credit import job {} completed - Lines: {}, Imported: {}, Rejected: {}",
+                    job.getId(), job.getLinesProcessed(), job.getImported(), job.getRejected());
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            // Otra instancia lo dio por abandonado y lo reanudó; ella continúa desde el último bloque
+            log.warn("Credit import job {} was taken over by another instance", job.getId());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Credit import job {} interrupted at line {}", job.getId(), job.getLinesProcessed());
+        } catch (IOException | ExecutionException | RuntimeException ex) {
+            Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
+            log.error("Credit import job {} failed after line {} - {}", job.getId(), job.getLinesProcessed(),
+                    cause.getMessage());
+            finish(job.getId(), CreditImportStatus.FAILED, String.valueOf(cause.getMessage()));
+        } finally {
+            inFlight.forEach(chunk -> chunk.cancel(true));
+        }
+    }
+
+    private CompletableFuture<Chunk> evaluate(CreditImportParser parser, long firstLine, List<String> lines) {
+        return CompletableFuture.supplyAsync(() -> evaluateChunk(parser, firstLine, lines), evaluators);
+    }
+
+    private Chunk evaluateChunk(CreditImportParser parser, long firstLine, List<String> lines) {
+        List<CreditApplication> accepted = new ArrayList<>(lines.size());
+        ByteArrayOutputStream rejected = new ByteArrayOutputStream();
+        int rejectedRows = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String raw = lines.get(i);
+            if (raw.isBlank()) continue;
+
+            CreditImportParser.Row row = parser.parse(raw);
+            Map<String, String> errors = row.errors().isEmpty() ? creditService.validate(row.request()) : row.errors();
+            if (errors.isEmpty()) {
+                accepted.add(creditService.evaluate(row.request()));
+                continue;
+            }
+            rejectedRows++;
+            try {
+                rejectWriter.writeValue(rejected, new RejectedRow(firstLine + i, errors, raw));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            rejected.write('\n');
+        }
+        return new Chunk(firstLine + lines.size() - 1, accepted, rejected.toByteArray(), rejectedRows);
+    }
+
+    private CreditImportJob commit(CreditImportJob job, Chunk chunk, FileChannel rejects) throws IOException {
+        // Los rechazos se escriben antes del commit; si este no llega, la reanudación los trunca
+        ByteBuffer buffer = ByteBuffer.wrap(chunk.rejects());
+        while (buffer.hasRemaining()) {
+            rejects.write(buffer);
+        }
+        long rejectBytes = rejects.position();
+
+        long start = System.nanoTime();
+        CreditImportJob saved = transactionTemplate.execute(status -> {
+            creditService.saveEvaluated(chunk.accepted());
+            CreditImportJob progress = jobRepository.findById(job.getId()).orElseThrow();
+            if (!progress.getVersion().equals(job.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(CreditImportJob.class, job.getId());
+            }
+            progress.setLinesProcessed(chunk.lastLine());
+            progress.setImported(progress.getImported() + chunk.accepted().size());
+            progress.setRejected(progress.getRejected() + chunk.rejectedRows());
+            progress.setRejectBytes(rejectBytes);
+            progress.setUpdatedAt(LocalDateTime.now());
+            return jobRepository.saveAndFlush(progress);
+        });
+        metrics.recordChunk(chunk.accepted().size(), chunk.rejectedRows(), System.nanoTime() - start);
+        log.debug("Credit import job {} chunk committed - Up to line: {}, Imported: {}, Rejected: {}",
+                job.getId(), chunk.lastLine(), chunk.accepted().size(), chunk.rejectedRows());
+        return saved;
+    }
+
+    private CreditImportJob finish(Long id, CreditImportStatus status, String error) {
+        return transactionTemplate.execute(tx -> {
+            CreditImportJob job = load(id);
+            job.setStatus(status);
+            job.setError(error == null ? null : error.substring(0, Math.min(error.length(), 1000)));
+            job.setUpdatedAt(LocalDateTime.now());
+            job.setFinishedAt(LocalDateTime.now());
+            return jobRepository.save(job);
+        });
+    }
+
+    private CreditImportJob load(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Credit import job not found with ID: " + id));
+    }
+
+    /**
+     * Resuelve {@code file} dentro del directorio de importación; rechaza rutas que salgan de él.
+     */
+    Path resolve(String file) {
+        Path resolved;
+        try {
+            resolved = directory.resolve(file).normalize();
+        } catch (InvalidPathException ex) {
+            throw new InvalidRequestParameterException("Invalid import file path: " + file, ex);
+        }
+        if (!resolved.startsWith(directory)) {
+            throw new InvalidRequestParameterException("Import file must be inside the import directory: " + file);
+        }
+        return resolved;
+    }
+
+    private static CreditImportFormat formatOf(String file) {
+        String name = file.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return CreditImportFormat.CSV;
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) return CreditImportFormat.NDJSON;
+        throw new InvalidRequestParameterException("Cannot infer the import format of " + file + "; set format to CSV or NDJSON");
+    }
+
+    // Uno por trabajo: dos importaciones del mismo fichero no comparten rechazos
+    private static String rejectFile(CreditImportJob job) {
+        return job.getFile() + "." + job.getId() + REJECT_SUFFIX;
+    }
+
+    private static CreditImportJobDTO toDto(CreditImportJob job) {
+        return new CreditImportJobDTO(job.getId(), job.getFile(), job.getFormat(), job.getStatus(),
+                job.getLinesProcessed(), job.getImported(), job.getRejected(), rejectFile(job),
+                job.getError(), job.getStartedAt(), job.getUpdatedAt(), job.getFinishedAt());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Lo que no llegue a confirmarse se reanuda desde el último bloque
+        jobs.shutdownNow();
+        evaluators.shutdownNow();
+        jobs.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private record Chunk(long lastLine, List<CreditApplication> accepted, byte[] rejects, int rejectedRows) {}
+
+    record RejectedRow(long line, Map<String, String> errors, String raw) {}
+}
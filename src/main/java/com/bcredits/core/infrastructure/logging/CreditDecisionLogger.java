@@ -0,0 +1,56 @@
+package com.bcredits.core.infrastructure.logging;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro de decisiones de crédito limitado a {@code credit.audit.max-log-rate} líneas por segundo.
+ * Las decisiones que exceden el límite solo se cuentan y se resumen en la siguiente ventana;
+ * el conteo exacto por tipo y estado ya lo publica {@code credits.decisions}.
+ */
+@Component
+public class CreditDecisionLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("com.bcredits.audit.decisions");
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final int maxPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicInteger suppressed = new AtomicInteger();
+
+    public CreditDecisionLogger(@Value("${credit.audit.max-log-rate:100}") int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void decision(String action, Long id, CreditType type, BigDecimal amount, CreditStatus status) {
+        if (!log.isInfoEnabled()) return;
+
+        if (maxPerSecond >= 0 && !tryAcquire()) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        log.info("Credit {} - ID: {}, Type: {}, Amount: ${}, Status: {}", action, id, type, amount, status);
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            logged.set(0);
+            int dropped = suppressed.getAndSet(0);
+            if (dropped > 0) {
+                log.info("Credit decision log rate limit reached - {} decisions not logged in the last window", dropped);
+            }
+        }
+        return logged.incrementAndGet() <= maxPerSecond;
+    }
+}
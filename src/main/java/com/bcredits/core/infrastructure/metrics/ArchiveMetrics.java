@@ -0,0 +1,31 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas del archivado: solicitudes movidas al archivo y tamaño comprimido de cada bloque.
+ */
+@Component
+public class ArchiveMetrics {
+
+    private final Counter archived;
+    private final DistributionSummary chunkBytes;
+
+    public ArchiveMetrics(MeterRegistry registry) {
+        archived = Counter.builder("credits.archive.archived")
+                .description("Credit applications moved to the archive")
+                .register(registry);
+        chunkBytes = DistributionSummary.builder("credits.archive.chunk.size")
+                .description("Compressed size of each archive chunk")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public void recordChunk(int rows, int compressedBytes) {
+        archived.increment(rows);
+        chunkBytes.record(compressedBytes);
+    }
+}
@@ -0,0 +1,52 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas del historial de auditoría: transiciones escritas, lotes fallidos, duración de cada
+ * lote y transiciones confirmadas a la espera del escritor en {@code credit_audit_pending}.
+ */
+@Component
+public class AuditMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter written;
+    private final Counter failures;
+    private final Timer batch;
+
+    public AuditMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        written = Counter.builder("credits.audit.written")
+                .description("Credit transitions appended to the audit trail")
+                .register(registry);
+        failures = Counter.builder("credits.audit.failures")
+                .description("Audit trail batches that failed and were retried")
+                .register(registry);
+        batch = Timer.builder("credits.audit.batch")
+                .description("Time to append one batch to the audit trail")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void monitorPending(AtomicLong backlog) {
+        Gauge.builder("credits.audit.pending", backlog, AtomicLong::get)
+                .description("Credit transitions waiting to be written to the audit trail")
+                .register(registry);
+    }
+
+    public void recordBatch(int size, long nanos) {
+        written.increment(size);
+        batch.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas de las notificaciones {@code credit_cache}: invalidaciones recibidas por alcance
+ * (solicitudes concretas, solo consultas o todo) y estado de la conexión que escucha.
+ */
+@Component
+public class CacheInvalidationMetrics {
+
+    private final Counter entries;
+    private final Counter queries;
+    private final Counter all;
+    private final Counter reconnects;
+    private final AtomicInteger connected = new AtomicInteger();
+
+    public CacheInvalidationMetrics(MeterRegistry registry) {
+        entries = invalidations(registry, "entries");
+        queries = invalidations(registry, "queries");
+        all = invalidations(registry, "all");
+        reconnects = Counter.builder("credits.cache.invalidation.reconnects")
+                .description("Times the cache invalidation listener reconnected to the database")
+                .register(registry);
+        Gauge.builder("credits.cache.invalidation.connected", connected, AtomicInteger::get)
+                .description("Whether the cache invalidation listener is connected (1) or not (0)")
+                .register(registry);
+    }
+
+    private static Counter invalidations(MeterRegistry registry, String scope) {
+        return Counter.builder("credits.cache.invalidations")
+                .description("Cache invalidation notifications received from the database")
+                .tag("scope", scope)
+                .register(registry);
+    }
+
+    public void recordEntries() {
+        entries.increment();
+    }
+
+    public void recordQueries() {
+        queries.increment();
+    }
+
+    public void recordAll() {
+        all.increment();
+    }
+
+    public void recordReconnect() {
+        reconnects.increment();
+    }
+
+    public void updateConnected(boolean value) {
+        connected.set(value ? 1 : 0);
+    }
+}
@@ -0,0 +1,36 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contadores de decisiones de elegibilidad por tipo y resultado, registrados una sola vez
+ * para que el camino de la petición solo haga un acceso a arreglo y un incremento.
+ */
+@Component
+public class CreditMetrics {
+
+    private final Counter[][] decisions;
+
+    public CreditMetrics(MeterRegistry registry) {
+        CreditType[] types = CreditType.values();
+        CreditStatus[] statuses = CreditStatus.values();
+        decisions = new Counter[types.length][statuses.length];
+        for (CreditType type : types) {
+            for (CreditStatus status : statuses) {
+                decisions[type.ordinal()][status.ordinal()] = Counter.builder("credits.decisions")
+                        .description("Credit eligibility decisions")
+                        .tag("type", type.name())
+                        .tag("status", status.name())
+                        .register(registry);
+            }
+        }
+    }
+
+    public void recordDecision(CreditType type, CreditStatus status) {
+        decisions[type.ordinal()][status.ordinal()].increment();
+    }
+}
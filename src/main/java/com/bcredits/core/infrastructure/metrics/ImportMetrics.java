@@ -0,0 +1,41 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas de las importaciones masivas: filas importadas y rechazadas, y duración del commit de
+ * cada bloque.
+ */
+@Component
+public class ImportMetrics {
+
+    private final Counter imported;
+    private final Counter rejected;
+    private final Timer chunkCommit;
+
+    public ImportMetrics(MeterRegistry registry) {
+        imported = Counter.builder("credits.import.rows")
+                .description("Rows read by import jobs")
+                .tag("result", "imported")
+                .register(registry);
+        rejected = Counter.builder("credits.import.rows")
+                .description("Rows read by import jobs")
+                .tag("result", "rejected")
+                .register(registry);
+        chunkCommit = Timer.builder("credits.import.chunk")
+                .description("Time to write and commit one import chunk")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    public void recordChunk(int importedRows, int rejectedRows, long commitNanos) {
+        imported.increment(importedRows);
+        rejected.increment(rejectedRows);
+        chunkCommit.record(commitNanos, TimeUnit.NANOSECONDS);
+    }
+}
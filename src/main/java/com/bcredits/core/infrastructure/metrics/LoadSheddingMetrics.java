@@ -0,0 +1,39 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import com.bcredits.core.infrastructure.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de la limitación de carga: peticiones rechazadas por endpoint y motivo
+ * ({@code rate} → 429, {@code concurrency} → 503) y estado del límite adaptativo.
+ */
+@Component
+public class LoadSheddingMetrics {
+
+    private final MeterRegistry registry;
+
+    public LoadSheddingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void registerLimiter(AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("credits.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive limit of concurrent API requests")
+                .register(registry);
+        Gauge.builder("credits.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("API requests currently holding a concurrency permit")
+                .register(registry);
+    }
+
+    public void recordRejected(String endpoint, String reason) {
+        Counter.builder("credits.requests.rejected")
+                .description("API requests rejected by rate or concurrency limits")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,71 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import com.bcredits.core.infrastructure.repository.OutboxBacklogView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Métricas del relay del outbox: eventos publicados, fallos del sink, retraso de entrega
+ * y tamaño/antigüedad de la cola pendiente.
+ */
+@Component
+public class OutboxMetrics {
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer deliveryDelay;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxMetrics(MeterRegistry registry) {
+        published = Counter.builder("credits.outbox.published")
+                .description("Outbox events delivered to the sink")
+                .register(registry);
+        failures = Counter.builder("credits.outbox.failures")
+                .description("Outbox batches rejected by the sink")
+                .register(registry);
+        deliveryDelay = Timer.builder("credits.outbox.delivery.delay")
+                .description("Time between writing an outbox event and publishing it")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("credits.outbox.backlog", backlog, AtomicLong::get)
+                .description("Outbox events waiting to be published")
+                .register(registry);
+        Gauge.builder("credits.outbox.lag", this, OutboxMetrics::lagSeconds)
+                .description("Age in seconds of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public void recordPublished(List<CreditOutboxEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (CreditOutboxEvent event : events) {
+            deliveryDelay.record(Duration.between(event.getCreatedAt(), now));
+        }
+        published.increment(events.size());
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    public void updateBacklog(OutboxBacklogView view) {
+        backlog.set(view.getPending());
+        oldestPending.set(view.getOldestCreatedAt());
+    }
+
+    private double lagSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
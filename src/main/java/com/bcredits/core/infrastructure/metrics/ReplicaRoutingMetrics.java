@@ -0,0 +1,48 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import com.bcredits.core.infrastructure.datasource.ReplicaPool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Métricas del enrutado de lecturas: conexiones de solo lectura servidas por cada pool, lecturas
+ * desviadas al primario por motivo y retraso/disponibilidad de cada réplica. Las métricas propias
+ * de cada pool (hikaricp.*) se publican con la etiqueta {@code pool}.
+ */
+public class ReplicaRoutingMetrics {
+
+    private final MeterRegistry registry;
+
+    public ReplicaRoutingMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void registerReplica(ReplicaPool replica) {
+        Gauge.builder("credits.datasource.replica.lag", replica, r -> r.lagMillis() / 1000.0)
+                .description("Replication lag measured on the replica")
+                .baseUnit("seconds")
+                .tag("pool", replica.name())
+                .register(registry);
+        Gauge.builder("credits.datasource.replica.available", replica, r -> r.available() ? 1 : 0)
+                .description("Whether the replica is reachable and receiving reads")
+                .tag("pool", replica.name())
+                .register(registry);
+    }
+
+    public void recordRead(String pool) {
+        Counter.builder("credits.datasource.reads")
+                .description("Read-only connections served per pool")
+                .tag("pool", pool)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordFallback(String reason) {
+        Counter.builder("credits.datasource.replica.fallbacks")
+                .description("Read-only transactions sent to the primary because no replica was usable")
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+}
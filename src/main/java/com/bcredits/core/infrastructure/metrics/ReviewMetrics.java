@@ -0,0 +1,60 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas de la revisión asíncrona: decisiones por resultado (su tasa es el throughput),
+ * duración de cada lote, tiempo en cola y solicitudes PENDING restantes.
+ */
+@Component
+public class ReviewMetrics {
+
+    private final Counter[] decisions;
+    private final Timer batch;
+    private final Timer queueTime;
+    private final AtomicLong pending = new AtomicLong();
+
+    public ReviewMetrics(MeterRegistry registry) {
+        CreditStatus[] statuses = CreditStatus.values();
+        decisions = new Counter[statuses.length];
+        for (CreditStatus status : statuses) {
+            decisions[status.ordinal()] = Counter.builder("credits.review.decisions")
+                    .description("Pending credit applications resolved by the review workers")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        batch = Timer.builder("credits.review.batch")
+                .description("Time to claim, evaluate and commit one review batch")
+                .publishPercentileHistogram()
+                .register(registry);
+        queueTime = Timer.builder("credits.review.queue.time")
+                .description("Time a credit application spent in PENDING")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("credits.review.pending", pending, AtomicLong::get)
+                .description("Credit applications waiting for review")
+                .register(registry);
+    }
+
+    public void recordDecision(CreditStatus status, Duration waited) {
+        decisions[status.ordinal()].increment();
+        queueTime.record(waited);
+    }
+
+    public void recordBatch(long nanos) {
+        batch.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void updatePending(long count) {
+        pending.set(count);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bcredits.core.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Métricas de {@code GET /api/credits/stream}: suscriptores conectados, cambios emitidos y
+ * suscriptores desconectados por llenar su buffer, y estado de la conexión al canal compartido.
+ */
+@Component
+public class StreamMetrics {
+
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter feedReconnects;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicInteger feedConnected = new AtomicInteger();
+
+    public StreamMetrics(MeterRegistry registry) {
+        published = Counter.builder("credits.stream.published")
+                .description("Credit changes published to stream subscribers")
+                .register(registry);
+        dropped = Counter.builder("credits.stream.dropped")
+                .description("Stream subscribers disconnected because their buffer was full")
+                .register(registry);
+        Gauge.builder("credits.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Connected stream subscribers")
+                .register(registry);
+        feedReconnects = Counter.builder("credits.stream.feed.reconnects")
+                .description("Times the shared credit change feed reconnected to the database")
+                .register(registry);
+        Gauge.builder("credits.stream.feed.connected", feedConnected, AtomicInteger::get)
+                .description("Whether the shared credit change feed is connected (1) or not (0)")
+                .register(registry);
+    }
+
+    public void recordPublished() {
+        published.increment();
+    }
+
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    public void updateSubscribers(int count) {
+        subscribers.set(count);
+    }
+
+    public void recordFeedReconnect() {
+        feedReconnects.increment();
+    }
+
+    public void updateFeedConnected(boolean value) {
+        feedConnected.set(value ? 1 : 0);
+    }
+}
@@ -0,0 +1,130 @@
+package com.bcredits.core.infrastructure.notify;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escucha un canal LISTEN/NOTIFY de PostgreSQL en un hilo propio y entrega cada payload a
+ * {@link #onNotification}. Usa una conexión fuera del pool, porque LISTEN vive mientras la conexión
+ * siga abierta, y reconecta con espera exponencial. Lo que se notifica mientras está desconectado
+ * se pierde: {@link #onConnected} permite a cada subclase resincronizarse.
+ */
+@Slf4j
+public abstract class PostgresChannelListener implements DisposableBean {
+
+    private static final long POLL_MILLIS = 1000;
+
+    private final String channel;
+    private final DataSourceProperties dataSource;
+    private final Duration keepalive;
+    private final Duration maxBackoff;
+    private final ExecutorService listener;
+    private volatile boolean running = true;
+
+    protected PostgresChannelListener(String channel, String threadName, DataSourceProperties dataSource,
+                                      Duration keepalive, Duration maxBackoff) {
+        this.channel = channel;
+        this.dataSource = dataSource;
+        this.keepalive = keepalive;
+        this.maxBackoff = maxBackoff;
+        this.listener = Executors.newSingleThreadExecutor(Thread.ofPlatform().name(threadName).factory());
+    }
+
+    /**
+     * Arranca el hilo; la subclase lo llama al final de su constructor.
+     *
+     * @return false si la base de datos no es PostgreSQL y no hay nada que escuchar
+     */
+    protected boolean start() {
+        if (!dataSource.determineUrl().startsWith("jdbc:postgresql:")) {
+            log.warn("Listener for channel {} requires PostgreSQL - not started for {}", channel, dataSource.determineUrl());
+            return false;
+        }
+        listener.execute(this::run);
+        return true;
+    }
+
+    /** Tras LISTEN, antes de la primera notificación; {@code reconnected} si no es la primera conexión. */
+    protected abstract void onConnected(boolean reconnected);
+
+    protected abstract void onDisconnected();
+
+    protected abstract void onNotification(String payload);
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // El hilo sale en la siguiente espera de getNotifications y cierra la conexión
+        running = false;
+        listener.shutdown();
+        if (!listener.awaitTermination(5, TimeUnit.SECONDS)) {
+            listener.shutdownNow();
+        }
+    }
+
+    private void run() {
+        Duration backoff = Duration.ZERO;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection listening = DriverManager.getConnection(dataSource.determineUrl(),
+                    dataSource.determineUsername(), dataSource.determinePassword())) {
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                onConnected(reconnecting);
+                if (reconnecting) {
+                    log.info("Listener for channel {} reconnected", channel);
+                }
+                backoff = Duration.ZERO;
+                listen(listening);
+            } catch (SQLException | RuntimeException e) {
+                onDisconnected();
+                if (!running) return;
+                reconnecting = true;
+                backoff = backoff.isZero() ? Duration.ofMillis(POLL_MILLIS) : min(backoff.multipliedBy(2), maxBackoff);
+                log.warn("Listener for channel {} disconnected, reconnecting in {} - {}", channel, backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection listening) throws SQLException {
+        PGConnection pg = listening.unwrap(PGConnection.class);
+        long lastCheck = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications((int) POLL_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    onNotification(notification.getParameter());
+                }
+                lastCheck = System.nanoTime();
+            } else if (System.nanoTime() - lastCheck > keepalive.toNanos()) {
+                // Sin tráfico, una conexión caída no se detecta hasta intentar usarla
+                if (!listening.isValid(5)) {
+                    throw new SQLException("Listening connection is no longer valid");
+                }
+                lastCheck = System.nanoTime();
+            }
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
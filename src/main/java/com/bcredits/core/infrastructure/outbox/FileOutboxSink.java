@@ -0,0 +1,48 @@
+package com.bcredits.core.infrastructure.outbox;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Sink por defecto: añade cada evento como una línea NDJSON a {@code credit.outbox.file}.
+ */
+@Component
+@ConditionalOnProperty(name = "credit.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+
+    public FileOutboxSink(@Value("${credit.outbox.file:./data/credit-events.ndjson}") Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<CreditOutboxEvent> events) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, CREATE, APPEND)) {
+                for (CreditOutboxEvent event : events) {
+                    writer.write(event.getPayload());
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append outbox events to " + file, e);
+        }
+    }
+}
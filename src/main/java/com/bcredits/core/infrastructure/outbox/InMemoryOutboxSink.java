@@ -0,0 +1,31 @@
+package com.bcredits.core.infrastructure.outbox;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Sink en memoria para pruebas y entornos locales ({@code credit.outbox.sink=memory}).
+ */
+@Component
+@ConditionalOnProperty(name = "credit.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final ConcurrentLinkedQueue<CreditOutboxEvent> published = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void publish(List<CreditOutboxEvent> events) {
+        published.addAll(events);
+    }
+
+    public List<CreditOutboxEvent> published() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+}
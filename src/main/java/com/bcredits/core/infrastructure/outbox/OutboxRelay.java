@@ -0,0 +1,98 @@
+package com.bcredits.core.infrastructure.outbox;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import com.bcredits.core.infrastructure.metrics.OutboxMetrics;
+import com.bcredits.core.infrastructure.repository.CreditOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Drena {@code credit_outbox} cada {@code credit.outbox.linger} en lotes de {@code credit.outbox.batch-size}.
+ * Cada lote se bloquea, publica y borra en una única transacción (entrega al menos una vez).
+ * Como contrapresión, cada ejecución procesa como máximo {@code max-batches-per-run} lotes y,
+ * si el sink falla, las siguientes ejecuciones se espacian con backoff exponencial; mientras tanto
+ * los eventos se acumulan en la tabla, no en memoria.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "credit.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private final CreditOutboxRepository repository;
+    private final OutboxSink sink;
+    private final OutboxMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration linger;
+    private final Duration maxBackoff;
+
+    private Duration backoff = Duration.ZERO;
+    private long retryAt = System.nanoTime();
+
+    public OutboxRelay(CreditOutboxRepository repository,
+                       OutboxSink sink,
+                       OutboxMetrics metrics,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${credit.outbox.batch-size:100}") int batchSize,
+                       @Value("${credit.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                       @Value("${credit.outbox.linger:250ms}") Duration linger,
+                       @Value("${credit.outbox.max-backoff:30s}") Duration maxBackoff) {
+        this.repository = repository;
+        this.sink = sink;
+        this.metrics = metrics;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.linger = linger;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${credit.outbox.linger:250ms}")
+    public void drain() {
+        if (System.nanoTime() - retryAt < 0) return;
+
+        try {
+            int published;
+            int batches = 0;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+                batches++;
+            } while (published == batchSize && batches < maxBatchesPerRun);
+
+            if (!backoff.isZero()) {
+                log.info("Outbox publication recovered");
+                backoff = Duration.ZERO;
+            }
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            backoff = backoff.isZero() ? linger : min(backoff.multipliedBy(2), maxBackoff);
+            retryAt = System.nanoTime() + backoff.toNanos();
+            log.warn("Outbox publication failed, retrying in {} - {}", backoff, e.getMessage());
+        }
+
+        metrics.updateBacklog(repository.backlog());
+    }
+
+    private int publishBatch() {
+        List<CreditOutboxEvent> events = repository.lockNextBatch(batchSize);
+        if (events.isEmpty()) return 0;
+
+        sink.publish(events);
+        repository.deleteAllInBatch(events);
+        metrics.recordPublished(events);
+        log.debug("Outbox batch published - Events: {}", events.size());
+        return events.size();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bcredits.core.infrastructure.outbox;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destino de los eventos del outbox. Debe publicar el lote completo o lanzar una excepción;
+ * en ese caso el relay revierte la transacción y reintenta el mismo lote más tarde.
+ */
+public interface OutboxSink {
+
+    void publish(List<CreditOutboxEvent> events);
+}
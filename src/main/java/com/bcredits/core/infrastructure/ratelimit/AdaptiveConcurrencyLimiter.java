@@ -0,0 +1,68 @@
+package com.bcredits.core.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Límite de peticiones simultáneas que se ajusta con la latencia observada (AIMD): mientras las
+ * respuestas tardan menos que {@code targetLatency} y el límite se está usando, crece en uno por
+ * cada "ventana" de {@code limit} respuestas; una respuesta lenta o sobrecargada lo reduce un 10 %,
+ * como mucho una vez por {@code targetLatency} para que una ráfaga de respuestas lentas no lo hunda.
+ * Así la cola se forma fuera, donde se rechaza con 503, y no en el pool de conexiones.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private long lastDecrease;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration targetLatency) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetNanos = targetLatency.toNanos();
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.lastDecrease = System.nanoTime() - targetNanos;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Libera el permiso y ajusta el límite con la latencia de la petición.
+     *
+     * @param overloaded la petición acabó con una señal de saturación (503, error inesperado)
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (overloaded || latencyNanos > targetNanos) {
+                long now = System.nanoTime();
+                if (now - lastDecrease >= targetNanos) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastDecrease = now;
+                }
+            } else if (inFlightBefore * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
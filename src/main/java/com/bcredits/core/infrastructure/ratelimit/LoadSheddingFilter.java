@@ -0,0 +1,200 @@
+package com.bcredits.core.infrastructure.ratelimit;
+
+import com.bcredits.core.infrastructure.metrics.LoadSheddingMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Rechaza pronto lo que la aplicación no puede atender: 429 cuando un cliente supera la tasa de
+ * su endpoint y 503 cuando se alcanza el límite adaptativo de peticiones simultáneas. Ambos con
+ * Retry-After, antes de tomar una conexión del pool.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "credit.load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)  // Filtro de servlet; no aplica al perfil reactive
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final List<EndpointPolicy> policies;
+    private final String clientHeader;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Cache<String, TokenBucket> buckets;
+    private final LoadSheddingMetrics metrics;
+    private final ObjectMapper objectMapper;
+
+    public LoadSheddingFilter(LoadSheddingProperties properties, LoadSheddingMetrics metrics, ObjectMapper objectMapper) {
+        PathPatternParser parser = new PathPatternParser();
+        this.policies = properties.endpoints().stream()
+                .map(endpoint -> new EndpointPolicy(endpoint, parser.parse(endpoint.path())))
+                .toList();
+        this.clientHeader = properties.clientHeader();
+        LoadSheddingProperties.Concurrency concurrency = properties.concurrency();
+        this.limiter = new AdaptiveConcurrencyLimiter(concurrency.initialLimit(), concurrency.minLimit(),
+                concurrency.maxLimit(), concurrency.targetLatency());
+        // Un cliente inactivo recupera el bucket lleno, así que puede olvidarse sin cambiar el resultado
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+        metrics.registerLimiter(limiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointPolicy policy = match(request);
+        if (policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String name = policy.endpoint().name();
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(name + '|' + clientId(request),
+                key -> new TokenBucket(policy.endpoint().rate(), policy.endpoint().burst(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            metrics.recordRejected(name, "rate");
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded for " + name);
+            return;
+        }
+
+        if (!policy.endpoint().concurrencyLimited()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            metrics.recordRejected(name, "concurrency");
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                    "Server is overloaded, retry later");
+            return;
+        }
+
+        Permit permit = new Permit(response);
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            permit.release(true);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            // Respuesta asíncrona: el permiso se libera cuando termina, no al volver del filtro
+            request.getAsyncContext().addListener(permit);
+        } else {
+            permit.release(false);
+        }
+    }
+
+    private EndpointPolicy match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (EndpointPolicy policy : policies) {
+            String method = policy.endpoint().method();
+            if ((!StringUtils.hasText(method) || method.equalsIgnoreCase(request.getMethod()))
+                    && policy.pattern().matches(path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String key = request.getHeader(clientHeader);
+        return StringUtils.hasText(key) ? "key:" + key : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValue(response.getOutputStream(), body);
+    }
+
+    private record EndpointPolicy(LoadSheddingProperties.Endpoint endpoint, PathPattern pattern) {}
+
+    /**
+     * Permiso del limitador para una petición; se libera una sola vez, también si la respuesta
+     * asíncrona termina por timeout o error.
+     */
+    private final class Permit implements AsyncListener {
+
+        private final long startedAt = System.nanoTime();
+        private final HttpServletResponse response;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                boolean overloaded = failed || response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+                limiter.release(System.nanoTime() - startedAt, overloaded);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
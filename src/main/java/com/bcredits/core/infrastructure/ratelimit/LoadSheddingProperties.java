@@ -0,0 +1,44 @@
+package com.bcredits.core.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Límites de la API. Cada endpoint tiene un token bucket por cliente ({@code client-header} o, sin
+ * cabecera, la IP remota); la primera definición que coincide con método y ruta se aplica.
+ * Las peticiones de endpoints con {@code concurrency-limited} comparten además el límite adaptativo.
+ */
+@ConfigurationProperties(prefix = "credit.load-shedding")
+public record LoadSheddingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-API-Key") String clientHeader,
+        @DefaultValue("100000") long maxClients,
+        @DefaultValue Concurrency concurrency,
+        @DefaultValue List<Endpoint> endpoints
+) {
+
+    public record Concurrency(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("250ms") Duration targetLatency
+    ) {}
+
+    /**
+     * @param method vacío para cualquier método
+     * @param path   patrón de ruta ({@code /api/credits/**})
+     * @param rate   peticiones por segundo y cliente
+     * @param burst  peticiones seguidas que admite un cliente con el bucket lleno
+     */
+    public record Endpoint(
+            String name,
+            String method,
+            String path,
+            double rate,
+            double burst,
+            @DefaultValue("true") boolean concurrencyLimited
+    ) {}
+}
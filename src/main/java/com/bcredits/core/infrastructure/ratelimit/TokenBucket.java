@@ -0,0 +1,35 @@
+package com.bcredits.core.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket de un cliente en un endpoint. Se rellena de forma perezosa en cada intento.
+ */
+class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, double burst, long now) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Consume un token. Devuelve 0 si lo había o los nanosegundos hasta que haya uno.
+     */
+    synchronized long tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return tokensPerNano > 0 ? (long) Math.ceil((1 - tokens) / tokensPerNano) : Long.MAX_VALUE;
+    }
+}
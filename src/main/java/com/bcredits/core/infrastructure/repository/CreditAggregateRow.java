@@ -0,0 +1,17 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+
+public interface CreditAggregateRow {
+
+    CreditType getType();
+
+    CreditStatus getStatus();
+
+    long getCount();
+
+    BigDecimal getTotalAmount();
+}
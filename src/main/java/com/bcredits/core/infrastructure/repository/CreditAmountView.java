@@ -0,0 +1,15 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+
+public interface CreditAmountView {
+
+    CreditType getType();
+
+    CreditStatus getStatus();
+
+    BigDecimal getAmount();
+}
@@ -0,0 +1,19 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditArchiveChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CreditArchiveChunkRepository extends JpaRepository<CreditArchiveChunk, Long> {
+
+    // Usa el índice GiST de idx_archive_chunks_id_range
+    @Query(value = """
+            select * from credit_archive_chunks
+             where int8range(min_id, max_id, '[]') @> cast(:creditId as bigint)""", nativeQuery = true)
+    List<CreditArchiveChunk> findCovering(@Param("creditId") Long creditId);
+}
@@ -0,0 +1,17 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditAuditEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CreditAuditEntryRepository extends JpaRepository<CreditAuditEntry, Long> {
+
+    // Resuelto con idx_credit_audit_credit_id_seq, sin ordenar en memoria
+    List<CreditAuditEntry> findByCreditIdOrderBySeqAsc(Long creditId);
+
+    List<CreditAuditEntry> findBySeqGreaterThanOrderBySeqAsc(long afterSeq, Limit limit);
+}
@@ -0,0 +1,19 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditAuditHead;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CreditAuditHeadRepository extends JpaRepository<CreditAuditHead, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from CreditAuditHead h where h.id = :id")
+    Optional<CreditAuditHead> lockById(@Param("id") Integer id);
+}
@@ -0,0 +1,14 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditAuditPending;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CreditAuditPendingRepository extends JpaRepository<CreditAuditPending, Long> {
+
+    List<CreditAuditPending> findByOrderByIdAsc(Limit limit);
+}
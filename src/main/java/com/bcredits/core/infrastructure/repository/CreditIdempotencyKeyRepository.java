@@ -0,0 +1,24 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface CreditIdempotencyKeyRepository extends JpaRepository<CreditIdempotencyKey, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from CreditIdempotencyKey k where k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("delete from CreditIdempotencyKey k where k.id = :key and k.createdAt < :cutoff")
+    int deleteExpired(@Param("key") String key, @Param("cutoff") LocalDateTime cutoff);
+}
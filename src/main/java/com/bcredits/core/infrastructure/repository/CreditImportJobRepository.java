@@ -0,0 +1,15 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditImportJob;
+import com.bcredits.core.domain.model.CreditImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CreditImportJobRepository extends JpaRepository<CreditImportJob, Long> {
+
+    List<CreditImportJob> findByStatusAndUpdatedAtBefore(CreditImportStatus status, LocalDateTime updatedBefore);
+}
@@ -0,0 +1,21 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CreditOutboxRepository extends JpaRepository<CreditOutboxEvent, Long> {
+
+    // SKIP LOCKED: varias instancias pueden drenar a la vez sin publicar dos veces el mismo evento
+    @Query(value = "select * from credit_outbox order by id limit :batchSize for update skip locked",
+           nativeQuery = true)
+    List<CreditOutboxEvent> lockNextBatch(@Param("batchSize") int batchSize);
+
+    @Query("select count(o) as pending, min(o.createdAt) as oldestCreatedAt from CreditOutboxEvent o")
+    OutboxBacklogView backlog();
+}
@@ -0,0 +1,14 @@
+package com.bcredits.core.infrastructure.repository;
+
+/**
+ * Fila resultante de un DELETE ... RETURNING: lo que necesitan los agregados de cartera y el
+ * historial de auditoría de una solicitud que ya no existe.
+ */
+public interface CreditRemoval extends CreditAmountView {
+
+    Long getId();
+
+    String getCustomerName();
+
+    Long getVersion();
+}
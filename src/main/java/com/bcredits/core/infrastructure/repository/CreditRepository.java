@@ -1,9 +1,126 @@
 package com.bcredits.core.infrastructure.repository;
 
 import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface CreditRepository extends JpaRepository<CreditApplication, Long> {
+public interface CreditRepository extends JpaRepository<CreditApplication, Long>,
+        JpaSpecificationExecutor<CreditApplication> {
+
+    // La subconsulta bloquea la fila y conserva sus valores previos para devolverlos junto a los nuevos
+    String UPDATE_RETURNING = """
+            update credits_applications c
+               set customer_name = :customerName, amount = :amount, type = :type, status = :status,
+                   version = c.version + 1
+              from (select id, customer_name, amount, type, status, version
+                      from credits_applications where id = :id for update) prev
+            """;
+
+    String RETURNING_REVISION = """
+             returning c.id as "id", c.customer_name as "customerName", c.amount as "amount",
+                       c.type as "type", c.status as "status", c.created_at as "createdAt",
+                       c.version as "version", prev.amount as "previousAmount",
+                       prev.type as "previousType", prev.status as "previousStatus",
+                       prev.customer_name as "previousCustomerName", prev.version as "previousVersion\"""";
+
+    String RETURNING_REMOVAL = """
+             returning id as "id", customer_name as "customerName", amount as "amount",
+                       type as "type", status as "status", version as "version\"""";
+
+    // Consultas cacheables: Hibernate y las notificaciones credit_cache vacían la región tras cada escritura
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<CreditApplication> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select c from CreditApplication c order by c.id")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<CreditApplication> streamAllOrderById();
+
+    @Query("select c.version from CreditApplication c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional
+    @Query(nativeQuery = true, value = "delete from credits_applications where id = :id " + RETURNING_REMOVAL)
+    Optional<CreditRemoval> removeById(@Param("id") Long id);
+
+    @Transactional
+    @Query(nativeQuery = true, value = UPDATE_RETURNING + " where c.id = prev.id " + RETURNING_REVISION)
+    Optional<CreditRevision> updateReturning(@Param("id") Long id,
+                                             @Param("customerName") String customerName,
+                                             @Param("amount") BigDecimal amount,
+                                             @Param("type") String type,
+                                             @Param("status") String status);
+
+    @Transactional
+    @Query(nativeQuery = true, value = UPDATE_RETURNING
+            + " where c.id = prev.id and c.version in (:expectedVersions) " + RETURNING_REVISION)
+    Optional<CreditRevision> updateReturningIfVersion(@Param("id") Long id,
+                                                      @Param("expectedVersions") Collection<Long> expectedVersions,
+                                                      @Param("customerName") String customerName,
+                                                      @Param("amount") BigDecimal amount,
+                                                      @Param("type") String type,
+                                                      @Param("status") String status);
+
+    // Devuelve las filas borradas para el historial de auditoría
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            delete from credits_applications
+             where id in (select id from credits_applications
+                           where status = :status and created_at < :createdBefore
+                           order by id
+                           limit :chunkSize)
+            """ + RETURNING_REMOVAL)
+    List<CreditRemoval> deleteChunkByStatusAndCreatedBefore(@Param("status") String status,
+                                                            @Param("createdBefore") LocalDateTime createdBefore,
+                                                            @Param("chunkSize") int chunkSize);
+
+    @Query("""
+            select c.type as type, c.status as status, count(c) as count, coalesce(sum(c.amount), 0) as totalAmount
+              from CreditApplication c
+             group by c.type, c.status""")
+    List<CreditAggregateRow> aggregateByTypeAndStatus();
+
+    // SKIP LOCKED reparte las pendientes entre los workers de todas las instancias sin esperas
+    @Query(value = """
+            select * from credits_applications
+             where status = 'PENDING'
+             order by id
+             limit :batchSize
+               for update skip locked""", nativeQuery = true)
+    List<CreditApplication> claimPending(@Param("batchSize") int batchSize);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    long countByStatus(CreditStatus status);
+
+    // Recorre solo las particiones anteriores a cutoff; SKIP LOCKED evita esperar a una revisión en curso
+    @Query(value = """
+            select * from credits_applications
+             where status in ('APPROVED', 'REJECTED') and created_at < :cutoff
+             order by id
+             limit :chunkSize
+               for update skip locked""", nativeQuery = true)
+    List<CreditApplication> claimDecidedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                               @Param("chunkSize") int chunkSize);
 }
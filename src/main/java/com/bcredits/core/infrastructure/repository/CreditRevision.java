@@ -0,0 +1,38 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fila resultante de un UPDATE ... RETURNING junto con los valores previos, que alimentan los
+ * agregados de cartera y el historial de auditoría.
+ */
+public interface CreditRevision {
+
+    Long getId();
+
+    String getCustomerName();
+
+    BigDecimal getAmount();
+
+    CreditType getType();
+
+    CreditStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    Long getVersion();
+
+    BigDecimal getPreviousAmount();
+
+    CreditType getPreviousType();
+
+    CreditStatus getPreviousStatus();
+
+    String getPreviousCustomerName();
+
+    Long getPreviousVersion();
+}
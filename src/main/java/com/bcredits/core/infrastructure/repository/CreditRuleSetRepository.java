@@ -0,0 +1,13 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditRuleSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CreditRuleSetRepository extends JpaRepository<CreditRuleSet, Long> {
+
+    Optional<CreditRuleSet> findFirstByOrderByVersionDesc();
+}
@@ -0,0 +1,56 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.api.dto.CreditSearchCriteria;
+import com.bcredits.core.domain.model.CreditApplication;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public final class CreditSpecifications {
+
+    private CreditSpecifications() {
+    }
+
+    public static Specification<CreditApplication> matching(CreditSearchCriteria criteria) {
+        Specification<CreditApplication> spec = Specification.unrestricted();
+        if (criteria == null) return spec;
+
+        if (criteria.status() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), criteria.status()));
+        }
+        if (criteria.type() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("type"), criteria.type()));
+        }
+        if (criteria.minAmount() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.<BigDecimal>get("amount"), criteria.minAmount()));
+        }
+        if (criteria.maxAmount() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.<BigDecimal>get("amount"), criteria.maxAmount()));
+        }
+        if (criteria.createdFrom() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThan(root.<LocalDateTime>get("createdAt"), criteria.createdTo()));
+        }
+        if (criteria.customerNamePrefix() != null && !criteria.customerNamePrefix().isBlank()) {
+            // Prefijo sensible a mayúsculas para que PostgreSQL pueda usar el índice B-tree
+            String pattern = escapeLike(criteria.customerNamePrefix()) + "%";
+            spec = spec.and((root, query, cb) -> cb.like(root.get("customerName"), pattern, '\\'));
+        }
+        return spec;
+    }
+
+    public static Specification<CreditApplication> idGreaterThan(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
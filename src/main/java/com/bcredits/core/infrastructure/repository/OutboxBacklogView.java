@@ -0,0 +1,10 @@
+package com.bcredits.core.infrastructure.repository;
+
+import java.time.LocalDateTime;
+
+public interface OutboxBacklogView {
+
+    long getPending();
+
+    LocalDateTime getOldestCreatedAt();
+}
@@ -0,0 +1,49 @@
+package com.bcredits.core.infrastructure.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ids de una secuencia con {@code increment by allocationSize} repartidos igual que el optimizador
+ * pooled de Hibernate: cada {@code nextval} reserva el bloque {@code (valor - allocationSize, valor]}.
+ * Así las escrituras R2DBC y las de JPA comparten secuencia sin pisarse y sin un nextval por fila.
+ */
+final class PooledSequence {
+
+    private final DatabaseClient client;
+    private final String nextvalSql;
+    private final int allocationSize;
+
+    // Bloque reservado en curso; next > max significa agotado
+    private long next = 1;
+    private long max = 0;
+
+    PooledSequence(DatabaseClient client, String sequenceName, int allocationSize) {
+        this.client = client;
+        this.nextvalSql = "select nextval('" + sequenceName + "')";
+        this.allocationSize = allocationSize;
+    }
+
+    Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Long id = take();
+            if (id != null) return Mono.just(id);
+            return client.sql(nextvalSql)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(this::reserve);
+        });
+    }
+
+    private synchronized Long take() {
+        return next <= max ? next++ : null;
+    }
+
+    // Dos reservas concurrentes son válidas; la última sustituye a la otra y sus ids libres se pierden
+    private synchronized long reserve(long hi) {
+        long first = Math.max(1, hi - allocationSize + 1);
+        next = first + 1;
+        max = hi;
+        return first;
+    }
+}
@@ -0,0 +1,239 @@
+package com.bcredits.core.infrastructure.repository;
+
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditPending;
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.stream.CreditChangeFeed;
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.Readable;
+import lombok.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static com.bcredits.core.infrastructure.repository.CreditRepository.RETURNING_REMOVAL;
+import static com.bcredits.core.infrastructure.repository.CreditRepository.RETURNING_REVISION;
+import static com.bcredits.core.infrastructure.repository.CreditRepository.UPDATE_RETURNING;
+
+/**
+ * Acceso R2DBC a {@code credits_applications} para la pila reactiva, con el mismo SQL que las
+ * consultas nativas de {@link CreditRepository}. Las filas se mapean a mano a {@link CreditApplication}:
+ * la entidad es un mapeo JPA y Spring Data R2DBC no reconoce sus anotaciones.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCreditRepository {
+
+    // Filas por ida y vuelta al servidor en el streaming; la demanda del cliente marca el ritmo
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DatabaseClient client;
+    private final PooledSequence creditIds;
+    private final PooledSequence outboxIds;
+    private final PooledSequence auditIds;
+
+    public ReactiveCreditRepository(DatabaseClient client) {
+        this.client = client;
+        // Mismos allocationSize que las entidades JPA
+        this.creditIds = new PooledSequence(client, "credits_applications_seq", 50);
+        this.outboxIds = new PooledSequence(client, "credit_outbox_seq", 50);
+        this.auditIds = new PooledSequence(client, "credit_audit_pending_seq", 50);
+    }
+
+    public Mono<CreditApplication> insert(CreditApplication entity) {
+        return creditIds.nextId().flatMap(id -> {
+            entity.setId(id);
+            entity.setVersion(0L);
+            entity.setCreatedAt(LocalDateTime.now());
+            return client.sql("""
+                            insert into credits_applications (id, customer_name, amount, type, status, created_at, version)
+                            values (:id, :customerName, :amount, :type, :status, :createdAt, :version)""")
+                    .bind("id", id)
+                    .bind("customerName", entity.getCustomerName())
+                    .bind("amount", entity.getAmount())
+                    .bind("type", entity.getType().name())
+                    .bind("status", entity.getStatus().name())
+                    .bind("createdAt", entity.getCreatedAt())
+                    .bind("version", entity.getVersion())
+                    .then()
+                    .thenReturn(entity);
+        });
+    }
+
+    public Mono<Void> insertEvent(CreditOutboxEvent event) {
+        return outboxIds.nextId().flatMap(id -> client.sql("""
+                        insert into credit_outbox (id, credit_id, event_type, payload, created_at)
+                        values (:id, :creditId, :eventType, :payload, :createdAt)""")
+                .bind("id", id)
+                .bind("creditId", event.getCreditId())
+                .bind("eventType", event.getEventType())
+                .bind("payload", event.getPayload())
+                .bind("createdAt", LocalDateTime.now())
+                .then());
+    }
+
+    public Mono<Void> insertAuditPending(CreditAuditPending transition) {
+        return auditIds.nextId().flatMap(id -> client.sql("""
+                        insert into credit_audit_pending (id, credit_id, action,
+                            old_customer_name, old_amount, old_type, old_status, old_version,
+                            new_customer_name, new_amount, new_type, new_status, new_version, occurred_at)
+                        values (:id, :creditId, :action,
+                            :oldCustomerName, :oldAmount, :oldType, :oldStatus, :oldVersion,
+                            :newCustomerName, :newAmount, :newType, :newStatus, :newVersion, :occurredAt)""")
+                .bind("id", id)
+                .bind("creditId", transition.getCreditId())
+                .bind("action", transition.getAction().name())
+                .bind("oldCustomerName", nullable(transition.getOldCustomerName(), String.class))
+                .bind("oldAmount", nullable(transition.getOldAmount(), BigDecimal.class))
+                .bind("oldType", nullable(name(transition.getOldType()), String.class))
+                .bind("oldStatus", nullable(name(transition.getOldStatus()), String.class))
+                .bind("oldVersion", nullable(transition.getOldVersion(), Long.class))
+                .bind("newCustomerName", nullable(transition.getNewCustomerName(), String.class))
+                .bind("newAmount", nullable(transition.getNewAmount(), BigDecimal.class))
+                .bind("newType", nullable(name(transition.getNewType()), String.class))
+                .bind("newStatus", nullable(name(transition.getNewStatus()), String.class))
+                .bind("newVersion", nullable(transition.getNewVersion(), Long.class))
+                .bind("occurredAt", transition.getOccurredAt())
+                .then());
+    }
+
+    public Mono<CreditApplication> findById(Long id) {
+        return client.sql("select * from credits_applications where id = :id")
+                .bind("id", id)
+                .map(ReactiveCreditRepository::toEntity)
+                .one();
+    }
+
+    public Flux<CreditApplication> findAfter(long afterId, int limit) {
+        return client.sql("select * from credits_applications where id > :afterId order by id limit :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveCreditRepository::toEntity)
+                .all();
+    }
+
+    public Flux<CreditApplication> streamAllOrderById() {
+        return client.sql("select * from credits_applications order by id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+                .map(ReactiveCreditRepository::toEntity)
+                .all();
+    }
+
+    public Mono<Long> findVersionById(Long id) {
+        return client.sql("select version from credits_applications where id = :id")
+                .bind("id", id)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    public Mono<CreditRevision> updateReturning(Long id, Collection<Long> expectedVersions, String customerName,
+                                                BigDecimal amount, String type, String status) {
+        String sql = expectedVersions == null
+                ? UPDATE_RETURNING + " where c.id = prev.id " + RETURNING_REVISION
+                : UPDATE_RETURNING + " where c.id = prev.id and c.version in (:expectedVersions) " + RETURNING_REVISION;
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql)
+                .bind("id", id)
+                .bind("customerName", customerName)
+                .bind("amount", amount)
+                .bind("type", type)
+                .bind("status", status);
+        if (expectedVersions != null) {
+            spec = spec.bind("expectedVersions", expectedVersions);
+        }
+        return spec.map(ReactiveCreditRepository::toRevision).one();
+    }
+
+    public Mono<CreditRemoval> removeById(Long id) {
+        return client.sql("delete from credits_applications where id = :id " + RETURNING_REMOVAL)
+                .bind("id", id)
+                .map(row -> (CreditRemoval) new RemovalRow(
+                        row.get("id", Long.class),
+                        row.get("customerName", String.class),
+                        CreditType.valueOf(row.get("type", String.class)),
+                        CreditStatus.valueOf(row.get("status", String.class)),
+                        row.get("amount", BigDecimal.class),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    /**
+     * Cambio para {@code GET /api/credits/stream} por el canal compartido; enviado en la transacción
+     * de la escritura, PostgreSQL lo entrega solo si confirma.
+     */
+    public Mono<Void> notifyChange(String payload) {
+        return client.sql("select pg_notify('" + CreditChangeFeed.CHANNEL + "', nextval('credit_change_seq') || ' ' || :payload)")
+                .bind("payload", payload)
+                .then();
+    }
+
+    // bind() no admite null: un extremo ausente de la transición va como parámetro tipado sin valor
+    private static Object nullable(Object value, Class<?> type) {
+        return value != null ? value : Parameters.in(type);
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static CreditApplication toEntity(Readable row) {
+        return CreditApplication.builder()
+                .id(row.get("id", Long.class))
+                .customerName(row.get("customer_name", String.class))
+                .amount(row.get("amount", BigDecimal.class))
+                .type(CreditType.valueOf(row.get("type", String.class)))
+                .status(CreditStatus.valueOf(row.get("status", String.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private static CreditRevision toRevision(Readable row) {
+        return new RevisionRow(
+                row.get("id", Long.class),
+                row.get("customerName", String.class),
+                row.get("amount", BigDecimal.class),
+                CreditType.valueOf(row.get("type", String.class)),
+                CreditStatus.valueOf(row.get("status", String.class)),
+                row.get("createdAt", LocalDateTime.class),
+                row.get("version", Long.class),
+                row.get("previousAmount", BigDecimal.class),
+                CreditType.valueOf(row.get("previousType", String.class)),
+                CreditStatus.valueOf(row.get("previousStatus", String.class)),
+                row.get("previousCustomerName", String.class),
+                row.get("previousVersion", Long.class));
+    }
+
+    @Value
+    private static class RevisionRow implements CreditRevision {
+        Long id;
+        String customerName;
+        BigDecimal amount;
+        CreditType type;
+        CreditStatus status;
+        LocalDateTime createdAt;
+        Long version;
+        BigDecimal previousAmount;
+        CreditType previousType;
+        CreditStatus previousStatus;
+        String previousCustomerName;
+        Long previousVersion;
+    }
+
+    @Value
+    private static class RemovalRow implements CreditRemoval {
+        Long id;
+        String customerName;
+        CreditType type;
+        CreditStatus status;
+        BigDecimal amount;
+        Long version;
+    }
+}
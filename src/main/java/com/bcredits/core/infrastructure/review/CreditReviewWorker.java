@@ -0,0 +1,84 @@
+package com.bcredits.core.infrastructure.review;
+
+import com.bcredits.core.domain.service.CreditReviewService;
+import com.bcredits.core.infrastructure.metrics.ReviewMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pipeline acotado de revisión: cada {@code credit.review.poll-interval} consulta cuántas solicitudes
+ * siguen PENDING y arranca los workers necesarios, hasta {@code credit.review.workers}. Cada worker
+ * procesa lotes hasta vaciar la cola; varias instancias se reparten el trabajo con SKIP LOCKED.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "credit.review.worker.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditReviewWorker implements DisposableBean {
+
+    private final CreditReviewService reviewService;
+    private final ReviewMetrics metrics;
+    private final int workers;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public CreditReviewWorker(CreditReviewService reviewService,
+                              ReviewMetrics metrics,
+                              @Value("${credit.review.workers:2}") int workers,
+                              @Value("${credit.review.batch-size:50}") int batchSize) {
+        this.reviewService = reviewService;
+        this.metrics = metrics;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("credit-review-", 0).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${credit.review.poll-interval:500ms}")
+    public void poll() {
+        long pending = reviewService.pendingCount();
+        metrics.updatePending(pending);
+        if (pending == 0) return;
+
+        long wanted = Math.min(workers, (pending + batchSize - 1) / batchSize);
+        while (true) {
+            int running = active.get();
+            if (running >= wanted) return;
+            if (active.compareAndSet(running, running + 1)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            int reviewed;
+            do {
+                long start = System.nanoTime();
+                reviewed = reviewService.reviewBatch(batchSize);
+                if (reviewed > 0) metrics.recordBatch(System.nanoTime() - start);
+            } while (reviewed == batchSize);
+        } catch (RuntimeException e) {
+            // El lote se revierte y sus filas vuelven a estar disponibles en el siguiente sondeo
+            log.warn("Credit review batch failed - {}", e.getMessage());
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.bcredits.core.infrastructure.rules;
+
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditRuleSet;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.rules.CreditRuleDefinition;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.infrastructure.notify.PostgresChannelListener;
+import com.bcredits.core.infrastructure.repository.CreditRuleSetRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Mantiene {@link CreditRuleEngine} igual en todas las instancias. Un conjunto publicado se guarda en
+ * {@code credit_rule_sets} y el trigger de V8 avisa por {@code credit_rules}; cada instancia carga
+ * entonces la versión más alta. Al arrancar y al reconectar también la carga, por si se perdió un aviso.
+ * Sin ninguna versión publicada rigen las reglas de {@code credit.rules}.
+ */
+@Slf4j
+@Component
+public class CreditRuleSync extends PostgresChannelListener {
+
+    public static final String CHANNEL = "credit_rules";
+    private static final TypeReference<List<CreditRuleDefinition>> DEFINITIONS = new TypeReference<>() {};
+
+    private final CreditRuleEngine ruleEngine;
+    private final CreditRuleSetRepository repository;
+    private final ObjectMapper objectMapper;
+    private long appliedVersion;
+
+    public CreditRuleSync(CreditRuleEngine ruleEngine,
+                          CreditRuleSetRepository repository,
+                          ObjectMapper objectMapper,
+                          DataSourceProperties dataSource,
+                          @Value("${credit.rules.sync.keepalive:30s}") Duration keepalive,
+                          @Value("${credit.rules.sync.max-backoff:30s}") Duration maxBackoff) {
+        super(CHANNEL, "credit-rules-listener", dataSource, keepalive, maxBackoff);
+        this.ruleEngine = ruleEngine;
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        refresh();
+        start();
+    }
+
+    /**
+     * Valida y guarda un conjunto nuevo, y lo aplica en esta instancia sin esperar al aviso.
+     *
+     * @return la versión publicada
+     */
+    public long publish(List<CreditRuleDefinition> definitions, CreditStatus defaultOutcome) {
+        try {
+            ruleEngine.validate(definitions, defaultOutcome);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestParameterException(ex.getMessage(), ex);
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(definitions);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode credit rules", e);
+        }
+        long version = repository.save(CreditRuleSet.builder()
+                .defaultOutcome(defaultOutcome)
+                .definitions(json)
+                .build()).getVersion();
+        log.info("Credit rule set published - Version: {}", version);
+        refresh();
+        return version;
+    }
+
+    /** Aplica la versión más alta si es más nueva que la vigente. */
+    public synchronized void refresh() {
+        repository.findFirstByOrderByVersionDesc()
+                .filter(latest -> latest.getVersion() > appliedVersion)
+                .ifPresent(this::apply);
+    }
+
+    public synchronized long appliedVersion() {
+        return appliedVersion;
+    }
+
+    private void apply(CreditRuleSet ruleSet) {
+        List<CreditRuleDefinition> definitions;
+        try {
+            definitions = objectMapper.readValue(ruleSet.getDefinitions(), DEFINITIONS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot decode credit rule set " + ruleSet.getVersion(), e);
+        }
+        ruleEngine.reload(definitions, ruleSet.getDefaultOutcome());
+        appliedVersion = ruleSet.getVersion();
+        log.info("Credit rule set applied - Version: {}", appliedVersion);
+    }
+
+    @Override
+    protected void onConnected(boolean reconnected) {
+        refresh();
+    }
+
+    @Override
+    protected void onDisconnected() {
+        // La versión vigente sigue en uso; al reconectar se comprueba si hay otra
+    }
+
+    @Override
+    protected void onNotification(String payload) {
+        refresh();
+    }
+}
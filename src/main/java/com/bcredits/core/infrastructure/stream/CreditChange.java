@@ -0,0 +1,19 @@
+package com.bcredits.core.infrastructure.stream;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+
+/**
+ * Cambio confirmado de una solicitud, con el id de evento que el cliente devuelve en
+ * {@code Last-Event-ID} para reanudar. En un {@link #RESET} {@code credit} es null.
+ */
+public record CreditChange(long id, String event, CreditResponseDTO credit) {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String REVIEWED = "reviewed";
+    public static final String DELETED = "deleted";
+    /** Sale de credits_applications al archivo; {@code GET /api/credits/{id}} la sigue devolviendo. */
+    public static final String ARCHIVED = "archived";
+    /** Los eventos posteriores a Last-Event-ID ya no están disponibles; el cliente debe recargar el listado. */
+    public static final String RESET = "reset";
+}
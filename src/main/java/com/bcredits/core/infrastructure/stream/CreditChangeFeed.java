@@ -0,0 +1,103 @@
+package com.bcredits.core.infrastructure.stream;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.infrastructure.metrics.StreamMetrics;
+import com.bcredits.core.infrastructure.notify.PostgresChannelListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Canal {@code credit_changes} que comparten todas las instancias para {@link CreditChangeStream}.
+ * Cada escritura envía sus cambios con NOTIFY en su transacción; PostgreSQL los entrega al confirmarse,
+ * en orden de commit, a todas las instancias que escuchan, incluida la que escribió. El id del evento
+ * sale de {@code credit_change_seq}, así que un Last-Event-ID vale en cualquier instancia.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "credit.stream.shared.enabled", havingValue = "true", matchIfMissing = true)
+public class CreditChangeFeed extends PostgresChannelListener {
+
+    public static final String CHANNEL = "credit_changes";
+    // Payload '<id> <evento> <json>'. Las expresiones volátiles se evalúan tras el order by, en orden
+    public static final String NOTIFY_SQL = "select pg_notify('" + CHANNEL + "', nextval('credit_change_seq') || ' ' || p)"
+            + " from unnest(?::text[]) with ordinality as t(p, n) order by n";
+
+    private final CreditChangeStream stream;
+    private final JdbcTemplate jdbcTemplate;
+    private final StreamMetrics metrics;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public CreditChangeFeed(CreditChangeStream stream,
+                            JdbcTemplate jdbcTemplate,
+                            ObjectMapper objectMapper,
+                            StreamMetrics metrics,
+                            DataSourceProperties dataSource,
+                            @Value("${credit.stream.shared.keepalive:30s}") Duration keepalive,
+                            @Value("${credit.stream.shared.max-backoff:30s}") Duration maxBackoff) {
+        super(CHANNEL, "credit-change-feed", dataSource, keepalive, maxBackoff);
+        this.stream = stream;
+        this.jdbcTemplate = jdbcTemplate;
+        this.metrics = metrics;
+        this.writer = objectMapper.writerFor(CreditResponseDTO.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.reader = objectMapper.readerFor(CreditResponseDTO.class);
+        // Desde ya, aunque el hilo aún no escuche: lo que se pierda hasta entonces lo cubre el reset de onConnected
+        if (start()) stream.attach(this);
+    }
+
+    /** {@code '<evento> <json>'}; el id lo antepone el NOTIFY. Una solicitud cabe de sobra en 8000 bytes. */
+    String encode(String event, CreditResponseDTO credit) {
+        try {
+            return event + ' ' + writer.writeValueAsString(credit);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode credit change", e);
+        }
+    }
+
+    /** En la transacción en curso si la hay; si no, en una propia y se entregan de inmediato. */
+    void send(List<String> payloads) {
+        if (payloads.isEmpty()) return;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(NOTIFY_SQL);
+            statement.setArray(1, connection.createArrayOf("text", payloads.toArray()));
+            return statement;
+        }, rs -> null);
+    }
+
+    @Override
+    protected void onConnected(boolean reconnected) {
+        metrics.updateFeedConnected(true);
+        if (reconnected) metrics.recordFeedReconnect();
+        stream.resync();
+    }
+
+    @Override
+    protected void onDisconnected() {
+        metrics.updateFeedConnected(false);
+    }
+
+    @Override
+    protected void onNotification(String payload) {
+        int idEnd = payload.indexOf(' ');
+        int eventEnd = payload.indexOf(' ', idEnd + 1);
+        try {
+            stream.receive(Long.parseLong(payload, 0, idEnd, 10), payload.substring(idEnd + 1, eventEnd),
+                    reader.readValue(payload.substring(eventEnd + 1)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Ignoring malformed credit change notification - {}", e.getMessage());
+        }
+    }
+}
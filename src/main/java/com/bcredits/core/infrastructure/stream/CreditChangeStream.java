@@ -0,0 +1,281 @@
+package com.bcredits.core.infrastructure.stream;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.metrics.StreamMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Difusión en memoria de los cambios confirmados a los suscriptores de {@code GET /api/credits/stream}.
+ * Cada suscriptor tiene una cola acotada: publicar nunca espera, y un suscriptor que la llena se
+ * desconecta en lugar de frenar las escrituras; al reconectar con {@code Last-Event-ID} recupera lo
+ * que siga en el historial de los últimos {@code credit.stream.replay-size} cambios.
+ * <p>
+ * Con {@link CreditChangeFeed} (PostgreSQL) los cambios no se difunden aquí directamente: viajan por
+ * el canal {@code credit_changes} y vuelven a todas las instancias con un id de {@code credit_change_seq},
+ * así que cada una ve también lo que confirman las demás. Sin él el stream es de esta instancia.
+ */
+@Slf4j
+@Component
+public class CreditChangeStream {
+
+    private final StreamMetrics metrics;
+    private final int bufferSize;
+    private final int replaySize;
+    // En orden de llegada; con el canal compartido los ids llegan en orden de commit, no crecientes
+    private final Deque<CreditChange> replay = new ArrayDeque<>();
+    private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile CreditChangeFeed feed;
+    // Sin canal compartido, ids a partir de la hora de arranque en microsegundos: un Last-Event-ID de
+    // un proceso anterior o de otra instancia no está en el historial y provoca un reset
+    private long lastId;
+
+    public CreditChangeStream(StreamMetrics metrics,
+                              @Value("${credit.stream.buffer-size:256}") int bufferSize,
+                              @Value("${credit.stream.replay-size:1000}") int replaySize) {
+        this.metrics = metrics;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.lastId = System.currentTimeMillis() * 1000;
+    }
+
+    void attach(CreditChangeFeed feed) {
+        this.feed = feed;
+    }
+
+    /** Si los cambios se comparten entre instancias por el canal {@code credit_changes}. */
+    public boolean isShared() {
+        return feed != null;
+    }
+
+    /**
+     * Publica el cambio cuando confirma la transacción en curso, o de inmediato si no hay ninguna.
+     * Con el canal compartido el NOTIFY se envía dentro de la transacción, justo antes del commit.
+     */
+    public void publish(String event, CreditResponseDTO credit) {
+        CreditChangeFeed shared = feed;
+        if (shared != null) {
+            String payload = shared.encode(event, credit);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                pending(shared).add(payload);
+            } else {
+                shared.send(List.of(payload));
+            }
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendLocal(event, credit);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendLocal(event, credit);
+            }
+        });
+    }
+
+    /**
+     * Payload que una escritura R2DBC envía en su propia transacción, donde no hay sincronización
+     * de Spring; null si el stream es solo de esta instancia.
+     */
+    public String sharedPayload(String event, CreditResponseDTO credit) {
+        CreditChangeFeed shared = feed;
+        return shared == null ? null : shared.encode(event, credit);
+    }
+
+    /**
+     * Tras el commit de una escritura R2DBC. Con el canal compartido no hace nada: el cambio llega
+     * por el NOTIFY de {@link #sharedPayload}.
+     */
+    public void publishCommitted(String event, CreditResponseDTO credit) {
+        if (feed == null) appendLocal(event, credit);
+    }
+
+    /**
+     * Suscribe a los cambios cuyo estado y tipo están en {@code statuses} y {@code types}
+     * (vacío o null: todos), empezando por los posteriores a {@code lastEventId} si se indica.
+     */
+    public synchronized Subscription subscribe(Set<CreditStatus> statuses, Set<CreditType> types, Long lastEventId) {
+        Subscription subscription = new Subscription(statuses, types);
+        if (lastEventId != null && lastEventId != lastId && !replayAfter(lastEventId, subscription)) {
+            subscription.offer(new CreditChange(lastId, CreditChange.RESET, null));
+        }
+        // Si el historial no cabía en el buffer, entrega lo encolado y termina; el cliente reanuda desde ahí
+        if (!subscription.closed) {
+            subscribers.add(subscription);
+            metrics.updateSubscribers(subscribers.size());
+        }
+        return subscription;
+    }
+
+    /** Cambio recibido por el canal compartido, con el id que le dio credit_change_seq. */
+    synchronized void receive(long id, String event, CreditResponseDTO credit) {
+        lastId = id;
+        append(new CreditChange(id, event, credit));
+    }
+
+    /**
+     * Tras (re)conectar al canal compartido: lo notificado mientras tanto se ha perdido, así que el
+     * historial deja de valer y los suscriptores conectados deben recargar.
+     */
+    synchronized void resync() {
+        replay.clear();
+        CreditChange reset = new CreditChange(lastId, CreditChange.RESET, null);
+        for (Subscription subscription : subscribers) {
+            subscription.offer(reset);
+        }
+    }
+
+    private boolean replayAfter(long lastEventId, Subscription subscription) {
+        boolean found = false;
+        for (CreditChange change : replay) {
+            if (found) {
+                subscription.offer(change);
+                if (subscription.closed) break;
+            } else {
+                found = change.id() == lastEventId;
+            }
+        }
+        return found;
+    }
+
+    private synchronized void appendLocal(String event, CreditResponseDTO credit) {
+        append(new CreditChange(++lastId, event, credit));
+    }
+
+    private void append(CreditChange change) {
+        if (replay.size() == replaySize) replay.removeFirst();
+        replay.addLast(change);
+        for (Subscription subscription : subscribers) {
+            subscription.offer(change);
+        }
+        metrics.recordPublished();
+    }
+
+    private List<String> pending(CreditChangeFeed shared) {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges(shared);
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending.payloads;
+    }
+
+    /**
+     * Cambios de la transacción en curso: un único NOTIFY con todos, aunque sea un lote de miles.
+     * Se desvincula al suspenderse la transacción para que una REQUIRES_NEW lleve los suyos.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final CreditChangeFeed shared;
+        private final List<String> payloads = new ArrayList<>();
+
+        private PendingChanges(CreditChangeFeed shared) {
+            this.shared = shared;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(CreditChangeStream.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(CreditChangeStream.this, this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            shared.send(payloads);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CreditChangeStream.this);
+        }
+    }
+
+    private void remove(Subscription subscription) {
+        if (subscribers.remove(subscription)) {
+            metrics.updateSubscribers(subscribers.size());
+        }
+    }
+
+    /**
+     * Cola de un suscriptor. La consume un único hilo, con {@link #poll(Duration)} en la pila servlet
+     * o con {@link #poll()} tras {@link #onAvailable} en la reactiva.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final Set<CreditStatus> statuses;
+        private final Set<CreditType> types;
+        private final BlockingQueue<CreditChange> queue = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean closed;
+        private volatile Runnable listener = () -> {};
+
+        private Subscription(Set<CreditStatus> statuses, Set<CreditType> types) {
+            this.statuses = statuses == null ? Set.of() : statuses;
+            this.types = types == null ? Set.of() : types;
+        }
+
+        /**
+         * Se invoca en el hilo que publica, tras encolar; no debe bloquear ni escribir en la respuesta.
+         */
+        public void onAvailable(Runnable listener) {
+            this.listener = listener;
+        }
+
+        public CreditChange poll() {
+            return queue.poll();
+        }
+
+        public CreditChange poll(Duration timeout) throws InterruptedException {
+            return queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        /** Cerrada y sin eventos pendientes de entregar. */
+        public boolean isDone() {
+            return closed && queue.isEmpty();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            remove(this);
+        }
+
+        private void offer(CreditChange change) {
+            if (closed || !matches(change)) return;
+            if (!queue.offer(change)) {
+                log.warn("Credit stream subscriber dropped - buffer of {} events is full", bufferSize);
+                metrics.recordDropped();
+                close();
+            }
+            listener.run();
+        }
+
+        private boolean matches(CreditChange change) {
+            if (change.credit() == null) return true;
+            return (statuses.isEmpty() || statuses.contains(change.credit().status()))
+                    && (types.isEmpty() || types.contains(change.credit().type()));
+        }
+    }
+}
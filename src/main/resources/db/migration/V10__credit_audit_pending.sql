@@ -0,0 +1,23 @@
+-- Transiciones aún no encadenadas en credit_audit_log. Se insertan en la misma transacción que la
+-- escritura de la solicitud, así que no se pierden ni se descartan; el escritor de cada instancia
+-- las mueve en lotes al historial bajo el bloqueo de credit_audit_head y las borra de aquí.
+
+create sequence credit_audit_pending_seq start with 1 increment by 50;
+
+create table credit_audit_pending (
+    id bigint not null,
+    credit_id bigint not null,
+    action varchar(255) not null check (action in ('CREATED','UPDATED','REVIEWED','DELETED','PURGED')),
+    old_customer_name varchar(255),
+    old_amount numeric(19,2),
+    old_type varchar(255) check (old_type in ('PERSONAL','BUSINESS')),
+    old_status varchar(255) check (old_status in ('PENDING','APPROVED','REJECTED')),
+    old_version bigint,
+    new_customer_name varchar(255),
+    new_amount numeric(19,2),
+    new_type varchar(255) check (new_type in ('PERSONAL','BUSINESS')),
+    new_status varchar(255) check (new_status in ('PENDING','APPROVED','REJECTED')),
+    new_version bigint,
+    occurred_at timestamp(6) not null,
+    primary key (id)
+);
@@ -0,0 +1,46 @@
+-- Una base existente se marca como V1 sin ejecutar V1__baseline_schema.sql (baseline-on-migrate), así que
+-- solo funciona si ya tenía el esquema de V1. Una creada por ddl-auto: update con una versión anterior de
+-- la aplicación puede no tener la tabla de idempotencia, el outbox, algún índice o la columna version.
+-- Esta migración crea lo que falte; en una base nueva, creada por V1, no cambia nada.
+-- No corrige definiciones distintas (tipos o restricciones de columnas existentes): esas bases deben
+-- ajustarse a mano a V1 antes del primer arranque con Flyway.
+
+create sequence if not exists credits_applications_seq start with 1 increment by 50;
+
+create sequence if not exists credit_outbox_seq start with 1 increment by 50;
+
+-- Una secuencia recién creada empezaría por debajo de los ids existentes. Hibernate (pooled, increment 50)
+-- reparte los 49 valores anteriores al que devuelve la secuencia: se deja margen de un bloque.
+select setval('credits_applications_seq', max(id) + 50) from credits_applications
+having max(id) + 50 > (select last_value from credits_applications_seq);
+
+alter table credits_applications add column if not exists version bigint;
+
+create index if not exists idx_credits_status_created_at on credits_applications (status, created_at);
+create index if not exists idx_credits_type_created_at on credits_applications (type, created_at);
+create index if not exists idx_credits_status_type_amount on credits_applications (status, type, amount);
+create index if not exists idx_credits_created_at on credits_applications (created_at);
+create index if not exists idx_credits_customer_name on credits_applications (customer_name);
+
+create table if not exists credit_outbox (
+    id bigint not null,
+    credit_id bigint not null,
+    event_type varchar(64) not null,
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+select setval('credit_outbox_seq', max(id) + 50) from credit_outbox
+having max(id) + 50 > (select last_value from credit_outbox_seq);
+
+create table if not exists credit_idempotency_keys (
+    idempotency_key varchar(100) not null,
+    request_hash varchar(64) not null,
+    credit_id bigint not null,
+    response varchar(4000) not null,
+    created_at timestamp(6) not null,
+    primary key (idempotency_key)
+);
+
+create index if not exists idx_idempotency_created_at on credit_idempotency_keys (created_at);
@@ -0,0 +1,43 @@
+-- Esquema inicial, equivalente al que generaba ddl-auto: update.
+-- Las bases existentes se marcan como V1 sin ejecutar este script (spring.flyway.baseline-on-migrate).
+
+create sequence credits_applications_seq start with 1 increment by 50;
+
+create sequence credit_outbox_seq start with 1 increment by 50;
+
+create table credits_applications (
+    id bigint not null,
+    customer_name varchar(255) not null,
+    amount numeric(19,2) not null,
+    type varchar(255) not null check (type in ('PERSONAL','BUSINESS')),
+    status varchar(255) not null check (status in ('PENDING','APPROVED','REJECTED')),
+    created_at timestamp(6) not null,
+    version bigint,
+    primary key (id)
+);
+
+create index idx_credits_status_created_at on credits_applications (status, created_at);
+create index idx_credits_type_created_at on credits_applications (type, created_at);
+create index idx_credits_status_type_amount on credits_applications (status, type, amount);
+create index idx_credits_created_at on credits_applications (created_at);
+create index idx_credits_customer_name on credits_applications (customer_name);
+
+create table credit_outbox (
+    id bigint not null,
+    credit_id bigint not null,
+    event_type varchar(64) not null,
+    payload varchar(4000) not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+create table credit_idempotency_keys (
+    idempotency_key varchar(100) not null,
+    request_hash varchar(64) not null,
+    credit_id bigint not null,
+    response varchar(4000) not null,
+    created_at timestamp(6) not null,
+    primary key (idempotency_key)
+);
+
+create index idx_idempotency_created_at on credit_idempotency_keys (created_at);
@@ -0,0 +1,53 @@
+-- Particionado mensual de credits_applications por created_at.
+-- La clave primaria debe incluir la columna de partición: (id, created_at). Los ids siguen saliendo
+-- de credits_applications_seq, así que id continúa siendo único.
+-- CreditPartitionMaintenance crea las particiones de los meses siguientes; la partición por defecto
+-- solo recoge filas fuera de rango y debería quedar vacía.
+
+drop index if exists idx_credits_status_created_at;
+drop index if exists idx_credits_type_created_at;
+drop index if exists idx_credits_status_type_amount;
+drop index if exists idx_credits_created_at;
+drop index if exists idx_credits_customer_name;
+
+alter table credits_applications rename to credits_applications_unpartitioned;
+
+create table credits_applications (
+    id bigint not null,
+    customer_name varchar(255) not null,
+    amount numeric(19,2) not null,
+    type varchar(255) not null check (type in ('PERSONAL','BUSINESS')),
+    status varchar(255) not null check (status in ('PENDING','APPROVED','REJECTED')),
+    created_at timestamp(6) not null,
+    version bigint,
+    constraint credits_applications_pk primary key (id, created_at)
+) partition by range (created_at);
+
+create table credits_applications_default partition of credits_applications default;
+
+do $$
+declare
+    month_start date := date_trunc('month', coalesce(
+            (select min(created_at) from credits_applications_unpartitioned), now()));
+    last_month date := date_trunc('month', now()) + interval '3 months';
+begin
+    while month_start <= last_month loop
+        execute format('create table %I partition of credits_applications for values from (%L) to (%L)',
+                       'credits_applications_' || to_char(month_start, 'YYYY_MM'),
+                       month_start, month_start + interval '1 month');
+        month_start := month_start + interval '1 month';
+    end loop;
+end $$;
+
+insert into credits_applications (id, customer_name, amount, type, status, created_at, version)
+select id, customer_name, amount, type, status, created_at, version
+  from credits_applications_unpartitioned;
+
+drop table credits_applications_unpartitioned;
+
+-- Índices tras la carga; se crean en cada partición
+create index idx_credits_status_created_at on credits_applications (status, created_at);
+create index idx_credits_type_created_at on credits_applications (type, created_at);
+create index idx_credits_status_type_amount on credits_applications (status, type, amount);
+create index idx_credits_created_at on credits_applications (created_at);
+create index idx_credits_customer_name on credits_applications (customer_name);
@@ -0,0 +1,19 @@
+-- Archivo de solicitudes decididas: cada fila guarda un bloque de solicitudes como NDJSON
+-- comprimido con gzip. min_id/max_id permiten localizar el bloque de un id sin descomprimir.
+
+create sequence credit_archive_chunks_seq start with 1 increment by 50;
+
+create table credit_archive_chunks (
+    id bigint not null,
+    min_id bigint not null,
+    max_id bigint not null,
+    row_count integer not null,
+    oldest_created_at timestamp(6) not null,
+    newest_created_at timestamp(6) not null,
+    archived_at timestamp(6) not null,
+    payload bytea not null,
+    primary key (id)
+);
+
+-- GiST sobre el rango: el bloque que contiene un id se encuentra sin recorrer los anteriores
+create index idx_archive_chunks_id_range on credit_archive_chunks using gist (int8range(min_id, max_id, '[]'));
@@ -0,0 +1,23 @@
+-- Importaciones masivas desde fichero. lines_processed y reject_bytes se actualizan en la misma
+-- transacción que cada bloque de solicitudes, así que marcan el punto exacto desde el que reanudar.
+
+create sequence credit_import_jobs_seq start with 1 increment by 50;
+
+create table credit_import_jobs (
+    id bigint not null,
+    file varchar(500) not null,
+    format varchar(255) not null check (format in ('CSV','NDJSON')),
+    status varchar(255) not null check (status in ('RUNNING','COMPLETED','FAILED')),
+    lines_processed bigint not null,
+    imported bigint not null,
+    rejected bigint not null,
+    reject_bytes bigint not null,
+    error varchar(1000),
+    version bigint,
+    started_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    finished_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_import_jobs_status_updated_at on credit_import_jobs (status, updated_at);
@@ -0,0 +1,49 @@
+-- Historial de auditoría de credits_applications: una fila por transición, con los valores previos
+-- y nuevos. Cada fila encadena el hash de la anterior (seq - 1); credit_audit_head guarda el último
+-- eslabón y serializa a los escritores de todas las instancias.
+
+create table credit_audit_log (
+    seq bigint not null,
+    credit_id bigint not null,
+    action varchar(255) not null check (action in ('CREATED','UPDATED','REVIEWED','DELETED','PURGED')),
+    old_customer_name varchar(255),
+    old_amount numeric(19,2),
+    old_type varchar(255) check (old_type in ('PERSONAL','BUSINESS')),
+    old_status varchar(255) check (old_status in ('PENDING','APPROVED','REJECTED')),
+    old_version bigint,
+    new_customer_name varchar(255),
+    new_amount numeric(19,2),
+    new_type varchar(255) check (new_type in ('PERSONAL','BUSINESS')),
+    new_status varchar(255) check (new_status in ('PENDING','APPROVED','REJECTED')),
+    new_version bigint,
+    occurred_at timestamp(6) not null,
+    prev_hash varchar(64) not null,
+    hash varchar(64) not null,
+    primary key (seq)
+);
+
+create index idx_credit_audit_credit_id_seq on credit_audit_log (credit_id, seq);
+
+create table credit_audit_head (
+    id integer not null,
+    last_seq bigint not null,
+    last_hash varchar(64) not null,
+    primary key (id)
+);
+
+insert into credit_audit_head (id, last_seq, last_hash) values (1, 0, repeat('0', 64));
+
+-- Solo inserciones: modificar o borrar el historial exige desactivar antes estos triggers
+create function credit_audit_log_append_only() returns trigger as $$
+begin
+    raise exception 'credit_audit_log is append-only';
+end;
+$$ language plpgsql;
+
+create trigger credit_audit_log_no_update_delete
+    before update or delete on credit_audit_log
+    for each row execute function credit_audit_log_append_only();
+
+create trigger credit_audit_log_no_truncate
+    before truncate on credit_audit_log
+    for each statement execute function credit_audit_log_append_only();
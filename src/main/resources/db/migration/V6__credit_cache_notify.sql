@@ -0,0 +1,42 @@
+-- Invalidación de cachés entre instancias: cada sentencia sobre credits_applications envía un
+-- NOTIFY por el canal credit_cache, que PostgreSQL entrega al confirmarse la transacción.
+-- Payload: '' tras inserciones (solo cambian las consultas), ids separados por comas tras
+-- modificaciones y borrados, '*' cuando la lista no cabe en un NOTIFY (límite de 8000 bytes).
+-- Los triggers son de sentencia: una sola notificación por UPDATE o DELETE masivo.
+
+create function credit_cache_notify() returns trigger as $$
+declare
+    payload text := '';
+begin
+    if tg_op = 'TRUNCATE' then
+        payload := '*';
+    elsif tg_op in ('UPDATE', 'DELETE') then
+        select string_agg(id::text, ',') into payload from old_rows;
+        if payload is null then
+            return null;
+        elsif octet_length(payload) > 7000 then
+            payload := '*';
+        end if;
+    end if;
+    perform pg_notify('credit_cache', payload);
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger credits_applications_cache_insert
+    after insert on credits_applications
+    for each statement execute function credit_cache_notify();
+
+create trigger credits_applications_cache_update
+    after update on credits_applications
+    referencing old table as old_rows
+    for each statement execute function credit_cache_notify();
+
+create trigger credits_applications_cache_delete
+    after delete on credits_applications
+    referencing old table as old_rows
+    for each statement execute function credit_cache_notify();
+
+create trigger credits_applications_cache_truncate
+    after truncate on credits_applications
+    for each statement execute function credit_cache_notify();
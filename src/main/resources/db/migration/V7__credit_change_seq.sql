@@ -0,0 +1,6 @@
+-- Ids de los eventos de GET /api/credits/stream, compartidos por todas las instancias.
+-- Cada escritura envía su cambio por el canal credit_changes dentro de su transacción
+-- (payload '<id> <evento> <json>'); PostgreSQL lo entrega a todas las instancias al confirmarse,
+-- en orden de commit, así que un Last-Event-ID vale en cualquiera de ellas.
+
+create sequence credit_change_seq;
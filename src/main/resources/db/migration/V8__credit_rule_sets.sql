@@ -0,0 +1,24 @@
+-- Conjuntos de reglas de elegibilidad publicados con PUT /api/credit-rules. Cada publicación es una
+-- fila nueva y rige la de mayor versión; sin filas, cada instancia usa credit.rules de su configuración.
+-- El trigger avisa por el canal credit_rules al confirmarse, y todas las instancias recargan.
+
+create sequence credit_rule_sets_seq start with 1 increment by 1;
+
+create table credit_rule_sets (
+    version bigint not null,
+    default_outcome varchar(255) not null check (default_outcome in ('PENDING','APPROVED','REJECTED')),
+    definitions text not null,
+    created_at timestamp(6) not null,
+    primary key (version)
+);
+
+create function credit_rules_notify() returns trigger as $$
+begin
+    perform pg_notify('credit_rules', new.version::text);
+    return null;
+end;
+$$ language plpgsql;
+
+create trigger credit_rule_sets_notify
+    after insert on credit_rule_sets
+    for each row execute function credit_rules_notify();
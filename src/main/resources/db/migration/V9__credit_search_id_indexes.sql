@@ -0,0 +1,6 @@
+-- GET /api/credits/search pagina por id (keyset): con (status, id) y (type, id) una página filtrada
+-- por estado o tipo es un recorrido ordenado del índice desde el cursor, sin ordenar las coincidencias.
+-- Los índices terminados en created_at siguen sirviendo al archivo, la purga y los rangos de fechas.
+
+create index idx_credits_status_id on credits_applications (status, id);
+create index idx_credits_type_id on credits_applications (type, id);
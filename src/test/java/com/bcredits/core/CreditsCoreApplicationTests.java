@@ -1,14 +1,42 @@
 package com.bcredits.core;
 
+import com.bcredits.core.api.dto.CreditBatchResponseDTO;
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditPurgeResultDTO;
 import com.bcredits.core.api.dto.CreditRequestDTO;
 import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.CreditSearchCriteria;
+import com.bcredits.core.api.dto.CreditStatsDTO;
+import com.bcredits.core.domain.exception.CreditVersionMismatchException;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
 import com.bcredits.core.domain.mapper.CreditMapper;
 import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditAction;
 import com.bcredits.core.domain.model.CreditStatus;
 import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.outbox.CreditOutbox;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.domain.rules.CreditRuleProperties;
 import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.domain.service.CreditStatsService;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.archive.CreditArchive;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import com.bcredits.core.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import com.bcredits.core.infrastructure.datasource.ReplicaPool;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import com.bcredits.core.infrastructure.metrics.CreditMetrics;
+import com.bcredits.core.infrastructure.metrics.ReplicaRoutingMetrics;
+import com.bcredits.core.infrastructure.idempotency.CreditIdempotencyStore;
+import com.bcredits.core.infrastructure.repository.CreditRemoval;
 import com.bcredits.core.infrastructure.repository.CreditRepository;
+import com.bcredits.core.infrastructure.repository.CreditRevision;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,17 +44,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,15 +80,46 @@ class CreditServiceTest {
     @Mock
     private CreditMapper mapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private CreditStatsService statsService;
+
+    @Mock
+    private CreditOutbox outbox;
+
+    @Mock
+    private CreditIdempotencyStore idempotencyStore;
+
+    @Mock
+    private CreditArchive archive;
+
+    @Mock
+    private CreditChangeStream changeStream;
+
+    @Mock
+    private CreditAuditTrail auditTrail;
+
     @InjectMocks
     private CreditService service;
 
     private static final BigDecimal MAX_AUTO_AMOUNT = new BigDecimal("50000");
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private CreditPortfolioStats portfolioStats;
+
     @BeforeEach
     void setUp() {
        
-        ReflectionTestUtils.setField(service, "maxAutoEvalAmount", MAX_AUTO_AMOUNT);
+        ReflectionTestUtils.setField(service, "ruleEngine", CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT));
+        ReflectionTestUtils.setField(service, "cache", new CreditCache(100, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(service, "metrics", new CreditMetrics(meterRegistry));
+        ReflectionTestUtils.setField(service, "decisionLogger", new CreditDecisionLogger(100));
+        portfolioStats = new CreditPortfolioStats();
+        ReflectionTestUtils.setField(service, "portfolioStats", portfolioStats);
     }
 
   
@@ -71,6 +143,7 @@ class CreditServiceTest {
         assertThat(response.amount()).isEqualByComparingTo(request.amount());
         
         verify(repository).save(argThat(credit -> credit.getStatus() == CreditStatus.APPROVED));
+        assertThat(portfolioStats.snapshot().totalAmount()).isEqualByComparingTo(request.amount());
     }
 
     @Test
@@ -83,7 +156,7 @@ class CreditServiceTest {
 
         when(mapper.toEntity(request)).thenReturn(entity);
         when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
-        when(mapper.toResponse(any())).thenAnswer(i -> buildResponse(i.getArgument(0)));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
 
      
         CreditResponseDTO response = service.create(request);
@@ -91,6 +164,47 @@ class CreditServiceTest {
  
         assertThat(response.status()).isEqualTo(CreditStatus.REJECTED);
         verify(repository).save(argThat(c -> c.getStatus() == CreditStatus.REJECTED));
+        assertThat(meterRegistry.get("credits.decisions")
+                .tag("type", "BUSINESS").tag("status", "REJECTED").counter().count()).isEqualTo(1.0);
+        verify(outbox).decision(eq(CreditOutbox.CREATED), any(), any(), eq("Empresa Cambridge"),
+                eq(highAmount), eq(CreditType.BUSINESS), eq(CreditStatus.REJECTED));
+    }
+
+    @Test
+    @DisplayName("Should leave large amounts PENDING for asynchronous review")
+    void create_ShouldStorePending_WhenDefaultOutcomeIsPending() {
+
+        ReflectionTestUtils.setField(service, "ruleEngine", new CreditRuleEngine(
+                new CreditRuleProperties(CreditStatus.PENDING, List.of()), MAX_AUTO_AMOUNT));
+        CreditRequestDTO request = new CreditRequestDTO("Empresa Cambridge", new BigDecimal("120000"), CreditType.BUSINESS);
+
+        when(mapper.toEntity(request)).thenReturn(buildEntity(request, null));
+        when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditResponseDTO response = service.create(request);
+
+
+        assertThat(response.status()).isEqualTo(CreditStatus.PENDING);
+        verify(repository).save(argThat(c -> c.getStatus() == CreditStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should record the idempotency key in the same transaction as the application")
+    void create_ShouldRecordIdempotencyKey() {
+
+        CreditRequestDTO request = new CreditRequestDTO("Juan B", new BigDecimal("4500"), CreditType.PERSONAL);
+
+        when(mapper.toEntity(request)).thenReturn(buildEntity(request, null));
+        when(repository.save(any(CreditApplication.class))).thenAnswer(i -> i.getArgument(0));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditResponseDTO response = service.create(request, "retry-123");
+
+
+        verify(idempotencyStore).record("retry-123", request, response);
     }
 
     @Test
@@ -106,7 +220,7 @@ class CreditServiceTest {
 
         when(mapper.toEntity(request)).thenReturn(entity);
         when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
-        when(mapper.toResponse(any())).thenAnswer(i -> buildResponse(i.getArgument(0)));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
 
 
         CreditResponseDTO response = service.create(request);
@@ -119,21 +233,117 @@ class CreditServiceTest {
 
 
     @Test
-    @DisplayName("Should return all credit applications")
-    void findAll_ShouldReturnAllApplications() {
+    @DisplayName("Should insert valid batch items and report invalid ones")
+    void createBatch_ShouldReportPerItemResults() {
+
+        ReflectionTestUtils.setField(service, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(service, "jdbcBatchSize", 2);
+        List<CreditRequestDTO> batch = List.of(
+                new CreditRequestDTO("Batch One", new BigDecimal("1000"), CreditType.PERSONAL),
+                new CreditRequestDTO("X", new BigDecimal("10"), CreditType.PERSONAL),
+                new CreditRequestDTO("Batch Two", new BigDecimal("90000"), CreditType.BUSINESS),
+                new CreditRequestDTO("Batch Three", new BigDecimal("2000"), CreditType.BUSINESS)
+        );
+
+        when(mapper.toEntity(any())).thenAnswer(i -> buildEntity(i.getArgument(0), CreditStatus.PENDING));
+        when(repository.saveAll(any())).thenAnswer(i -> List.copyOf(i.getArgument(0)));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditBatchResponseDTO response = service.createBatch(batch);
+
+
+        assertThat(response.received()).isEqualTo(4);
+        assertThat(response.created()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.items().get(1).created()).isFalse();
+        assertThat(response.items().get(1).errors()).containsKeys("customerName", "amount");
+        assertThat(response.items().get(2).credit().status()).isEqualTo(CreditStatus.REJECTED);
+        verify(repository, times(2)).saveAll(any());
+        verify(entityManager, times(2)).flush();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than the configured maximum")
+    void createBatch_ShouldThrowException_WhenBatchTooLarge() {
+
+        ReflectionTestUtils.setField(service, "maxBatchSize", 1);
+        List<CreditRequestDTO> batch = List.of(
+                new CreditRequestDTO("Batch One", new BigDecimal("1000"), CreditType.PERSONAL),
+                new CreditRequestDTO("Batch Two", new BigDecimal("2000"), CreditType.PERSONAL)
+        );
+
+        assertThatThrownBy(() -> service.createBatch(batch))
+                .isInstanceOf(InvalidRequestParameterException.class);
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should return first page with a continuation cursor")
+    void findAll_ShouldReturnPageWithCursor_WhenMoreRowsExist() {
  
         CreditApplication app1 = buildEntityWithId(1L, "User 1", new BigDecimal("30000"), CreditStatus.APPROVED);
         CreditApplication app2 = buildEntityWithId(2L, "User 2", new BigDecimal("60000"), CreditStatus.REJECTED);
+        CreditApplication app3 = buildEntityWithId(3L, "User 3", new BigDecimal("10000"), CreditStatus.APPROVED);
+        
+        when(repository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3))).thenReturn(List.of(app1, app2, app3));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditPageDTO page = service.findAll(null, 2);
+
+
+        assertThat(page.content()).extracting(CreditResponseDTO::id).containsExactly(1L, 2L);
+        assertThat(page.nextCursor()).isNotNull();
+        
+        service.findAll(page.nextCursor(), 2);
+        verify(repository).findByIdGreaterThanOrderByIdAsc(eq(2L), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Should return last page without cursor and cap page size")
+    void findAll_ShouldReturnLastPage_WithoutCursor() {
+ 
+        CreditApplication app1 = buildEntityWithId(1L, "User 1", new BigDecimal("30000"), CreditStatus.APPROVED);
         
-        when(repository.findAll()).thenReturn(List.of(app1, app2));
-        when(mapper.toResponse(any())).thenAnswer(i -> buildResponse(i.getArgument(0)));
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenReturn(List.of(app1));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditPageDTO page = service.findAll(null, 10_000);
+
+
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.nextCursor()).isNull();
+        verify(repository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(101));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed pagination cursor")
+    void findAll_ShouldThrowException_WhenCursorIsInvalid() {
+
+        assertThatThrownBy(() -> service.findAll("not-a-cursor", 20))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+
+    @Test
+    @DisplayName("Should search through specifications with keyset pagination")
+    void search_ShouldReturnMatchingPage() {
+
+        CreditApplication app1 = buildEntityWithId(5L, "Acme Corp", new BigDecimal("60000"), CreditStatus.REJECTED);
+        CreditSearchCriteria criteria = new CreditSearchCriteria(
+                CreditStatus.REJECTED, null, new BigDecimal("50000"), null, null, null, "Acme");
+
+        when(repository.findBy(any(Specification.class), any())).thenReturn(List.of(app1));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
 
 
-        List<CreditResponseDTO> results = service.findAll();
+        CreditPageDTO page = service.search(criteria, null, 20);
 
 
-        assertThat(results).hasSize(2);
-        verify(repository).findAll();
+        assertThat(page.content()).extracting(CreditResponseDTO::id).containsExactly(5L);
+        assertThat(page.nextCursor()).isNull();
     }
 
     @Test
@@ -154,6 +364,65 @@ class CreditServiceTest {
         assertThat(response.customerName()).isEqualTo("Test User");
     }
 
+    @Test
+    @DisplayName("Should serve repeated reads from cache until the credit is updated")
+    void findById_ShouldUseCache_AndInvalidateOnUpdate() {
+
+        Long existingId = 1L;
+        CreditApplication entity = buildEntityWithId(existingId, "Cached User", new BigDecimal("25000"), CreditStatus.APPROVED);
+
+        when(repository.findById(existingId)).thenReturn(Optional.of(entity));
+        when(repository.updateReturning(eq(existingId), any(), any(), any(), any())).thenAnswer(i -> {
+            entity.setCustomerName(i.getArgument(1));
+            return Optional.of(buildRevision(entity, entity.getAmount(), entity.getType(), entity.getStatus()));
+        });
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+        when(mapper.toResponse(any(CreditRevision.class))).thenAnswer(i -> buildRevisionResponse(i.getArgument(0)));
+
+
+        service.findById(existingId);
+        service.findById(existingId);
+        service.update(existingId, new CreditRequestDTO("Renamed User", new BigDecimal("25000"), CreditType.PERSONAL), null);
+        CreditResponseDTO afterUpdate = service.findById(existingId);
+
+
+        assertThat(afterUpdate.customerName()).isEqualTo("Renamed User");
+        assertThat(service.cacheStats().hits()).isEqualTo(1);
+        assertThat(service.cacheStats().misses()).isEqualTo(2);
+        verify(repository, times(2)).findById(existingId);
+    }
+
+    @Test
+    @DisplayName("Should cache the primary row, not the one of a lagging replica")
+    void findById_ShouldLoadFromPrimary_WhenReplicaLags() {
+
+        // La réplica está dentro de max-lag pero aún no ha aplicado la revisión que aprobó la solicitud
+        ReplicaPool replica = new ReplicaPool("replica-1", creditDatabase(CreditStatus.PENDING));
+        replica.update(Duration.ZERO);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(
+                creditDatabase(CreditStatus.APPROVED), List.of(replica), Duration.ofSeconds(5),
+                new ReplicaRoutingMetrics(meterRegistry)));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        // Como SimpleJpaRepository.findById: su propia transacción de solo lectura
+        TransactionTemplate reads = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        reads.setReadOnly(true);
+
+        when(repository.findById(1L)).thenAnswer(i -> Optional.of(buildEntityWithId(1L, "Lagging User",
+                new BigDecimal("25000"), CreditStatus.valueOf(reads.execute(status ->
+                        jdbc.queryForObject("SELECT status FROM credit WHERE id = 1", String.class))))));
+        when(mapper.toResponse(any(CreditApplication.class))).thenAnswer(i -> buildResponse(i.getArgument(0)));
+
+
+        CreditResponseDTO first = service.findById(1L);
+        CreditResponseDTO cached = service.findById(1L);
+
+
+        assertThat(first.status()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(cached.status()).isEqualTo(CreditStatus.APPROVED);
+        assertThat(meterRegistry.get("credits.datasource.reads").tag("pool", "primary").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("credits.datasource.reads").tag("pool", "replica-1").counter()).isNull();
+    }
+
     @Test
     @DisplayName("Should throw EntityNotFoundException when ID does not exist")
     void findById_ShouldThrowException_WhenIdDoesNotExist() {
@@ -180,29 +449,63 @@ class CreditServiceTest {
             CreditType.BUSINESS
         );
         
-        CreditApplication existing = buildEntityWithId(
-            existingId, 
-            "Old Name", 
-            new BigDecimal("60000"), 
-            CreditStatus.REJECTED
-        );
-        
-        when(repository.findById(existingId)).thenReturn(Optional.of(existing));
-        when(repository.save(any())).thenAnswer(i -> i.getArgument(0));
-        when(mapper.toResponse(any())).thenAnswer(i -> buildResponse(i.getArgument(0)));
+        portfolioStats.recordCreated(CreditType.PERSONAL, CreditStatus.REJECTED, new BigDecimal("60000"));
+        when(repository.updateReturning(eq(existingId), any(), any(), any(), any()))
+                .thenAnswer(i -> Optional.of(buildRevision(
+                        buildUpdatedEntity(i.getArgument(0), i.getArgument(1), i.getArgument(2),
+                                i.getArgument(3), i.getArgument(4)),
+                        new BigDecimal("60000"), CreditType.PERSONAL, CreditStatus.REJECTED)));
+        when(mapper.toResponse(any(CreditRevision.class))).thenAnswer(i -> buildRevisionResponse(i.getArgument(0)));
         
      
-        CreditResponseDTO response = service.update(existingId, updateRequest);
+        CreditResponseDTO response = service.update(existingId, updateRequest, null);
         
        
         assertThat(response.customerName()).isEqualTo("Updated Name");
         assertThat(response.amount()).isEqualByComparingTo(new BigDecimal("25000"));
         assertThat(response.status()).isEqualTo(CreditStatus.APPROVED); // Re-evaluado
         
-        verify(repository).save(argThat(c -> 
-            c.getCustomerName().equals("Updated Name") && 
-            c.getStatus() == CreditStatus.APPROVED
-        ));
+        verify(repository).updateReturning(existingId, "Updated Name", new BigDecimal("25000"),
+                "BUSINESS", "APPROVED");
+        verify(repository, never()).findById(any());
+        verify(outbox).decision(eq(CreditOutbox.UPDATED), eq(existingId), any(), eq("Updated Name"),
+                any(), eq(CreditType.BUSINESS), eq(CreditStatus.APPROVED));
+        
+        CreditStatsDTO stats = portfolioStats.snapshot();
+        assertThat(stats.totalCount()).isEqualTo(1);
+        assertThat(stats.totalAmount()).isEqualByComparingTo(new BigDecimal("25000"));
+        assertThat(stats.approvalRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject update when If-Match version is stale")
+    void update_ShouldThrowException_WhenVersionDoesNotMatch() {
+
+        Long existingId = 1L;
+        CreditRequestDTO updateRequest = new CreditRequestDTO("New Name", new BigDecimal("30000"), CreditType.PERSONAL);
+        when(repository.updateReturningIfVersion(eq(existingId), eq(List.of(2L)), any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(repository.findVersionById(existingId)).thenReturn(Optional.of(3L));
+
+
+        assertThatThrownBy(() -> service.update(existingId, updateRequest, List.of(2L)))
+                .isInstanceOf(CreditVersionMismatchException.class)
+                .hasMessageContaining("version 3");
+    }
+
+    @Test
+    @DisplayName("Should reject update without writing when If-Match has only weak tags")
+    void update_ShouldThrowException_WhenNoStrongTagCanMatch() {
+
+        Long existingId = 1L;
+        CreditRequestDTO updateRequest = new CreditRequestDTO("New Name", new BigDecimal("30000"), CreditType.PERSONAL);
+        when(repository.findVersionById(existingId)).thenReturn(Optional.of(3L));
+
+        assertThatThrownBy(() -> service.update(existingId, updateRequest, List.of()))
+                .isInstanceOf(CreditVersionMismatchException.class)
+                .hasMessageContaining("version 3");
+        verify(repository, never()).updateReturningIfVersion(any(), any(), any(), any(), any(), any());
+        verify(repository, never()).updateReturning(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -211,10 +514,11 @@ class CreditServiceTest {
       
         Long invalidId = 99L;
         CreditRequestDTO updateRequest = new CreditRequestDTO("Test", new BigDecimal("30000"), CreditType.PERSONAL);
-        when(repository.findById(invalidId)).thenReturn(Optional.empty());
+        when(repository.updateReturning(eq(invalidId), any(), any(), any(), any())).thenReturn(Optional.empty());
+        when(repository.findVersionById(invalidId)).thenReturn(Optional.empty());
 
     
-        assertThatThrownBy(() -> service.update(invalidId, updateRequest))
+        assertThatThrownBy(() -> service.update(invalidId, updateRequest, null))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("ID: " + invalidId);
     }
@@ -226,13 +530,21 @@ class CreditServiceTest {
     void delete_ShouldRemoveEntity_WhenIdExists() {
        
         Long existingId = 1L;
-        when(repository.existsById(existingId)).thenReturn(true);
+        portfolioStats.recordCreated(CreditType.PERSONAL, CreditStatus.APPROVED, new BigDecimal("1000"));
+        when(repository.removeById(existingId)).thenReturn(Optional.of(
+                new Removal(existingId, "Juan Perez", CreditType.PERSONAL, CreditStatus.APPROVED,
+                        new BigDecimal("1000"), 2L)));
         
    
         service.delete(existingId);
         
 
-        verify(repository).deleteById(existingId);
+        verify(repository).removeById(existingId);
+        verify(auditTrail).record(eq(CreditAuditAction.DELETED), eq(existingId),
+                eq(new CreditAuditTrail.State("Juan Perez", new BigDecimal("1000"), CreditType.PERSONAL,
+                        CreditStatus.APPROVED, 2L)), isNull());
+        verify(repository, never()).existsById(any());
+        assertThat(portfolioStats.snapshot().totalCount()).isZero();
     }
 
     @Test
@@ -240,18 +552,48 @@ class CreditServiceTest {
     void delete_ShouldThrowException_WhenIdDoesNotExist() {
  
         Long invalidId = 99L;
-        when(repository.existsById(invalidId)).thenReturn(false);
+        when(repository.removeById(invalidId)).thenReturn(Optional.empty());
         
 
         assertThatThrownBy(() -> service.delete(invalidId))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("ID: " + invalidId);
-        
-        verify(repository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should purge rejected applications chunk by chunk")
+    void purgeRejected_ShouldDeleteInChunks() {
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(i ->
+                i.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        ReflectionTestUtils.setField(service, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(service, "purgeChunkSize", 2);
+        LocalDateTime cutoff = LocalDateTime.now().minusYears(1);
+        when(repository.deleteChunkByStatusAndCreatedBefore("REJECTED", cutoff, 2))
+                .thenReturn(rejected(1L, 2L), rejected(3L, 4L), rejected(5L));
+
+
+        CreditPurgeResultDTO result = service.purgeRejected(cutoff);
+
+
+        assertThat(result.deleted()).isEqualTo(5);
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(auditTrail, times(5)).record(eq(CreditAuditAction.PURGED), any(), any(), isNull());
+        verify(statsService).rebuild();
     }
 
    
 
+    private static DataSource creditDatabase(CreditStatus status) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:credits-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE credit (id BIGINT, status VARCHAR(20))");
+        jdbc.update("INSERT INTO credit VALUES (1, ?)", status.name());
+        return dataSource;
+    }
+
     private CreditApplication buildEntity(CreditRequestDTO req, CreditStatus status) {
         return CreditApplication.builder()
                 .customerName(req.customerName())
@@ -273,6 +615,37 @@ class CreditServiceTest {
                 .build();
     }
 
+    private CreditApplication buildUpdatedEntity(Long id, String name, BigDecimal amount, String type, String status) {
+        return CreditApplication.builder()
+                .id(id)
+                .customerName(name)
+                .amount(amount)
+                .type(CreditType.valueOf(type))
+                .status(CreditStatus.valueOf(status))
+                .createdAt(LocalDateTime.now())
+                .version(1L)
+                .build();
+    }
+
+    private CreditRevision buildRevision(CreditApplication entity, BigDecimal previousAmount,
+                                         CreditType previousType, CreditStatus previousStatus) {
+        return new Revision(entity.getId(), entity.getCustomerName(), entity.getAmount(), entity.getType(),
+                entity.getStatus(), entity.getCreatedAt(), entity.getVersion(),
+                previousAmount, previousType, previousStatus, entity.getCustomerName(), null);
+    }
+
+    private CreditResponseDTO buildRevisionResponse(CreditRevision revision) {
+        return new CreditResponseDTO(
+                revision.getId(),
+                revision.getCustomerName(),
+                revision.getAmount(),
+                revision.getType(),
+                revision.getStatus(),
+                revision.getCreatedAt(),
+                revision.getVersion()
+        );
+    }
+
     private CreditResponseDTO buildResponse(CreditApplication entity) {
         return new CreditResponseDTO(
                 entity.getId(),
@@ -280,7 +653,24 @@ class CreditServiceTest {
                 entity.getAmount(),
                 entity.getType(),
                 entity.getStatus(),
-                entity.getCreatedAt()
+                entity.getCreatedAt(),
+                entity.getVersion()
         );
     }
-}
\ No newline at end of file
+
+    private record Revision(Long getId, String getCustomerName, BigDecimal getAmount, CreditType getType,
+                            CreditStatus getStatus, LocalDateTime getCreatedAt, Long getVersion,
+                            BigDecimal getPreviousAmount, CreditType getPreviousType,
+                            CreditStatus getPreviousStatus, String getPreviousCustomerName,
+                            Long getPreviousVersion) implements CreditRevision {}
+
+    private List<CreditRemoval> rejected(Long... ids) {
+        return Arrays.stream(ids)
+                .map(id -> (CreditRemoval) new Removal(id, "Cliente " + id, CreditType.PERSONAL, CreditStatus.REJECTED,
+                        new BigDecimal("900000.00"), 0L))
+                .toList();
+    }
+
+    private record Removal(Long getId, String getCustomerName, CreditType getType, CreditStatus getStatus,
+                           BigDecimal getAmount, Long getVersion) implements CreditRemoval {}
+}
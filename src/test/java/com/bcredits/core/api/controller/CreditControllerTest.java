@@ -0,0 +1,47 @@
+package com.bcredits.core.api.controller;
+
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Credit Controller If-Match Tests")
+class CreditControllerTest {
+
+    @Test
+    @DisplayName("Should not add a precondition when If-Match is absent or a wildcard")
+    void parseVersions_ShouldReturnNull_WithoutCondition() {
+        assertThat(CreditController.parseVersions(null)).isNull();
+        assertThat(CreditController.parseVersions(" ")).isNull();
+        assertThat(CreditController.parseVersions("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should accept every strong version in an If-Match list")
+    void parseVersions_ShouldSplitEntityTagList() {
+        assertThat(CreditController.parseVersions("\"3\"")).containsExactly(3L);
+        assertThat(CreditController.parseVersions("\"3\", \"5\",\"8\"")).containsExactly(3L, 5L, 8L);
+        // Sin comillas se sigue aceptando el número de versión
+        assertThat(CreditController.parseVersions("4")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should never match a weak or foreign entity tag")
+    void parseVersions_ShouldUseStrongComparison() {
+        assertThat(CreditController.parseVersions("W/\"3\"")).isEmpty();
+        assertThat(CreditController.parseVersions("W/\"3\", \"abc\", \"7\"")).containsExactly(7L);
+        assertThat(CreditController.parseVersions("\"a,b\", \"2\"")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed If-Match header")
+    void parseVersions_ShouldRejectMalformedHeader() {
+        assertThatThrownBy(() -> CreditController.parseVersions("\"3"))
+                .isInstanceOf(InvalidRequestParameterException.class);
+        assertThatThrownBy(() -> CreditController.parseVersions("W/3"))
+                .isInstanceOf(InvalidRequestParameterException.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.bcredits.core.api.json;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Credit Response Serializer Unit Tests")
+class CreditResponseSerializerTest {
+
+    @Test
+    @DisplayName("Should produce the same JSON as reflective Jackson serialization")
+    void serialize_ShouldMatchReflectiveOutput() throws Exception {
+
+        List<CreditResponseDTO> page = List.of(
+                new CreditResponseDTO(1L, "Juan \"B\"", new BigDecimal("4500.00"), CreditType.PERSONAL,
+                        CreditStatus.APPROVED, LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), 3L),
+                new CreditResponseDTO(2L, "Empresa", new BigDecimal("1E+5"), CreditType.BUSINESS,
+                        CreditStatus.PENDING, LocalDateTime.of(2025, 3, 1, 10, 15), null));
+
+        ObjectMapper reflective = mapper().build();
+        ObjectMapper prebuilt = mapper()
+                .modulesToInstall(new SimpleModule().addSerializer(new CreditResponseSerializer()))
+                .build();
+
+        assertThat(prebuilt.writeValueAsString(page)).isEqualTo(reflective.writeValueAsString(page));
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+}
@@ -0,0 +1,172 @@
+package com.bcredits.core.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generador de carga en lazo cerrado contra la API de créditos en ejecución.
+ * Cada cliente concurrente alterna POST /api/credits y GET /api/credits/{id} y al final se
+ * imprime una línea CSV: mode,concurrency,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms.
+ * Con un quinto argumento {@code slowMillis} mayor que 0, cada POST envía su cuerpo en dos mitades
+ * separadas por esa pausa, como un cliente con un enlace lento.
+ *
+ * <pre>
+ * java -cp target/test-classes com.bcredits.core.benchmark.CreditApiLoadGenerator \
+ *     http://localhost:8080 platform 200 30 [slowMillis]
+ * </pre>
+ *
+ * benchmarks/virtual-threads.sh y benchmarks/reactive.sh arrancan la aplicación en cada modo y
+ * ejecutan este generador.
+ */
+public class CreditApiLoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String mode = args.length > 1 ? args[1] : "unknown";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        long slowMillis = args.length > 4 ? Long.parseLong(args[4]) : 0;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Future<Worker>> futures = new ArrayList<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> new Worker(client, baseUrl, slowMillis).run(deadline)));
+            }
+        }
+
+        long requests = 0;
+        long errors = 0;
+        long[] all = new long[0];
+        for (Future<Worker> future : futures) {
+            Worker worker = future.get();
+            requests += worker.count;
+            errors += worker.errors;
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + worker.count);
+            System.arraycopy(worker.latencies, 0, all, offset, worker.count);
+        }
+        Arrays.sort(all);
+
+        System.out.printf("%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f%n",
+                mode, concurrency, requests, errors, requests / (double) seconds,
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99), percentileMillis(all, 1.0));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static final class Worker {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final long slowMillis;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long lastId = -1;
+
+        private Worker(HttpClient client, String baseUrl, long slowMillis) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.slowMillis = slowMillis;
+        }
+
+        private Worker run(long deadline) {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = nextRequest();
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() >= 400) {
+                        errors++;
+                    } else if (request.method().equals("POST")) {
+                        lastId = extractId(response.body());
+                    }
+                } catch (Exception ex) {
+                    errors++;
+                }
+                record(System.nanoTime() - start);
+            }
+            return this;
+        }
+
+        private HttpRequest nextRequest() {
+            if (lastId > 0 && ThreadLocalRandom.current().nextBoolean()) {
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/credits/" + lastId))
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+            }
+            String body = """
+                    {"customerName":"Load Test %d","amount":%d.00,"type":"%s"}"""
+                    .formatted(ThreadLocalRandom.current().nextInt(1_000_000),
+                            ThreadLocalRandom.current().nextInt(100, 100_000),
+                            ThreadLocalRandom.current().nextBoolean() ? "PERSONAL" : "BUSINESS");
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/api/credits"))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(slowMillis > 0 ? slowBody(body) : HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        // La cabecera y la primera mitad salen de inmediato; la segunda, tras slowMillis
+        private HttpRequest.BodyPublisher slowBody(String body) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            int half = bytes.length / 2;
+            Flow.Publisher<ByteBuffer> parts = subscriber -> {
+                SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>();
+                publisher.subscribe(subscriber);
+                Thread.startVirtualThread(() -> {
+                    publisher.submit(ByteBuffer.wrap(bytes, 0, half));
+                    try {
+                        Thread.sleep(slowMillis);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    publisher.submit(ByteBuffer.wrap(bytes, half, bytes.length - half));
+                    publisher.close();
+                });
+            };
+            return HttpRequest.BodyPublishers.fromPublisher(parts, bytes.length);
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private static long extractId(String json) {
+            int start = json.indexOf("\"id\"");
+            if (start < 0) return -1;
+            int colon = json.indexOf(':', start);
+            int end = colon + 1;
+            while (end < json.length() && (Character.isDigit(json.charAt(end)) || json.charAt(end) == ' ')) end++;
+            return Long.parseLong(json.substring(colon + 1, end).trim());
+        }
+    }
+}
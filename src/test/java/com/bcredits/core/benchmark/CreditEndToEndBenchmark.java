@@ -0,0 +1,101 @@
+package com.bcredits.core.benchmark;
+
+import com.bcredits.core.CreditsCoreApplication;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CreditService#create} y {@link CreditService#findById} con el contexto completo (transacciones,
+ * JPA, caché, métricas, outbox) sobre H2 en memoria en modo PostgreSQL. Las cifras no sustituyen a
+ * PostgreSQL, pero detectan regresiones en la capa de aplicación entre versiones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditEndToEndBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private CreditService service;
+    private CreditCache cache;
+    private long[] ids;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CreditsCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                     "--spring.datasource.driver-class-name=org.h2.Driver",
+                     "--spring.datasource.username=sa",
+                     "--spring.datasource.password=",
+                     "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                     "--spring.jpa.hibernate.ddl-auto=create-drop",
+                     "--spring.flyway.enabled=false",
+                     "--spring.jpa.show-sql=false",
+                     "--spring.jpa.properties.hibernate.generate_statistics=false",
+                     "--logging.level.root=WARN",
+                     "--credit.outbox.relay.enabled=false",
+                     "--credit.review.worker.enabled=false",
+                     "--credit.partitions.enabled=false",
+                     "--credit.archive.enabled=false",
+                     "--credit.cache.invalidation.enabled=false",
+                     "--credit.stream.shared.enabled=false");
+        service = context.getBean(CreditService.class);
+        cache = context.getBean(CreditCache.class);
+
+        ids = new long[1024];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = service.create(request(i)).id();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreditResponseDTO create() {
+        return service.create(request(cursor++));
+    }
+
+    @Benchmark
+    public CreditResponseDTO findByIdCached() {
+        return service.findById(ids[cursor++ & (ids.length - 1)]);
+    }
+
+    @Benchmark
+    public CreditResponseDTO findByIdUncached() {
+        long id = ids[cursor++ & (ids.length - 1)];
+        cache.invalidate(id);
+        return service.findById(id);
+    }
+
+    private static CreditRequestDTO request(int i) {
+        return new CreditRequestDTO("Cliente " + i,
+                BigDecimal.valueOf(100 + (i * 293L) % 100_000, 0).setScale(2),
+                (i & 1) == 0 ? CreditType.PERSONAL : CreditType.BUSINESS);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditEndToEndBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,66 @@
+package com.bcredits.core.benchmark;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.infrastructure.metrics.CreditMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camino completo de {@code CreditService.evaluateCreditEligibility}: regla, contador de decisiones
+ * y la línea de debug desactivada. El método es privado, así que se reproduce con los mismos
+ * colaboradores; {@link CreditRuleEngineBenchmark} mide solo la regla.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditEvaluationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditEvaluationBenchmark.class);
+
+    private CreditRuleEngine ruleEngine;
+    private CreditMetrics metrics;
+    private CreditType[] types;
+    private BigDecimal[] amounts;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ruleEngine = CreditRuleEngine.withAmountLimit(new BigDecimal("50000.00"));
+        metrics = new CreditMetrics(new SimpleMeterRegistry());
+
+        types = new CreditType[1024];
+        amounts = new BigDecimal[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            types[i] = (i & 1) == 0 ? CreditType.PERSONAL : CreditType.BUSINESS;
+            amounts[i] = BigDecimal.valueOf(100 + (i * 293L) % 300_000, 0).setScale(2);
+        }
+    }
+
+    @Benchmark
+    public CreditStatus evaluateCreditEligibility() {
+        int i = cursor++ & (amounts.length - 1);
+        CreditStatus status = ruleEngine.evaluate(types[i], amounts[i]);
+        metrics.recordDecision(types[i], status);
+        log.debug("Credit evaluation - Type: {}, Amount: ${}, Status: {}", types[i], amounts[i], status);
+        return status;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditEvaluationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bcredits.core.benchmark;
+
+import com.bcredits.core.api.dto.CreditPageDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.json.CreditResponseSerializer;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Codificación de una página de {@link CreditResponseDTO} tal como la devuelve {@code GET /api/credits}.
+ * <ul>
+ *   <li>{@code json-indented}: reflexión de Jackson con {@code indent-output}, la configuración previa en prod.</li>
+ *   <li>{@code json-reflective}: reflexión de Jackson, compacto.</li>
+ *   <li>{@code json}: compacto con {@link CreditResponseSerializer}.</li>
+ *   <li>{@code smile} / {@code cbor}: formatos binarios con el mismo serializador.</li>
+ * </ul>
+ * Con {@code gzip=true} se añade la compresión que aplica Tomcat. Los contadores secundarios
+ * {@code wireBytes} y {@code responses} se suman en toda la medición; su cociente son los bytes
+ * en la red por respuesta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditJsonBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    @Param({"json-indented", "json-reflective", "json", "smile", "cbor"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectWriter writer;
+    private CreditPageDTO page;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+        public long wireBytes;
+        public long responses;
+    }
+
+    @Setup
+    public void setUp() {
+        JsonFactory factory = switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .indentOutput(format.equals("json-indented"));
+        if (!format.startsWith("json-")) {
+            builder.modulesToInstall(new SimpleModule().addSerializer(new CreditResponseSerializer()));
+        }
+        writer = builder.build().writer();
+
+        List<CreditResponseDTO> content = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            content.add(new CreditResponseDTO((long) i + 1, "Cliente " + i,
+                    BigDecimal.valueOf(100 + (i * 293L) % 300_000, 0).setScale(2),
+                    (i & 1) == 0 ? CreditType.PERSONAL : CreditType.BUSINESS,
+                    (i % 3) == 0 ? CreditStatus.REJECTED : CreditStatus.APPROVED,
+                    now.minusMinutes(i), 0L));
+        }
+        page = new CreditPageDTO(content, size, "aWQ6MTAwMA");
+    }
+
+    @Benchmark
+    public byte[] encodePage(WireSize wire) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size * 160);
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes, 8192) : bytes) {
+            writer.writeValue(out, page);
+        }
+        wire.wireBytes += bytes.size();
+        wire.responses++;
+        return bytes.toByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditJsonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.bcredits.core.benchmark;
+
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.mapper.CreditMapper;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link CreditMapper#toEntity} y {@link CreditMapper#toResponse(CreditApplication)} por solicitud.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditMapperBenchmark {
+
+    private CreditMapper mapper;
+    private CreditRequestDTO[] requests;
+    private CreditApplication[] entities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        mapper = new CreditMapper();
+        requests = new CreditRequestDTO[1024];
+        entities = new CreditApplication[1024];
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < requests.length; i++) {
+            CreditType type = (i & 1) == 0 ? CreditType.PERSONAL : CreditType.BUSINESS;
+            BigDecimal amount = BigDecimal.valueOf(100 + (i * 293L) % 300_000, 0).setScale(2);
+            requests[i] = new CreditRequestDTO("Cliente " + i, amount, type);
+            entities[i] = CreditApplication.builder()
+                    .id((long) i + 1)
+                    .customerName("Cliente " + i)
+                    .amount(amount)
+                    .type(type)
+                    .status(CreditStatus.APPROVED)
+                    .version(0L)
+                    .createdAt(now)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public CreditApplication toEntity() {
+        return mapper.toEntity(requests[next()]);
+    }
+
+    @Benchmark
+    public CreditResponseDTO toResponse() {
+        return mapper.toResponse(entities[next()]);
+    }
+
+    private int next() {
+        return cursor++ & (requests.length - 1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.bcredits.core.benchmark;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.rules.CreditRuleDefinition;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de {@link CreditRuleEngine#evaluate} por solicitud.
+ *
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.bcredits.core.benchmark.CreditRuleEngineBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditRuleEngineBenchmark {
+
+    private CreditRuleEngine legacyEngine;
+    private CreditRuleEngine perTypeEngine;
+    private CreditType[] types;
+    private BigDecimal[] amounts;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        legacyEngine = CreditRuleEngine.withAmountLimit(new BigDecimal("50000.00"));
+
+        perTypeEngine = CreditRuleEngine.withAmountLimit(new BigDecimal("50000.00"));
+        perTypeEngine.reload(List.of(
+                new CreditRuleDefinition("business-review", CreditType.BUSINESS,
+                        new BigDecimal("100000.00"), new BigDecimal("250000.00"), CreditStatus.PENDING),
+                new CreditRuleDefinition("business-auto", CreditType.BUSINESS,
+                        null, new BigDecimal("100000.00"), CreditStatus.APPROVED),
+                new CreditRuleDefinition("personal-auto", CreditType.PERSONAL,
+                        new BigDecimal("100.00"), new BigDecimal("50000.00"), CreditStatus.APPROVED),
+                new CreditRuleDefinition("any-micro", null,
+                        null, new BigDecimal("1000.00"), CreditStatus.APPROVED)
+        ), CreditStatus.REJECTED);
+
+        types = new CreditType[1024];
+        amounts = new BigDecimal[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            types[i] = (i & 1) == 0 ? CreditType.PERSONAL : CreditType.BUSINESS;
+            amounts[i] = BigDecimal.valueOf(100 + (i * 293L) % 300_000, 0).setScale(2);
+        }
+    }
+
+    @Benchmark
+    public CreditStatus legacyThreshold() {
+        int i = cursor++ & 1023;
+        return legacyEngine.evaluate(types[i], amounts[i]);
+    }
+
+    @Benchmark
+    public CreditStatus perTypeRules() {
+        int i = cursor++ & 1023;
+        return perTypeEngine.evaluate(types[i], amounts[i]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditRuleEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
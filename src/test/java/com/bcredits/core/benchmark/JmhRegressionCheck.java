@@ -0,0 +1,65 @@
+package com.bcredits.core.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara dos resultados JSON de JMH ({@code ./mvnw -Pbenchmarks verify}) e imprime una línea CSV por
+ * benchmark: benchmark,mode,unit,baseline,current,change_pct,status. Sale con código 1 si algún
+ * benchmark empeora más del umbral (10 % por defecto), teniendo en cuenta que en {@code thrpt} más
+ * es mejor y en el resto menos es mejor.
+ *
+ * <pre>
+ * java -cp target/test-classes:$(cat cp.txt) com.bcredits.core.benchmark.JmhRegressionCheck \
+ *     jmh-baseline.json target/jmh-result.json 10
+ * </pre>
+ */
+public class JmhRegressionCheck {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhRegressionCheck <baseline.json> <current.json> [max-regression-pct]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, JsonNode> baseline = read(Path.of(args[0]));
+        Map<String, JsonNode> current = read(Path.of(args[1]));
+
+        boolean regressed = false;
+        System.out.println("benchmark,mode,unit,baseline,current,change_pct,status");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            String mode = now.path("mode").asText();
+            String unit = now.path("primaryMetric").path("scoreUnit").asText();
+            double score = now.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%s,%s,%s,,%.3f,,new%n", entry.getKey(), mode, unit, score);
+                continue;
+            }
+            double previous = before.path("primaryMetric").path("score").asDouble();
+            double change = (score - previous) / previous * 100;
+            double worse = mode.equals("thrpt") ? -change : change;
+            String status = worse > threshold ? "REGRESSION" : "ok";
+            regressed |= worse > threshold;
+            System.out.printf("%s,%s,%s,%.3f,%.3f,%.1f,%s%n", entry.getKey(), mode, unit, previous, score, change, status);
+        }
+        System.exit(regressed ? 1 : 0);
+    }
+
+    private static Map<String, JsonNode> read(Path file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file.toFile())) {
+            // La clave incluye los @Param para comparar cada combinación por separado
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            result.path("params").properties().forEach(p -> key.append(':').append(p.getKey()).append('=').append(p.getValue().asText()));
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+}
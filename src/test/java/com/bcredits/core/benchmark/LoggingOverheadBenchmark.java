@@ -0,0 +1,113 @@
+package com.bcredits.core.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de logging por solicitud creada, antes y después del perfil prod.
+ * <ul>
+ *   <li>{@code sync}: las dos líneas INFO que escribía {@code CreditService.create}, con appender síncrono.</li>
+ *   <li>{@code async}: las mismas dos líneas a través de un {@link AsyncAppender} acotado.</li>
+ *   <li>{@code async-rate-limited}: una línea de {@link CreditDecisionLogger} limitada a 50/s, asíncrona.</li>
+ * </ul>
+ * Throughput en operaciones por milisegundo con 4 hilos productores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingOverheadBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async", "async-rate-limited"})
+    public String mode;
+
+    private final Logger serviceLog = LoggerFactory.getLogger("com.bcredits.core.domain.service.CreditService");
+    private final BigDecimal amount = new BigDecimal("25000.00");
+    private LoggerContext context;
+    private CreditDecisionLogger decisionLogger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("credits-logging-bench", ".log");
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (!mode.equals("sync")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1024);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        decisionLogger = new CreditDecisionLogger(50);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void logCreate() {
+        if (mode.equals("async-rate-limited")) {
+            decisionLogger.decision("created", 42L, CreditType.PERSONAL, amount, CreditStatus.APPROVED);
+        } else {
+            serviceLog.info("Processing credit application for: {}", "Juan Benchmark");
+            serviceLog.info("Credit application processed - ID: {}, Amount: ${}, Status: {}",
+                    42L, amount, CreditStatus.APPROVED);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggingOverheadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
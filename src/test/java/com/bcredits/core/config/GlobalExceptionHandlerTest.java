@@ -0,0 +1,37 @@
+package com.bcredits.core.config;
+
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Global Exception Handler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should answer 400 with the message of an invalid request parameter")
+    void handleBadRequest_ShouldExposeMessage() {
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleBadRequest(new InvalidRequestParameterException("Invalid pagination cursor"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("message", "Invalid pagination cursor");
+    }
+
+    @Test
+    @DisplayName("Should not leak the message of an unexpected IllegalArgumentException")
+    void handleGenericException_ShouldHideIllegalArgumentMessage() {
+        ResponseEntity<Map<String, Object>> response =
+                handler.handleGenericException(new IllegalArgumentException("No enum constant com.bcredits.core.X"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().get("message")).asString().doesNotContain("com.bcredits");
+    }
+}
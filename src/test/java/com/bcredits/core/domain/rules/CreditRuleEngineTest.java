@@ -0,0 +1,94 @@
+package com.bcredits.core.domain.rules;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Credit Rule Engine Unit Tests")
+class CreditRuleEngineTest {
+
+    private static final BigDecimal MAX_AUTO_AMOUNT = new BigDecimal("50000");
+
+    @Test
+    @DisplayName("Should keep the legacy amount threshold when no rules are configured")
+    void evaluate_ShouldUseAmountLimit_ByDefault() {
+
+        CreditRuleEngine engine = CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT);
+
+        assertThat(engine.evaluate(CreditType.PERSONAL, MAX_AUTO_AMOUNT)).isEqualTo(CreditStatus.APPROVED);
+        assertThat(engine.evaluate(CreditType.BUSINESS, MAX_AUTO_AMOUNT.add(BigDecimal.ONE)))
+                .isEqualTo(CreditStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should apply the first matching rule for the credit type")
+    void evaluate_ShouldApplyPerTypeRules() {
+
+        CreditRuleEngine engine = CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT);
+        engine.reload(List.of(
+                new CreditRuleDefinition("business-review", CreditType.BUSINESS,
+                        new BigDecimal("100000"), new BigDecimal("250000"), CreditStatus.PENDING),
+                new CreditRuleDefinition("business-auto", CreditType.BUSINESS,
+                        null, new BigDecimal("100000"), CreditStatus.APPROVED),
+                new CreditRuleDefinition("any-small", null,
+                        null, new BigDecimal("10000"), CreditStatus.APPROVED)
+        ), CreditStatus.REJECTED);
+
+        assertThat(engine.evaluate(CreditType.BUSINESS, new BigDecimal("80000"))).isEqualTo(CreditStatus.APPROVED);
+        assertThat(engine.evaluate(CreditType.BUSINESS, new BigDecimal("100000"))).isEqualTo(CreditStatus.PENDING);
+        assertThat(engine.evaluate(CreditType.BUSINESS, new BigDecimal("300000"))).isEqualTo(CreditStatus.REJECTED);
+        assertThat(engine.evaluate(CreditType.PERSONAL, new BigDecimal("9000"))).isEqualTo(CreditStatus.APPROVED);
+        assertThat(engine.evaluate(CreditType.PERSONAL, new BigDecimal("20000"))).isEqualTo(CreditStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous rule set when a reload is invalid")
+    void reload_ShouldRejectInvalidRules() {
+
+        CreditRuleEngine engine = CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT);
+        List<CreditRuleDefinition> invalid = List.of(new CreditRuleDefinition(
+                "inverted", null, new BigDecimal("5000"), new BigDecimal("1000"), CreditStatus.APPROVED));
+
+        assertThatThrownBy(() -> engine.reload(invalid, CreditStatus.REJECTED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.definitions()).extracting(CreditRuleDefinition::name)
+                .containsExactly("auto-eval-max-amount");
+    }
+
+    @Test
+    @DisplayName("Should reject a rule set with a null rule instead of failing with NullPointerException")
+    void reload_ShouldRejectNullRule() {
+
+        CreditRuleEngine engine = CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT);
+        List<CreditRuleDefinition> withNull = Arrays.asList(new CreditRuleDefinition(
+                "small", null, null, new BigDecimal("1000"), CreditStatus.APPROVED), null);
+
+        assertThatThrownBy(() -> engine.reload(withNull, CreditStatus.REJECTED))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("null");
+        assertThatThrownBy(() -> engine.reload(null, CreditStatus.REJECTED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve pending applications with the review rules and refuse PENDING outcomes")
+    void review_ShouldOnlyResolveToFinalStatuses() {
+
+        CreditReviewEvaluator evaluator = new CreditReviewEvaluator(new CreditReviewProperties(CreditStatus.REJECTED,
+                List.of(new CreditRuleDefinition("business-large", CreditType.BUSINESS,
+                        null, new BigDecimal("150000"), CreditStatus.APPROVED))));
+
+        assertThat(evaluator.evaluate(CreditType.BUSINESS, new BigDecimal("120000"))).isEqualTo(CreditStatus.APPROVED);
+        assertThat(evaluator.evaluate(CreditType.PERSONAL, new BigDecimal("120000"))).isEqualTo(CreditStatus.REJECTED);
+        assertThatThrownBy(() -> new CreditReviewEvaluator(new CreditReviewProperties(CreditStatus.PENDING, List.of())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
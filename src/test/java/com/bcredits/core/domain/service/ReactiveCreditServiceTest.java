@@ -0,0 +1,172 @@
+package com.bcredits.core.domain.service;
+
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.exception.CreditVersionMismatchException;
+import com.bcredits.core.domain.mapper.CreditMapper;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditAuditAction;
+import com.bcredits.core.domain.model.CreditOutboxEvent;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.outbox.CreditOutbox;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.domain.stats.CreditPortfolioStats;
+import com.bcredits.core.infrastructure.archive.CreditArchive;
+import com.bcredits.core.infrastructure.cache.CreditCache;
+import com.bcredits.core.infrastructure.logging.CreditDecisionLogger;
+import com.bcredits.core.infrastructure.metrics.CreditMetrics;
+import com.bcredits.core.infrastructure.repository.ReactiveCreditRepository;
+import com.bcredits.core.infrastructure.stream.CreditChange;
+import com.bcredits.core.infrastructure.stream.CreditChangeStream;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Reactive Credit Service Unit Tests")
+class ReactiveCreditServiceTest {
+
+    @Mock
+    private ReactiveCreditRepository repository;
+
+    @Mock
+    private CreditOutbox outbox;
+
+    @Mock
+    private CreditArchive archive;
+
+    @Mock
+    private CreditChangeStream changeStream;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private CreditPortfolioStats portfolioStats;
+
+    private CreditCache cache;
+
+    private ReactiveCreditService service;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        portfolioStats = new CreditPortfolioStats();
+        cache = new CreditCache(100, Duration.ofMinutes(1));
+        service = new ReactiveCreditService(repository, new CreditMapper(),
+                CreditRuleEngine.withAmountLimit(new BigDecimal("50000.00")),
+                cache, new CreditMetrics(meterRegistry),
+                new CreditDecisionLogger(100), portfolioStats, outbox, archive, changeStream,
+                transactionalOperator,
+                meterRegistry, 100);
+    }
+
+    @Test
+    @DisplayName("Should insert the credit and its outbox event, and count it after commit")
+    void create_ShouldInsertCreditAndDecisionEvent() {
+
+        CreditRequestDTO request = new CreditRequestDTO("Juan Perez", new BigDecimal("4500.00"), CreditType.PERSONAL);
+        CreditOutboxEvent event = CreditOutboxEvent.builder().creditId(7L).eventType(CreditOutbox.CREATED).build();
+        when(repository.insert(any())).thenAnswer(invocation -> {
+            CreditApplication entity = invocation.getArgument(0);
+            entity.setId(7L);
+            entity.setVersion(0L);
+            return Mono.just(entity);
+        });
+        when(outbox.event(eq(CreditOutbox.CREATED), eq(7L), eq(0L), eq("Juan Perez"), any(),
+                eq(CreditType.PERSONAL), eq(CreditStatus.APPROVED))).thenReturn(Optional.of(event));
+        when(repository.insertEvent(event)).thenReturn(Mono.empty());
+        when(repository.insertAuditPending(any())).thenReturn(Mono.empty());
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(service.create(request))
+                .assertNext(response -> {
+                    assertThat(response.id()).isEqualTo(7L);
+                    assertThat(response.status()).isEqualTo(CreditStatus.APPROVED);
+                })
+                .verifyComplete();
+
+        verify(repository).insertEvent(event);
+        verify(changeStream).publishCommitted(eq(CreditChange.CREATED), any());
+        // Dentro de la transacción, junto al alta
+        verify(repository).insertAuditPending(argThat(transition -> transition.getAction() == CreditAuditAction.CREATED
+                && transition.getCreditId() == 7L && transition.getOldStatus() == null
+                && transition.getNewStatus() == CreditStatus.APPROVED));
+        assertThat(portfolioStats.snapshot().totalCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the archive before reporting not found")
+    void findById_ShouldFallBackToArchive() {
+
+        CreditResponseDTO archived = new CreditResponseDTO(3L, "Ana Gomez", new BigDecimal("2000.00"),
+                CreditType.PERSONAL, CreditStatus.APPROVED, LocalDateTime.now().minusYears(2), 1L);
+        when(repository.findById(3L)).thenReturn(Mono.empty());
+        when(repository.findById(4L)).thenReturn(Mono.empty());
+        when(archive.find(3L)).thenReturn(Optional.of(archived));
+        when(archive.find(4L)).thenReturn(Optional.empty());
+
+        StepVerifier.create(service.findById(3L)).expectNext(archived).verifyComplete();
+        StepVerifier.create(service.findById(4L)).expectError(EntityNotFoundException.class).verify();
+    }
+
+    @Test
+    @DisplayName("Should not cache a row read while a concurrent update invalidated it")
+    void findById_ShouldNotCacheRowInvalidatedDuringRead() {
+
+        CreditApplication before = CreditApplication.builder().id(5L).customerName("Juan Perez")
+                .amount(new BigDecimal("4500.00")).type(CreditType.PERSONAL).status(CreditStatus.APPROVED)
+                .createdAt(LocalDateTime.now()).version(0L).build();
+        // La actualización se confirma e invalida mientras la lectura aún devuelve la fila anterior
+        when(repository.findById(5L)).thenReturn(Mono.fromCallable(() -> {
+            cache.invalidate(5L);
+            return before;
+        }));
+
+        StepVerifier.create(service.findById(5L))
+                .assertNext(response -> assertThat(response.version()).isZero())
+                .verifyComplete();
+
+        assertThat(cache.getIfPresent(5L)).isNull();
+    }
+
+        @Test
+    @DisplayName("Should report the current version when If-Match is stale")
+    void update_ShouldFail_WhenVersionIsStale() {
+
+        CreditRequestDTO request = new CreditRequestDTO("Juan Perez", new BigDecimal("4500.00"), CreditType.PERSONAL);
+        when(repository.updateReturning(eq(5L), eq(List.of(1L)), any(), any(), any(), any())).thenReturn(Mono.empty());
+        when(repository.findVersionById(5L)).thenReturn(Mono.just(3L));
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        StepVerifier.create(service.update(5L, request, List.of(1L)))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(CreditVersionMismatchException.class)
+                        .hasMessageContaining("version 3"))
+                .verify();
+
+        verify(repository, never()).insertEvent(any());
+    }
+}
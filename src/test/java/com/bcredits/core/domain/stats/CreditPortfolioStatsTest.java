@@ -0,0 +1,104 @@
+package com.bcredits.core.domain.stats;
+
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.repository.CreditAggregateRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Credit Portfolio Stats Tests")
+class CreditPortfolioStatsTest {
+
+    private final CreditPortfolioStats stats = new CreditPortfolioStats();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply on top of the rebuild the changes committed after its snapshot")
+    void rebuild_ShouldReplayChangesCommittedDuringAggregate() {
+        stats.recordCreated(CreditType.PERSONAL, CreditStatus.APPROVED, new BigDecimal("1000"));
+
+        stats.rebuild(() -> { }, () -> {
+            // Confirmado después de la instantánea: el GROUP BY no lo ve
+            stats.recordCreated(CreditType.BUSINESS, CreditStatus.REJECTED, new BigDecimal("70000"));
+            return List.of(row(CreditType.PERSONAL, CreditStatus.APPROVED, 1, "1000"));
+        });
+
+        assertThat(stats.snapshot().totalCount()).isEqualTo(2);
+        assertThat(stats.snapshot().totalAmount()).isEqualByComparingTo("71000");
+    }
+
+    @Test
+    @DisplayName("Should round amounts to cents like numeric(19,2) so a delete cancels its create")
+    void record_ShouldRoundLikeTheDatabase() {
+        stats.recordCreated(CreditType.PERSONAL, CreditStatus.APPROVED, new BigDecimal("1500.005"));
+        // La baja usa el importe que devolvió PostgreSQL, ya redondeado
+        stats.recordDeleted(CreditType.PERSONAL, CreditStatus.APPROVED, new BigDecimal("1500.01"));
+
+        assertThat(stats.snapshot().totalCount()).isZero();
+        assertThat(stats.snapshot().totalAmount()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should take the snapshot only after in-flight commits have been applied")
+    void rebuild_ShouldWaitForCommitsInFlight() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        stats.recordCreated(CreditType.PERSONAL, CreditStatus.APPROVED, new BigDecimal("1000"));
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        CountDownLatch snapshotTaken = new CountDownLatch(1);
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> stats.rebuild(snapshotTaken::countDown,
+                // La fila ya confirmada está en la instantánea
+                () -> List.of(row(CreditType.PERSONAL, CreditStatus.APPROVED, 1, "1000"))));
+        assertThat(snapshotTaken.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, TransactionSynchronization.STATUS_COMMITTED);
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(snapshotTaken.getCount()).isZero();
+        assertThat(stats.snapshot().totalCount()).isEqualTo(1);
+    }
+
+    private static CreditAggregateRow row(CreditType type, CreditStatus status, long count, String total) {
+        return new CreditAggregateRow() {
+            @Override
+            public CreditType getType() {
+                return type;
+            }
+
+            @Override
+            public CreditStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getTotalAmount() {
+                return new BigDecimal(total);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.bcredits.core.infrastructure.archive;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditArchiveChunk;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.repository.CreditArchiveChunkRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Credit Archive Unit Tests")
+class CreditArchiveTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Mock
+    private CreditArchiveChunkRepository repository;
+
+    private CreditArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new CreditArchive(repository, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should compress a chunk and record its ID and date range")
+    void chunk_ShouldCompressAndRecordRanges() {
+
+        List<CreditResponseDTO> credits = LongStream.rangeClosed(10, 509).mapToObj(CreditArchiveTest::credit).toList();
+
+        CreditArchiveChunk chunk = archive.chunk(credits);
+
+        assertThat(chunk.getMinId()).isEqualTo(10L);
+        assertThat(chunk.getMaxId()).isEqualTo(509L);
+        assertThat(chunk.getRowCount()).isEqualTo(500);
+        assertThat(chunk.getOldestCreatedAt()).isEqualTo(BASE.plusMinutes(10));
+        assertThat(chunk.getNewestCreatedAt()).isEqualTo(BASE.plusMinutes(509));
+        assertThat(chunk.getPayload().length).isLessThan(500 * 40);
+    }
+
+    @Test
+    @DisplayName("Should find an archived credit inside the covering chunks")
+    void find_ShouldReadCreditFromCoveringChunk() {
+
+        CreditArchiveChunk chunk = archive.chunk(List.of(credit(1), credit(3), credit(7)));
+        when(repository.findCovering(3L)).thenReturn(List.of(chunk));
+        when(repository.findCovering(5L)).thenReturn(List.of(chunk));
+
+        assertThat(archive.find(3L)).contains(credit(3));
+        assertThat(archive.find(5L)).isEmpty();
+    }
+
+    private static CreditResponseDTO credit(long id) {
+        return new CreditResponseDTO(id, "Cliente " + id, new BigDecimal("1500.00"), CreditType.PERSONAL,
+                CreditStatus.APPROVED, BASE.plusMinutes(id), 2L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.bcredits.core.infrastructure.archive;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Particiones sobre una copia mínima de {@code credits_applications} en un esquema propio de la
+ * base PostgreSQL (JDBC_URL). Sin PostgreSQL accesible la clase se omite.
+ */
+@DisplayName("Credit Partition Maintenance Integration Tests")
+class CreditPartitionMaintenanceTest {
+
+    private static final String URL = System.getenv().getOrDefault("JDBC_URL", "jdbc:postgresql://localhost:5432/bcredits");
+    private static final String USER = System.getenv().getOrDefault("JDBC_USER", "postgres");
+    private static final String PASS = System.getenv().getOrDefault("JDBC_PASS", "postgres");
+    private static final String SCHEMA = "credits_partitions_it";
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        assumeTrue(URL.startsWith("jdbc:postgresql:") && reachable(), "PostgreSQL is not reachable at " + URL);
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA, USER, PASS);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (jdbcTemplate != null) jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+        jdbcTemplate.execute("create schema " + SCHEMA);
+        jdbcTemplate.execute("""
+                create table credits_applications (
+                    id bigint not null,
+                    status varchar(255) not null check (status in ('PENDING','APPROVED','REJECTED')),
+                    created_at timestamp(6) not null,
+                    constraint credits_applications_pk primary key (id, created_at)
+                ) partition by range (created_at)""");
+        jdbcTemplate.execute("create table credits_applications_default partition of credits_applications default");
+        jdbcTemplate.execute("create index idx_credits_created_at on credits_applications (created_at)");
+    }
+
+    @Test
+    @DisplayName("Should move rows of a new month out of the default partition before attaching it")
+    void createUpcomingPartitions_ShouldMoveRowsOutOfDefault() {
+        YearMonth current = YearMonth.now();
+        YearMonth later = current.plusMonths(2);
+        insert(1, current);
+        insert(2, current.plusMonths(1));
+        insert(3, later);
+
+        new CreditPartitionMaintenance(jdbcTemplate, transactionTemplate, 1).createUpcomingPartitions();
+
+        assertThat(count(partition(current))).isEqualTo(1);
+        assertThat(count(partition(current.plusMonths(1)))).isEqualTo(1);
+        // Fuera del horizonte: sigue en la partición por defecto hasta que le llegue el turno
+        assertThat(count("credits_applications_default")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from pg_indexes where schemaname = ? and tablename = ?",
+                Integer.class, SCHEMA, partition(current))).isEqualTo(2);
+
+        new CreditPartitionMaintenance(jdbcTemplate, transactionTemplate, 2).createUpcomingPartitions();
+
+        assertThat(count(partition(later))).isEqualTo(1);
+        assertThat(count("credits_applications_default")).isZero();
+        assertThat(count("credits_applications")).isEqualTo(3);
+    }
+
+    private static void insert(long id, YearMonth month) {
+        jdbcTemplate.update("insert into credits_applications (id, status, created_at) values (?, 'APPROVED', ?)",
+                id, month.atDay(15).atTime(12, 0));
+    }
+
+    private static int count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static String partition(YearMonth month) {
+        return "credits_applications_" + month.format(DateTimeFormatter.ofPattern("yyyy_MM"));
+    }
+
+    private static boolean reachable() {
+        try (Connection ignored = DriverManager.getConnection(URL, USER, PASS)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
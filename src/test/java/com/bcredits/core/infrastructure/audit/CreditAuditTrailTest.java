@@ -0,0 +1,235 @@
+package com.bcredits.core.infrastructure.audit;
+
+import com.bcredits.core.api.dto.CreditAuditEntryDTO;
+import com.bcredits.core.api.dto.CreditAuditVerificationDTO;
+import com.bcredits.core.domain.model.CreditAuditAction;
+import com.bcredits.core.domain.model.CreditAuditEntry;
+import com.bcredits.core.domain.model.CreditAuditHead;
+import com.bcredits.core.domain.model.CreditAuditPending;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.audit.CreditAuditTrail.State;
+import com.bcredits.core.infrastructure.metrics.AuditMetrics;
+import com.bcredits.core.infrastructure.repository.CreditAuditEntryRepository;
+import com.bcredits.core.infrastructure.repository.CreditAuditHeadRepository;
+import com.bcredits.core.infrastructure.repository.CreditAuditPendingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Credit Audit Trail Tests")
+class CreditAuditTrailTest {
+
+    @Mock
+    private CreditAuditEntryRepository entryRepository;
+
+    @Mock
+    private CreditAuditHeadRepository headRepository;
+
+    @Mock
+    private CreditAuditPendingRepository pendingRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final List<CreditAuditEntry> written = new CopyOnWriteArrayList<>();
+    // Hace de credit_audit_pending
+    private final List<CreditAuditPending> pending = new CopyOnWriteArrayList<>();
+    private final AtomicLong pendingIds = new AtomicLong();
+    private final CreditAuditHead head = new CreditAuditHead(CreditAuditHead.ID, 0, CreditAuditTrail.GENESIS_HASH);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(headRepository.lockById(CreditAuditHead.ID)).thenReturn(Optional.of(head));
+        lenient().when(headRepository.findById(CreditAuditHead.ID)).thenReturn(Optional.of(head));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().doAnswer(invocation -> written.add(invocation.getArgument(0)))
+                .when(entityManager).persist(any(CreditAuditEntry.class));
+        lenient().doAnswer(invocation -> {
+            CreditAuditPending transition = invocation.getArgument(0);
+            transition.setId(pendingIds.incrementAndGet());
+            return pending.add(transition);
+        }).when(entityManager).persist(any(CreditAuditPending.class));
+        lenient().when(pendingRepository.findByOrderByIdAsc(any())).thenAnswer(invocation ->
+                pending.stream().limit(((Limit) invocation.getArgument(0)).max()).toList());
+        lenient().doAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return pending.removeIf(transition -> ids.contains(transition.getId()));
+        }).when(pendingRepository).deleteAllByIdInBatch(any());
+        lenient().when(entryRepository.findByCreditIdOrderBySeqAsc(any())).thenAnswer(invocation ->
+                written.stream().filter(entry -> entry.getCreditId().equals(invocation.getArgument(0))).toList());
+        lenient().when(entryRepository.findBySeqGreaterThanOrderBySeqAsc(anyLong(), any())).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            Limit limit = invocation.getArgument(1);
+            return written.stream().filter(entry -> entry.getSeq() > after).limit(limit.max()).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should chain every transition to the previous one and expose it in the credit history")
+    void record_ShouldAppendChainedEntries() throws InterruptedException {
+        CreditAuditTrail trail = trail();
+
+        trail.record(CreditAuditAction.CREATED, 1L, null, state(CreditStatus.PENDING, "4500", 0L));
+        trail.record(CreditAuditAction.CREATED, 2L, null, state(CreditStatus.APPROVED, "1000", 0L));
+        trail.record(CreditAuditAction.REVIEWED, 1L, state(CreditStatus.PENDING, "4500", 0L),
+                state(CreditStatus.APPROVED, "4500", 1L));
+        trail.destroy();
+
+        assertThat(written).extracting(CreditAuditEntry::getSeq).containsExactly(1L, 2L, 3L);
+        assertThat(written.get(0).getPrevHash()).isEqualTo(CreditAuditTrail.GENESIS_HASH);
+        assertThat(written.get(1).getPrevHash()).isEqualTo(written.get(0).getHash());
+        assertThat(written.get(2).getPrevHash()).isEqualTo(written.get(1).getHash());
+        assertThat(head.getLastSeq()).isEqualTo(3L);
+        assertThat(head.getLastHash()).isEqualTo(written.get(2).getHash());
+
+        List<CreditAuditEntryDTO> history = trail.history(1L);
+        assertThat(history).extracting(CreditAuditEntryDTO::action)
+                .containsExactly(CreditAuditAction.CREATED, CreditAuditAction.REVIEWED);
+        assertThat(history.get(0).before()).isNull();
+        assertThat(history.get(1).before().status()).isEqualTo(CreditStatus.PENDING);
+        assertThat(history.get(1).after().amount()).isEqualByComparingTo("4500.00");
+        assertThat(history).allMatch(CreditAuditEntryDTO::hashValid);
+        assertThat(trail.verify().valid()).isTrue();
+        assertThat(meterRegistry.get("credits.audit.written").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should detect an altered or removed entry when verifying the chain")
+    void verify_ShouldReportTamperedEntries() throws InterruptedException {
+        CreditAuditTrail trail = trail();
+        for (long id = 1; id <= 3; id++) {
+            trail.record(CreditAuditAction.CREATED, id, null, state(CreditStatus.APPROVED, "1000", 0L));
+        }
+        trail.destroy();
+
+        written.get(1).setNewAmount(new BigDecimal("1.00"));
+        CreditAuditVerificationDTO altered = trail.verify();
+        assertThat(altered.valid()).isFalse();
+        assertThat(altered.brokenAtSeq()).isEqualTo(2L);
+        assertThat(altered.checked()).isEqualTo(1L);
+        assertThat(trail.history(2L).get(0).hashValid()).isFalse();
+
+        written.remove(1);
+        CreditAuditVerificationDTO removed = trail.verify();
+        assertThat(removed.valid()).isFalse();
+        assertThat(removed.brokenAtSeq()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep a failed batch and write it once the database recovers")
+    void record_ShouldRetryFailedBatch() throws InterruptedException {
+        when(headRepository.lockById(CreditAuditHead.ID))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Optional.of(head));
+        CreditAuditTrail trail = trail();
+
+        trail.record(CreditAuditAction.DELETED, 9L, state(CreditStatus.REJECTED, "70000", 3L), null);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (written.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        trail.destroy();
+
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0).getOldVersion()).isEqualTo(3L);
+        assertThat(written.get(0).getNewStatus()).isNull();
+        assertThat(meterRegistry.get("credits.audit.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write the transition in the caller's transaction")
+    void record_ShouldJoinActiveTransaction() throws InterruptedException {
+        CreditAuditTrail trail = trail();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            trail.record(CreditAuditAction.PURGED, 4L, state(CreditStatus.REJECTED, "70000", 2L), null);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        trail.destroy();
+
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        assertThat(written).extracting(CreditAuditEntry::getCreditId).containsExactly(4L);
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep every transition pending while the writer is stuck and write them after a restart")
+    void record_ShouldNeverDropWhileWriterIsStuck() throws InterruptedException {
+        when(headRepository.lockById(CreditAuditHead.ID)).thenThrow(new IllegalStateException("database unavailable"));
+        CreditAuditTrail stuck = trail();
+
+        // Muchas más que un lote: quien escribe no espera al escritor y nada se descarta
+        long start = System.nanoTime();
+        for (long id = 1; id <= 20; id++) {
+            stuck.record(CreditAuditAction.PURGED, id, state(CreditStatus.REJECTED, "1000", 0L), null);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        stuck.destroy();
+
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+        assertThat(written).isEmpty();
+        assertThat(pending).hasSize(20);
+
+        doReturn(Optional.of(head)).when(headRepository).lockById(CreditAuditHead.ID);
+        CreditAuditTrail restarted = trail();
+        restarted.destroy();
+
+        assertThat(pending).isEmpty();
+        assertThat(written).extracting(CreditAuditEntry::getCreditId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 20).boxed().toList());
+        assertThat(restarted.verify().valid()).isTrue();
+    }
+
+    private CreditAuditTrail trail() {
+        return new CreditAuditTrail(entryRepository, headRepository, pendingRepository, entityManager,
+                transactionTemplate, new AuditMetrics(meterRegistry), 2, Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    private static State state(CreditStatus status, String amount, Long version) {
+        return new State("Juan Perez", new BigDecimal(amount), CreditType.PERSONAL, status, version);
+    }
+}
@@ -0,0 +1,178 @@
+package com.bcredits.core.infrastructure.cache;
+
+import com.bcredits.core.CreditsCoreApplication;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.api.dto.SecondLevelCacheStatsDTO;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.service.CreditReviewService;
+import com.bcredits.core.domain.service.CreditService;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Dos contextos completos de la aplicación sobre la misma base PostgreSQL (JDBC_URL, por defecto la
+ * local de docker-compose) en un esquema propio. Lo que uno escribe debe verlo el otro en cuanto llega
+ * la notificación credit_cache, aunque ya lo tuviera en su caché y en la de segundo nivel.
+ * Sin PostgreSQL accesible la clase se omite.
+ */
+@DisplayName("Credit Cache Invalidation Integration Tests")
+class CreditCacheInvalidationTest {
+
+    private static final String URL = System.getenv().getOrDefault("JDBC_URL", "jdbc:postgresql://localhost:5432/bcredits");
+    private static final String USER = System.getenv().getOrDefault("JDBC_USER", "postgres");
+    private static final String PASS = System.getenv().getOrDefault("JDBC_PASS", "postgres");
+    private static final String SCHEMA = "credits_cache_it";
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startInstances() throws SQLException {
+        assumeTrue(URL.startsWith("jdbc:postgresql:") && reachable(), "PostgreSQL is not reachable at " + URL);
+        execute("drop schema if exists " + SCHEMA + " cascade");
+        writer = start();
+        reader = start();
+    }
+
+    @AfterAll
+    static void stopInstances() throws SQLException {
+        if (reader != null) reader.close();
+        if (writer != null) writer.close();
+        if (writer != null) execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    @DisplayName("Should evict an updated credit from the other instance's caches")
+    void update_ShouldInvalidateOtherInstance() {
+        Long id = service(writer).create(request("Ana Gomez", "4500.00")).id();
+
+        assertThat(service(reader).findById(id).customerName()).isEqualTo("Ana Gomez");
+        assertThat(reader.getBean(EntityManagerFactory.class).getCache().contains(CreditApplication.class, id)).isTrue();
+        SecondLevelCacheStatsDTO stats = service(reader).secondLevelCacheStats();
+        assertThat(stats.enabled()).isTrue();
+        assertThat(stats.entityPuts()).isPositive();
+
+        service(writer).update(id, request("Ana Gomez Ruiz", "4800.00"), null);
+
+        awaitUntil(() -> "Ana Gomez Ruiz".equals(service(reader).findById(id).customerName()));
+        CreditResponseDTO current = service(reader).findById(id);
+        assertThat(current.amount()).isEqualByComparingTo("4800.00");
+        assertThat(current.version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should stop serving a credit deleted on the other instance")
+    void delete_ShouldInvalidateOtherInstance() {
+        Long id = service(writer).create(request("Luis Martin", "1200.00")).id();
+        assertThat(service(reader).findById(id).id()).isEqualTo(id);
+
+        service(writer).delete(id);
+
+        awaitUntil(() -> {
+            try {
+                service(reader).findById(id);
+                return false;
+            } catch (EntityNotFoundException e) {
+                return true;
+            }
+        });
+        assertThatThrownBy(() -> service(reader).findById(id)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should refresh cached query results after an insert on the other instance")
+    void create_ShouldInvalidateOtherInstanceQueries() {
+        CreditReviewService readerReviews = reader.getBean(CreditReviewService.class);
+        long pending = readerReviews.pendingCount();
+        long queryHits = service(reader).secondLevelCacheStats().queryHits();
+        assertThat(readerReviews.pendingCount()).isEqualTo(pending);
+        assertThat(service(reader).secondLevelCacheStats().queryHits()).isGreaterThan(queryHits);
+
+        // Por encima de credit.auto-eval.max-amount queda PENDING; el worker de revisión está parado
+        CreditResponseDTO created = service(writer).create(request("Marta Ruiz", "90000.00"));
+        assertThat(created.status()).isEqualTo(CreditStatus.PENDING);
+
+        awaitUntil(() -> readerReviews.pendingCount() == pending + 1);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        String url = URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+        return new SpringApplicationBuilder(CreditsCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                     "--spring.datasource.username=" + USER,
+                     "--spring.datasource.password=" + PASS,
+                     "--spring.flyway.schemas=" + SCHEMA,
+                     "--spring.datasource.hikari.minimum-idle=1",
+                     "--spring.jpa.show-sql=false",
+                     "--logging.level.root=WARN",
+                     "--logging.level.com.bcredits=WARN",
+                     "--logging.level.org.hibernate.SQL=WARN",
+                     "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                     "--credit.outbox.sink=memory",
+                     "--credit.outbox.relay.enabled=false",
+                     "--credit.review.worker.enabled=false",
+                     "--credit.partitions.enabled=false",
+                     "--credit.archive.enabled=false");
+    }
+
+    private static CreditService service(ConfigurableApplicationContext context) {
+        return context.getBean(CreditService.class);
+    }
+
+    private static CreditRequestDTO request(String customerName, String amount) {
+        return new CreditRequestDTO(customerName, new BigDecimal(amount), CreditType.PERSONAL);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + PROPAGATION_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("change propagated within %s", PROPAGATION_TIMEOUT).isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static boolean reachable() {
+        DriverManager.setLoginTimeout(2);
+        try (Connection ignored = DriverManager.getConnection(URL, USER, PASS)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASS);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Connection Wait Tracker Tests")
+class ConnectionWaitTrackerTest {
+
+    @Test
+    @DisplayName("Should keep separate statistics for each pool and add them up in the totals")
+    void create_ShouldTrackEachPoolSeparately() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("meterRegistry", new SimpleMeterRegistry());
+        ConnectionWaitTracker tracker = new ConnectionWaitTracker(beans.getBeanProvider(MeterRegistry.class));
+
+        IMetricsTracker primary = tracker.create("primary", stats(3, 1));
+        IMetricsTracker replica = tracker.create("replica-1", stats(1, 4));
+        primary.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        primary.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(300));
+        replica.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(900));
+        replica.recordConnectionTimeout();
+
+        assertThat(tracker.pools()).extracting(ConnectionWaitTracker.PoolTracker::name)
+                .containsExactly("primary", "replica-1");
+        ConnectionWaitTracker.PoolTracker first = tracker.pools().iterator().next();
+        assertThat(first.acquiredCount()).isEqualTo(2);
+        assertThat(first.averageAcquireMicros()).isEqualTo(200);
+        assertThat(first.activeConnections()).isEqualTo(3);
+        assertThat(first.timeoutCount()).isZero();
+
+        assertThat(tracker.acquiredCount()).isEqualTo(3);
+        assertThat(tracker.averageAcquireMicros()).isEqualTo(433);
+        assertThat(tracker.maxAcquireMicros()).isEqualTo(900);
+        assertThat(tracker.timeoutCount()).isEqualTo(1);
+        assertThat(tracker.activeConnections()).isEqualTo(4);
+        assertThat(tracker.idleConnections()).isEqualTo(5);
+
+        replica.close();
+        assertThat(tracker.pools()).extracting(ConnectionWaitTracker.PoolTracker::name).containsExactly("primary");
+    }
+
+    private static PoolStats stats(int active, int idle) {
+        return new PoolStats(0) {
+            @Override
+            protected void update() {
+                activeConnections = active;
+                idleConnections = idle;
+            }
+        };
+    }
+}
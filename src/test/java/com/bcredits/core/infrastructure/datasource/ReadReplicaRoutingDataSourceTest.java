@@ -0,0 +1,102 @@
+package com.bcredits.core.infrastructure.datasource;
+
+import com.bcredits.core.infrastructure.metrics.ReplicaRoutingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dos bases H2 en memoria hacen de primario y réplica; cada una identifica su origen en una tabla.
+ */
+@DisplayName("Read Replica Routing Unit Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private ReplicaPool replica;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replica = new ReplicaPool("replica-1", database("replica"));
+        ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(primary, List.of(replica),
+                Duration.ofSeconds(5), new ReplicaRoutingMetrics(registry));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+
+        new ReplicaLagMonitor(primary, List.of(replica), Duration.ofSeconds(1)).check();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and the rest to the primary")
+    void getConnection_ShouldRouteByTransactionReadOnlyFlag() {
+
+        assertThat(replica.available()).isTrue();
+        assertThat(inTransaction(reads)).isEqualTo("replica");
+        assertThat(inTransaction(writes)).isEqualTo("primary");
+        assertThat(origin()).isEqualTo("primary");
+        assertThat(registry.get("credits.datasource.reads").tag("pool", "replica-1").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the replica lags too much or is down")
+    void getConnection_ShouldFallBackToPrimary() {
+
+        replica.update(Duration.ofSeconds(30));
+        assertThat(inTransaction(reads)).isEqualTo("primary");
+
+        replica.markDown();
+        assertThat(inTransaction(reads)).isEqualTo("primary");
+
+        assertThat(registry.get("credits.datasource.replica.fallbacks").tag("reason", "lag").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("credits.datasource.replica.fallbacks").tag("reason", "unavailable").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary inside ReadRouting.onPrimary")
+    void onPrimary_ShouldForcePrimaryInReadOnlyTransaction() {
+
+        String origin = reads.execute(status -> ReadRouting.onPrimary(this::origin));
+
+        assertThat(origin).isEqualTo("primary");
+    }
+
+    private String inTransaction(TransactionTemplate transaction) {
+        return transaction.execute(status -> origin());
+    }
+
+    private String origin() {
+        return jdbc.queryForObject("SELECT name FROM origin", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE origin (name VARCHAR(20))");
+        jdbc.update("INSERT INTO origin VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,151 @@
+package com.bcredits.core.infrastructure.idempotency;
+
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.exception.IdempotencyKeyReusedException;
+import com.bcredits.core.domain.model.CreditIdempotencyKey;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.repository.CreditIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Credit Idempotency Store Unit Tests")
+class CreditIdempotencyStoreTest {
+
+    private static final CreditRequestDTO REQUEST =
+            new CreditRequestDTO("Juan B", new BigDecimal("4500"), CreditType.PERSONAL);
+
+    @Mock
+    private CreditIdempotencyKeyRepository repository;
+
+    private CreditIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CreditIdempotencyStore(repository, new ObjectMapper().findAndRegisterModules(),
+                100, Duration.ofMinutes(10), Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Should replay the original response from memory without creating again")
+    void execute_ShouldReplayFromMemory() {
+
+        when(repository.findById("key-1")).thenReturn(Optional.empty());
+        AtomicInteger creations = new AtomicInteger();
+
+        IdempotentResult first = store.execute("key-1", REQUEST, () -> response(creations.incrementAndGet()));
+        IdempotentResult retry = store.execute("key-1",
+                new CreditRequestDTO("Juan B", new BigDecimal("4500.00"), CreditType.PERSONAL),
+                () -> response(creations.incrementAndGet()));
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.response()).isEqualTo(first.response());
+        assertThat(creations).hasValue(1);
+        verify(repository).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent requests with the same key into one creation")
+    void execute_ShouldCoalesceConcurrentDuplicates() throws Exception {
+
+        when(repository.findById("key-2")).thenReturn(Optional.empty());
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger creations = new AtomicInteger();
+
+        CompletableFuture<IdempotentResult> first = CompletableFuture.supplyAsync(() ->
+                store.execute("key-2", REQUEST, () -> {
+                    creating.countDown();
+                    await(release);
+                    return response(creations.incrementAndGet());
+                }));
+        assertThat(creating.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<IdempotentResult> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute("key-2", REQUEST, () -> response(creations.incrementAndGet())));
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+        assertThat(creations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void execute_ShouldRejectKeyReuseWithDifferentBody() {
+
+        when(repository.findById("key-3")).thenReturn(Optional.empty());
+        store.execute("key-3", REQUEST, () -> response(1));
+
+        CreditRequestDTO other = new CreditRequestDTO("Juan B", new BigDecimal("9000"), CreditType.PERSONAL);
+
+        assertThatThrownBy(() -> store.execute("key-3", other, () -> response(2)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    @DisplayName("Should accept an expired key the purge has not removed yet, replacing the old row")
+    void execute_ShouldReuseExpiredUnpurgedKey() {
+
+        CreditIdempotencyKey expired = CreditIdempotencyKey.builder()
+                .id("key-4")
+                .requestHash("old")
+                .creditId(1L)
+                .response("{}")
+                .createdAt(LocalDateTime.now().minusHours(25))
+                .build();
+        when(repository.findById("key-4")).thenReturn(Optional.of(expired));
+
+        IdempotentResult result = store.execute("key-4", REQUEST, () -> {
+            CreditResponseDTO created = response(2);
+            store.record("key-4", REQUEST, created);
+            return created;
+        });
+
+        assertThat(result.replayed()).isFalse();
+        assertThat(result.response().id()).isEqualTo(2L);
+        InOrder order = inOrder(repository);
+        order.verify(repository).deleteExpired(eq("key-4"), argThat(cutoff ->
+                cutoff.isAfter(expired.getCreatedAt()) && cutoff.isBefore(LocalDateTime.now().minusHours(23))));
+        order.verify(repository).saveAndFlush(argThat(row -> row.getId().equals("key-4") && row.getCreditId() == 2L));
+    }
+
+    private static CreditResponseDTO response(long id) {
+        return new CreditResponseDTO(id, "Juan B", new BigDecimal("4500"), CreditType.PERSONAL,
+                CreditStatus.APPROVED, LocalDateTime.now(), 0L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bcredits.core.infrastructure.importer;
+
+import com.bcredits.core.api.dto.CreditImportJobDTO;
+import com.bcredits.core.api.dto.CreditImportRequestDTO;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditApplication;
+import com.bcredits.core.domain.model.CreditImportFormat;
+import com.bcredits.core.domain.model.CreditImportJob;
+import com.bcredits.core.domain.model.CreditImportStatus;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.service.CreditService;
+import com.bcredits.core.infrastructure.metrics.ImportMetrics;
+import com.bcredits.core.infrastructure.repository.CreditImportJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Credit Importer Unit Tests")
+class CreditImporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private CreditImportJobRepository jobRepository;
+
+    @Mock
+    private CreditService creditService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Long, CreditImportJob> jobs = new ConcurrentHashMap<>();
+    private final List<String> importedNames = new ArrayList<>();
+    private CreditImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        lenient().when(creditService.validate(any())).thenAnswer(invocation -> {
+            Map<String, String> errors = new LinkedHashMap<>();
+            for (ConstraintViolation<CreditRequestDTO> v : validator.validate((CreditRequestDTO) invocation.getArgument(0))) {
+                errors.put(v.getPropertyPath().toString(), v.getMessage());
+            }
+            return errors;
+        });
+        lenient().when(creditService.evaluate(any())).thenAnswer(invocation -> {
+            CreditRequestDTO dto = invocation.getArgument(0);
+            return CreditApplication.builder().customerName(dto.customerName()).amount(dto.amount())
+                    .type(dto.type()).status(CreditStatus.APPROVED).build();
+        });
+        lenient().when(creditService.saveEvaluated(anyList())).thenAnswer(invocation -> {
+            List<CreditApplication> entities = invocation.getArgument(0);
+            entities.forEach(entity -> importedNames.add(entity.getCustomerName()));
+            return List.of();
+        });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(jobRepository.save(any())).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(jobRepository.saveAndFlush(any())).thenAnswer(invocation -> store(invocation.getArgument(0)));
+        lenient().when(jobRepository.findById(any())).thenAnswer(invocation ->
+                Optional.ofNullable(jobs.get((Long) invocation.getArgument(0))));
+
+        importer = new CreditImporter(jobRepository, creditService, transactionTemplate,
+                new ImportMetrics(new SimpleMeterRegistry()), new ObjectMapper().findAndRegisterModules(),
+                directory, 2, 2, 1, Duration.ofMinutes(2));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        importer.destroy();
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows in order and write the others to the reject file")
+    void start_ShouldImportCsvAndRejectInvalidRows() throws Exception {
+        Files.writeString(directory.resolve("legacy.csv"), """
+                type,customerName,amount
+                PERSONAL,"Perez, Juan",1500.00
+                BUSINESS,Empresa Uno,abc
+                personal,Ana Gomez,2500
+                BUSINESS,Al,3000
+
+                PERSONAL,"Empresa \"\"Dos\"\"",4000
+                """);
+
+        CreditImportJobDTO job = await(importer.start(new CreditImportRequestDTO("legacy.csv", null)).id());
+
+        assertThat(job.status()).isEqualTo(CreditImportStatus.COMPLETED);
+        assertThat(job.format()).isEqualTo(CreditImportFormat.CSV);
+        assertThat(job.linesProcessed()).isEqualTo(7);
+        assertThat(job.imported()).isEqualTo(3);
+        assertThat(job.rejected()).isEqualTo(2);
+        assertThat(importedNames).containsExactly("Perez, Juan", "Ana Gomez", "Empresa \"Dos\"");
+
+        List<String> rejects = Files.readAllLines(directory.resolve(job.rejectFile()), StandardCharsets.UTF_8);
+        assertThat(rejects).hasSize(2);
+        assertThat(rejects.get(0)).contains("\"line\":3").contains("\"amount\":\"El monto debe ser numérico\"");
+        assertThat(rejects.get(1)).contains("\"line\":5").contains("\"customerName\"");
+    }
+
+    @Test
+    @DisplayName("Should resume after the last committed line and drop rejects of the uncommitted chunk")
+    void resume_ShouldContinueFromLastCommittedChunk() throws Exception {
+        Files.writeString(directory.resolve("legacy.ndjson"), """
+                {"customerName":"Juan Perez","amount":1500,"type":"PERSONAL"}
+                {"customerName":"Ana Gomez","amount":2500,"type":"PERSONAL"}
+                {"customerName":"Luis Diaz","amount":3500,"type":"BUSINESS"}
+                not json
+                """);
+        CreditImportJob interrupted = store(CreditImportJob.builder()
+                .file("legacy.ndjson").format(CreditImportFormat.NDJSON).status(CreditImportStatus.FAILED)
+                .linesProcessed(2).imported(2).rejectBytes(0).updatedAt(LocalDateTime.now()).build());
+        // Rechazos escritos por un bloque que no llegó a confirmarse
+        Files.writeString(directory.resolve("legacy.ndjson." + interrupted.getId() + CreditImporter.REJECT_SUFFIX),
+                "{\"line\":4}\n");
+
+        importer.resume(interrupted.getId());
+        CreditImportJobDTO job = await(interrupted.getId());
+
+        assertThat(job.status()).isEqualTo(CreditImportStatus.COMPLETED);
+        assertThat(importedNames).containsExactly("Luis Diaz");
+        assertThat(job.imported()).isEqualTo(3);
+        assertThat(job.rejected()).isEqualTo(1);
+        List<String> rejects = Files.readAllLines(directory.resolve(job.rejectFile()), StandardCharsets.UTF_8);
+        assertThat(rejects).singleElement().asString().contains("\"row\":\"JSON no válido\"");
+    }
+
+    @Test
+    @DisplayName("Should refuse files outside the import directory")
+    void start_ShouldRejectPathOutsideDirectory() throws IOException {
+        assertThatThrownBy(() -> importer.start(new CreditImportRequestDTO("../secrets.csv", null)))
+                .isInstanceOf(InvalidRequestParameterException.class)
+                .hasMessageContaining("inside the import directory");
+    }
+
+    private CreditImportJob store(CreditImportJob job) {
+        if (job.getId() == null) job.setId((long) jobs.size() + 1);
+        job.setVersion(job.getVersion() == null ? 0 : job.getVersion() + 1);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    private CreditImportJobDTO await(Long id) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            CreditImportJobDTO job = importer.find(id);
+            if (job.status() != CreditImportStatus.RUNNING) return job;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import job " + id + " did not finish");
+    }
+}
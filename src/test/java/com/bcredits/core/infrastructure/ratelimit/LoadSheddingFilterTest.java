@@ -0,0 +1,103 @@
+package com.bcredits.core.infrastructure.ratelimit;
+
+import com.bcredits.core.infrastructure.metrics.LoadSheddingMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Load Shedding Unit Tests")
+class LoadSheddingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After once a client exhausts its burst")
+    void doFilter_ShouldRateLimitPerClient() throws Exception {
+        LoadSheddingFilter filter = filter(new LoadSheddingProperties.Concurrency(20, 4, 200, Duration.ofSeconds(1)));
+
+        assertThat(post(filter, "partner-a").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "partner-a").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = post(filter, "partner-a");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(post(filter, "partner-b").getStatus()).isEqualTo(200);
+        assertThat(registry.get("credits.requests.rejected").tags("endpoint", "create", "reason", "rate")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return 503 when the concurrency limit is reached")
+    void doFilter_ShouldShedLoadOverConcurrencyLimit() throws Exception {
+        LoadSheddingFilter filter = filter(new LoadSheddingProperties.Concurrency(1, 1, 10, Duration.ofSeconds(1)));
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("partner-a"), first, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                try {
+                    nested[0] = post(filter, "partner-b");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(nested[0].getStatus()).isEqualTo(503);
+        assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+        assertThat(post(filter, "partner-b").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should lower the limit on slow responses and raise it while fast and busy")
+    void limiter_ShouldAdaptToLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, Duration.ofMillis(100));
+
+        for (int i = 0; i < 10; i++) assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        for (int i = 0; i < 9; i++) limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+        for (int round = 0; round < 30; round++) {
+            while (limiter.tryAcquire()) { }
+            int inFlight = limiter.inFlight();
+            for (int i = 0; i < inFlight; i++) limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+        }
+        assertThat(limiter.limit()).isGreaterThan(9);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    private LoadSheddingFilter filter(LoadSheddingProperties.Concurrency concurrency) {
+        LoadSheddingProperties properties = new LoadSheddingProperties(true, "X-API-Key", 1000, concurrency,
+                List.of(new LoadSheddingProperties.Endpoint("create", "POST", "/api/credits", 1, 2, true)));
+        return new LoadSheddingFilter(properties, new LoadSheddingMetrics(registry), new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static MockHttpServletResponse post(LoadSheddingFilter filter, String apiKey) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(apiKey), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/credits");
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+}
@@ -0,0 +1,108 @@
+package com.bcredits.core.infrastructure.rules;
+
+import com.bcredits.core.domain.exception.InvalidRequestParameterException;
+import com.bcredits.core.domain.model.CreditRuleSet;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.rules.CreditRuleDefinition;
+import com.bcredits.core.domain.rules.CreditRuleEngine;
+import com.bcredits.core.infrastructure.repository.CreditRuleSetRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Credit Rule Sync Unit Tests")
+class CreditRuleSyncTest {
+
+    private static final BigDecimal MAX_AUTO_AMOUNT = new BigDecimal("50000");
+    private static final List<CreditRuleDefinition> BUSINESS_ONLY = List.of(new CreditRuleDefinition(
+            "business-auto", CreditType.BUSINESS, null, new BigDecimal("100000"), CreditStatus.APPROVED));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private CreditRuleSetRepository repository;
+    private CreditRuleEngine engine;
+    private CreditRuleSync sync;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CreditRuleSetRepository.class);
+        when(repository.findFirstByOrderByVersionDesc()).thenReturn(Optional.empty());
+        engine = CreditRuleEngine.withAmountLimit(MAX_AUTO_AMOUNT);
+        // Sin PostgreSQL el hilo de escucha no arranca: solo se prueba la carga de versiones
+        DataSourceProperties dataSource = new DataSourceProperties();
+        dataSource.setUrl("jdbc:h2:mem:rules");
+        sync = new CreditRuleSync(engine, repository, objectMapper, dataSource, Duration.ofSeconds(30), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        sync.destroy();
+    }
+
+    @Test
+    @DisplayName("Should store a published rule set and apply it without waiting for the notification")
+    void publish_ShouldStoreAndApply() {
+        when(repository.save(any(CreditRuleSet.class))).thenAnswer(invocation -> {
+            CreditRuleSet saved = invocation.getArgument(0);
+            saved.setVersion(1L);
+            when(repository.findFirstByOrderByVersionDesc()).thenReturn(Optional.of(saved));
+            return saved;
+        });
+
+        assertThat(sync.publish(BUSINESS_ONLY, CreditStatus.REJECTED)).isEqualTo(1L);
+
+        assertThat(sync.appliedVersion()).isEqualTo(1L);
+        assertThat(engine.definitions()).isEqualTo(BUSINESS_ONLY);
+        assertThat(engine.evaluate(CreditType.PERSONAL, new BigDecimal("1000"))).isEqualTo(CreditStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should apply a newer version published by another instance and ignore older ones")
+    void refresh_ShouldApplyOnlyNewerVersions() throws Exception {
+        when(repository.findFirstByOrderByVersionDesc()).thenReturn(Optional.of(ruleSet(7L, BUSINESS_ONLY)));
+        sync.refresh();
+        assertThat(sync.appliedVersion()).isEqualTo(7L);
+        assertThat(engine.evaluate(CreditType.BUSINESS, new BigDecimal("80000"))).isEqualTo(CreditStatus.APPROVED);
+
+        when(repository.findFirstByOrderByVersionDesc()).thenReturn(Optional.of(ruleSet(5L, List.of())));
+        sync.refresh();
+        assertThat(sync.appliedVersion()).isEqualTo(7L);
+        assertThat(engine.definitions()).isEqualTo(BUSINESS_ONLY);
+    }
+
+    @Test
+    @DisplayName("Should not store an invalid rule set")
+    void publish_ShouldRejectInvalidRules() {
+        List<CreditRuleDefinition> invalid = List.of(new CreditRuleDefinition(
+                "inverted", null, new BigDecimal("5000"), new BigDecimal("1000"), CreditStatus.APPROVED));
+
+        assertThatThrownBy(() -> sync.publish(invalid, CreditStatus.REJECTED))
+                .isInstanceOf(InvalidRequestParameterException.class);
+        verify(repository, never()).save(any());
+        assertThat(sync.appliedVersion()).isZero();
+    }
+
+    private CreditRuleSet ruleSet(long version, List<CreditRuleDefinition> definitions) throws Exception {
+        return CreditRuleSet.builder()
+                .version(version)
+                .defaultOutcome(CreditStatus.REJECTED)
+                .definitions(objectMapper.writeValueAsString(definitions))
+                .build();
+    }
+}
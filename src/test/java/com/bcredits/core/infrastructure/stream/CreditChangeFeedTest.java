@@ -0,0 +1,174 @@
+package com.bcredits.core.infrastructure.stream;
+
+import com.bcredits.core.CreditsCoreApplication;
+import com.bcredits.core.api.dto.CreditRequestDTO;
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.domain.service.CreditService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Dos contextos completos sobre la misma base PostgreSQL (JDBC_URL) en un esquema propio: un
+ * suscriptor del stream en una instancia recibe lo que confirma la otra, con los mismos ids, y puede
+ * reanudar en cualquiera de las dos. Sin PostgreSQL accesible la clase se omite.
+ */
+@DisplayName("Credit Change Feed Integration Tests")
+class CreditChangeFeedTest {
+
+    private static final String URL = System.getenv().getOrDefault("JDBC_URL", "jdbc:postgresql://localhost:5432/bcredits");
+    private static final String USER = System.getenv().getOrDefault("JDBC_USER", "postgres");
+    private static final String PASS = System.getenv().getOrDefault("JDBC_PASS", "postgres");
+    private static final String SCHEMA = "credits_stream_it";
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static ConfigurableApplicationContext writer;
+    private static ConfigurableApplicationContext reader;
+
+    @BeforeAll
+    static void startInstances() throws SQLException {
+        assumeTrue(URL.startsWith("jdbc:postgresql:") && reachable(), "PostgreSQL is not reachable at " + URL);
+        execute("drop schema if exists " + SCHEMA + " cascade");
+        writer = start();
+        reader = start();
+        assertThat(stream(writer).isShared()).isTrue();
+    }
+
+    @AfterAll
+    static void stopInstances() throws SQLException {
+        if (reader != null) reader.close();
+        if (writer != null) writer.close();
+        if (writer != null) execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    @DisplayName("Should deliver a change to both instances with the same event id")
+    void create_ShouldReachEveryInstance() throws InterruptedException {
+        try (CreditChangeStream.Subscription local = stream(writer).subscribe(null, null, null);
+             CreditChangeStream.Subscription remote = stream(reader).subscribe(null, null, null)) {
+            CreditResponseDTO created = service(writer).create(request("Ana Gomez", "4500.00"));
+
+            CreditChange seenLocally = local.poll(PROPAGATION_TIMEOUT);
+            CreditChange seenRemotely = remote.poll(PROPAGATION_TIMEOUT);
+            assertThat(seenRemotely.event()).isEqualTo(CreditChange.CREATED);
+            assertThat(seenRemotely.credit()).isEqualTo(created);
+            assertThat(seenRemotely.id()).isEqualTo(seenLocally.id());
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume on one instance from an event id seen on the other")
+    void subscribe_ShouldResumeFromForeignLastEventId() throws InterruptedException {
+        long lastSeen;
+        try (CreditChangeStream.Subscription first = stream(writer).subscribe(null, null, null)) {
+            service(writer).create(request("Luis Martin", "1200.00"));
+            lastSeen = first.poll(PROPAGATION_TIMEOUT).id();
+        }
+        Long missed = createAndAwait(request("Marta Ruiz", "2300.00")).id();
+
+        try (CreditChangeStream.Subscription resumed = stream(reader).subscribe(null, null, lastSeen)) {
+            CreditChange change = resumed.poll(PROPAGATION_TIMEOUT);
+            assertThat(change.event()).isEqualTo(CreditChange.CREATED);
+            assertThat(change.credit().id()).isEqualTo(missed);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream the rows removed by a purge on the other instance")
+    void purge_ShouldPublishDeletions() throws InterruptedException {
+        // Por encima de credit.auto-eval.max-amount la regla por defecto de estas instancias rechaza
+        CreditResponseDTO rejected = createAndAwait(request("Pedro Sanz", "90000.00"));
+        assertThat(rejected.status()).isEqualTo(CreditStatus.REJECTED);
+
+        try (CreditChangeStream.Subscription remote = stream(reader).subscribe(Set.of(CreditStatus.REJECTED), null, null)) {
+            service(writer).purgeRejected(LocalDateTime.now().plusMinutes(1));
+
+            CreditChange change = remote.poll(PROPAGATION_TIMEOUT);
+            while (change != null && !rejected.id().equals(change.credit().id())) {
+                change = remote.poll(PROPAGATION_TIMEOUT);
+            }
+            assertThat(change).isNotNull();
+            assertThat(change.event()).isEqualTo(CreditChange.DELETED);
+        }
+    }
+
+    // Crea en una instancia y espera a que la otra lo reciba por el canal y lo tenga en su historial
+    private static CreditResponseDTO createAndAwait(CreditRequestDTO request) throws InterruptedException {
+        try (CreditChangeStream.Subscription remote = stream(reader).subscribe(null, null, null)) {
+            CreditResponseDTO created = service(writer).create(request);
+            for (CreditChange change = remote.poll(PROPAGATION_TIMEOUT); change != null;
+                 change = remote.poll(PROPAGATION_TIMEOUT)) {
+                if (change.credit() != null && created.id().equals(change.credit().id())) return created;
+            }
+            throw new AssertionError("Credit " + created.id() + " was not delivered within " + PROPAGATION_TIMEOUT);
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        String url = URL + (URL.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+        return new SpringApplicationBuilder(CreditsCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                     "--spring.datasource.username=" + USER,
+                     "--spring.datasource.password=" + PASS,
+                     "--spring.flyway.schemas=" + SCHEMA,
+                     "--spring.datasource.hikari.minimum-idle=1",
+                     "--spring.jpa.show-sql=false",
+                     "--logging.level.root=WARN",
+                     "--logging.level.com.bcredits=WARN",
+                     "--logging.level.org.hibernate.SQL=WARN",
+                     "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                     "--credit.rules.default-outcome=REJECTED",
+                     "--credit.outbox.sink=memory",
+                     "--credit.outbox.relay.enabled=false",
+                     "--credit.review.worker.enabled=false",
+                     "--credit.partitions.enabled=false",
+                     "--credit.archive.enabled=false");
+    }
+
+    private static CreditChangeStream stream(ConfigurableApplicationContext context) {
+        return context.getBean(CreditChangeStream.class);
+    }
+
+    private static CreditService service(ConfigurableApplicationContext context) {
+        return context.getBean(CreditService.class);
+    }
+
+    private static CreditRequestDTO request(String customerName, String amount) {
+        return new CreditRequestDTO(customerName, new BigDecimal(amount), CreditType.PERSONAL);
+    }
+
+    private static boolean reachable() {
+        DriverManager.setLoginTimeout(2);
+        try (Connection ignored = DriverManager.getConnection(URL, USER, PASS)) {
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(URL, USER, PASS);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.bcredits.core.infrastructure.stream;
+
+import com.bcredits.core.api.dto.CreditResponseDTO;
+import com.bcredits.core.domain.model.CreditStatus;
+import com.bcredits.core.domain.model.CreditType;
+import com.bcredits.core.infrastructure.metrics.StreamMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Credit Change Stream Tests")
+class CreditChangeStreamTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreditChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new CreditChangeStream(new StreamMetrics(meterRegistry), 2, 4);
+    }
+
+    @Test
+    @DisplayName("Should deliver only the changes that match the subscriber filters")
+    void subscribe_ShouldFilterByStatusAndType() {
+        CreditChangeStream.Subscription subscription =
+                stream.subscribe(Set.of(CreditStatus.APPROVED), Set.of(CreditType.PERSONAL), null);
+
+        stream.publish(CreditChange.CREATED, credit(1L, CreditStatus.REJECTED, CreditType.PERSONAL));
+        stream.publish(CreditChange.CREATED, credit(2L, CreditStatus.APPROVED, CreditType.BUSINESS));
+        stream.publish(CreditChange.UPDATED, credit(3L, CreditStatus.APPROVED, CreditType.PERSONAL));
+
+        CreditChange change = subscription.poll();
+        assertThat(change.event()).isEqualTo(CreditChange.UPDATED);
+        assertThat(change.credit().id()).isEqualTo(3L);
+        assertThat(subscription.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replay the changes after Last-Event-ID, or ask for a reset when they are gone")
+    void subscribe_ShouldResumeFromLastEventId() {
+        CreditChangeStream.Subscription first = stream.subscribe(null, null, null);
+        stream.publish(CreditChange.CREATED, credit(1L, CreditStatus.APPROVED, CreditType.PERSONAL));
+        long lastSeen = first.poll().id();
+        first.close();
+
+        stream.publish(CreditChange.CREATED, credit(2L, CreditStatus.APPROVED, CreditType.PERSONAL));
+        CreditChangeStream.Subscription resumed = stream.subscribe(null, null, lastSeen);
+        assertThat(resumed.poll().credit().id()).isEqualTo(2L);
+        assertThat(resumed.poll()).isNull();
+
+        // Con un historial de 4, el id 1 ya no está disponible
+        for (long id = 3; id <= 6; id++) {
+            stream.publish(CreditChange.CREATED, credit(id, CreditStatus.APPROVED, CreditType.PERSONAL));
+        }
+        CreditChangeStream.Subscription stale = stream.subscribe(null, null, lastSeen);
+        assertThat(stale.poll().event()).isEqualTo(CreditChange.RESET);
+        assertThat(stale.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full without blocking the publisher")
+    void publish_ShouldDropSlowSubscriber() {
+        CreditChangeStream.Subscription slow = stream.subscribe(null, null, null);
+
+        for (long id = 1; id <= 5; id++) {
+            stream.publish(CreditChange.CREATED, credit(id, CreditStatus.APPROVED, CreditType.PERSONAL));
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        for (CreditChange change = slow.poll(); change != null; change = slow.poll()) {
+            delivered.add(change.credit().id());
+        }
+        assertThat(delivered).containsExactly(1L, 2L);
+        assertThat(slow.isDone()).isTrue();
+        assertThat(meterRegistry.get("credits.stream.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("credits.stream.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resume by event id in commit order from the shared channel, and reset after reconnecting")
+    void receive_ShouldReplayInArrivalOrder() {
+        // credit_change_seq no llega ordenado: la transacción que tomó el 12 confirmó antes que la del 11
+        stream.receive(12, CreditChange.CREATED, credit(1L, CreditStatus.APPROVED, CreditType.PERSONAL));
+        stream.receive(11, CreditChange.CREATED, credit(2L, CreditStatus.APPROVED, CreditType.PERSONAL));
+        stream.receive(13, CreditChange.DELETED, credit(1L, CreditStatus.APPROVED, CreditType.PERSONAL));
+
+        CreditChangeStream.Subscription resumed = stream.subscribe(null, null, 12L);
+        assertThat(resumed.poll().id()).isEqualTo(11L);
+        assertThat(resumed.poll().id()).isEqualTo(13L);
+        assertThat(resumed.poll()).isNull();
+
+        CreditChangeStream.Subscription foreign = stream.subscribe(null, null, 7L);
+        assertThat(foreign.poll().event()).isEqualTo(CreditChange.RESET);
+
+        stream.resync();
+        assertThat(resumed.poll().event()).isEqualTo(CreditChange.RESET);
+        CreditChangeStream.Subscription afterGap = stream.subscribe(null, null, 11L);
+        assertThat(afterGap.poll().event()).isEqualTo(CreditChange.RESET);
+    }
+
+    private static CreditResponseDTO credit(Long id, CreditStatus status, CreditType type) {
+        return new CreditResponseDTO(id, "Juan Perez", new BigDecimal("4500.00"), type, status, LocalDateTime.now(), 0L);
+    }
+}